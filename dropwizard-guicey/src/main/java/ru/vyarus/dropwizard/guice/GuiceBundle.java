@@ -971,6 +971,59 @@ public final class GuiceBundle implements ConfiguredBundle<Configuration> {
             return listen(new JerseyConfigDiagnostic());
         }
 
+        /**
+         * Enables startup profiler: hierarchical spans for bundles initialization and run, guice modules
+         * configuration, singletons construction and extensions installation. Slowest spans are shown in startup
+         * stats report (e.g. {@link #printDiagnosticInfo()}). Use {@link #exportStartupProfile(String)} to export
+         * entire profile.
+         *
+         * @return builder instance for chained calls
+         * @see GuiceyOptions#ProfileStartup
+         */
+        public Builder profileStartup() {
+            return option(ProfileStartup, true);
+        }
+
+        /**
+         * Enables startup profiler (same as {@link #profileStartup()}) and writes recorded profile after application
+         * startup into provided directory: chrome trace ({@code chrome://tracing} or https://ui.perfetto.dev) and
+         * collapsed stacks (for flame graph tools) files.
+         *
+         * @param directory directory to write profile files into
+         * @return builder instance for chained calls
+         * @see StartupProfileDiagnostic
+         */
+        public Builder exportStartupProfile(final String directory) {
+            profileStartup();
+            return listen(new StartupProfileDiagnostic(directory));
+        }
+
+        /**
+         * Registers startup metrics (startup stats, guice internal stats and configuration items counts) as
+         * gauges in application metrics registry after application startup (gauge names start with
+         * "guicey.startup."). Metrics are available in admin metrics servlet and for configured metrics reporters,
+         * so startup time could be trended across deployments. Use {@link #exportStartupMetrics(String)} to also
+         * write metrics into json file.
+         *
+         * @return builder instance for chained calls
+         * @see StartupMetricsDiagnostic
+         */
+        public Builder startupMetrics() {
+            return listen(new StartupMetricsDiagnostic(null));
+        }
+
+        /**
+         * Same as {@link #startupMetrics()}, but also writes metrics json file after application startup.
+         *
+         * @param file json file path
+         * @return builder instance for chained calls
+         * @see StartupMetricsDiagnostic
+         */
+        public Builder exportStartupMetrics(final String file) {
+            return listen(new StartupMetricsDiagnostic(
+                    Preconditions.checkNotNull(file, "Metrics file required")));
+        }
+
         /**
          * Guicey hooks ({@link GuiceyConfigurationHook}) may be loaded with system property "guicey.hooks". But
          * it may be not comfortable to always declare full class name (e.g. -Dguicey.hooks=com.foo.bar.Hook,..).
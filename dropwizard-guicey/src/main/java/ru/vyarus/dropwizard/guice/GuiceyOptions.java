@@ -74,6 +74,35 @@ public enum GuiceyOptions implements Option {
      */
     BindConfigurationByPath(Boolean.class, true),
 
+    /**
+     * Bind only configuration paths, referenced with {@code @Config("path")} in injection points (instead of
+     * all configuration paths, including all dropwizard "server.*", "logging.*", "metrics.*" paths). Injection
+     * points are searched in extensions, commands and guice modules bindings (transitively, including classes
+     * which would be created with JIT bindings). Disabled by default.
+     * <p>
+     * Requires enabled {@link #AnalyzeGuiceModules} (modules elements are required for search), otherwise all paths
+     * are bound.
+     * <p>
+     * Configuration paths, not referenced in injection points (e.g. when {@code injector.getInstance(key)} used),
+     * could be accessed with {@link ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree} (which is always
+     * bound).
+     * <p>
+     * Unique sub configuration objects and qualified configuration properties are always bound.
+     *
+     * @see ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigReferencesScanner
+     */
+    BindOnlyReferencedConfigPaths(Boolean.class, false),
+
+    /**
+     * Introspect configuration sub-trees (root configuration properties) in parallel (with
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}). Could speed up startup for large configurations.
+     * Disabled by default because configuration getters would be called from other threads (getters must not
+     * rely on thread locals or synchronization with the main thread).
+     *
+     * @see ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+     */
+    ParallelConfigIntrospection(Boolean.class, false),
+
     /**
      * Track transitive dropwizard bundles registration. Affects only dropwizard bundles registered through
      * guicey api ({@link GuiceBundle.Builder#dropwizardBundles(ConfiguredBundle[])} (direct registration) and
@@ -150,6 +179,18 @@ public enum GuiceyOptions implements Option {
      */
     GuiceFilterRegistration(EnumSet.class, EnumSet.of(DispatcherType.REQUEST)),
 
+    /**
+     * Enables startup profiler: hierarchical spans are recorded for guicey and dropwizard bundles initialization
+     * and run, guice modules configuration, injector creation (including singletons construction) and extensions
+     * installation. Spans summary (slowest spans) is shown in startup stats report.
+     * Disabled by default.
+     *
+     * @see GuiceBundle.Builder#profileStartup()
+     * @see GuiceBundle.Builder#exportStartupProfile(String)
+     * @see ru.vyarus.dropwizard.guice.module.context.stat.StartupProfiler
+     */
+    ProfileStartup(Boolean.class, false),
+
     /**
      * Enables guice bridge for HK2 to allow HK2 services to see guice beans. This is not often required and
      * so disabled by default. For example, it could be required if
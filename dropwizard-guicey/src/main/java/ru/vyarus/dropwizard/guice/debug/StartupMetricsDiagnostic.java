@@ -0,0 +1,62 @@
+package ru.vyarus.dropwizard.guice.debug;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.debug.report.stat.StartupMetrics;
+import ru.vyarus.dropwizard.guice.module.lifecycle.UniqueGuiceyLifecycleListener;
+import ru.vyarus.dropwizard.guice.module.lifecycle.event.jersey.ApplicationStartedEvent;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Exports startup metrics ({@link StartupMetrics}) after application startup: registers metrics as gauges in
+ * application metrics registry (available in admin metrics servlet and for metrics reporters) and optionally
+ * writes metrics json file.
+ * <p>
+ * Must be registered with {@link ru.vyarus.dropwizard.guice.GuiceBundle.Builder#startupMetrics()} or
+ * {@link ru.vyarus.dropwizard.guice.GuiceBundle.Builder#exportStartupMetrics(String)}.
+ * If multiple listeners registered, only first registered will be actually used.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class StartupMetricsDiagnostic extends UniqueGuiceyLifecycleListener {
+
+    private final Logger logger = LoggerFactory.getLogger(StartupMetricsDiagnostic.class);
+
+    private final String file;
+
+    /**
+     * @param file json file to write metrics into or null to register gauges only
+     */
+    public StartupMetricsDiagnostic(final String file) {
+        this.file = file;
+    }
+
+    @Override
+    protected void applicationStarted(final ApplicationStartedEvent event) {
+        final Map<String, Map<String, Long>> metrics = StartupMetrics.collect(event.getConfigurationInfo(),
+                event.getInjector());
+        StartupMetrics.registerGauges(metrics, event.getEnvironment().metrics());
+        if (file != null) {
+            final Path path = Paths.get(file);
+            try {
+                if (path.toAbsolutePath().getParent() != null) {
+                    Files.createDirectories(path.toAbsolutePath().getParent());
+                }
+                try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                    StartupMetrics.writeJson(metrics, out);
+                }
+                logger.info("Startup metrics written to {}", path.toAbsolutePath());
+            } catch (IOException ex) {
+                logger.warn("Failed to write startup metrics into " + path.toAbsolutePath(), ex);
+            }
+        }
+    }
+}
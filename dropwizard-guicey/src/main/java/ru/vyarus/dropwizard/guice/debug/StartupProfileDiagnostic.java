@@ -0,0 +1,77 @@
+package ru.vyarus.dropwizard.guice.debug;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.debug.report.stat.StartupProfileWriter;
+import ru.vyarus.dropwizard.guice.module.context.stat.ProfileSpan;
+import ru.vyarus.dropwizard.guice.module.lifecycle.UniqueGuiceyLifecycleListener;
+import ru.vyarus.dropwizard.guice.module.lifecycle.event.jersey.ApplicationStartedEvent;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Writes startup profile (recorded with {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ProfileStartup}) after
+ * application startup into configured directory:
+ * <ul>
+ * <li>{@link #TRACE_FILE} - chrome trace (open in {@code chrome://tracing} or https://ui.perfetto.dev)</li>
+ * <li>{@link #STACKS_FILE} - collapsed stacks (for flame graph tools)</li>
+ * </ul>
+ * <p>
+ * Must be registered with {@link ru.vyarus.dropwizard.guice.GuiceBundle.Builder#exportStartupProfile(String)}.
+ * If multiple listeners registered, only first registered will be actually used.
+ *
+ * @author Vyacheslav Rusakov
+ * @see StartupProfileWriter
+ * @since 19.10.2026
+ */
+public class StartupProfileDiagnostic extends UniqueGuiceyLifecycleListener {
+
+    /**
+     * Chrome trace file name.
+     */
+    public static final String TRACE_FILE = "guicey-startup-trace.json";
+    /**
+     * Collapsed stacks file name.
+     */
+    public static final String STACKS_FILE = "guicey-startup.collapsed";
+
+    private final Logger logger = LoggerFactory.getLogger(StartupProfileDiagnostic.class);
+
+    private final String directory;
+
+    /**
+     * @param directory directory to write profile files into
+     */
+    public StartupProfileDiagnostic(final String directory) {
+        this.directory = Preconditions.checkNotNull(directory, "Profile directory required");
+    }
+
+    @Override
+    protected void applicationStarted(final ApplicationStartedEvent event) {
+        final List<ProfileSpan> spans = event.getConfigurationInfo().getStats().getProfileSpans();
+        if (spans.isEmpty()) {
+            logger.warn("No startup profile recorded: check that ProfileStartup option is not disabled");
+            return;
+        }
+        final Path dir = Paths.get(directory);
+        try {
+            Files.createDirectories(dir);
+            try (Writer out = Files.newBufferedWriter(dir.resolve(TRACE_FILE), StandardCharsets.UTF_8)) {
+                StartupProfileWriter.writeChromeTrace(spans, out);
+            }
+            try (Writer out = Files.newBufferedWriter(dir.resolve(STACKS_FILE), StandardCharsets.UTF_8)) {
+                StartupProfileWriter.writeCollapsedStacks(spans, out);
+            }
+            logger.info("Startup profile ({} spans) written to {}", spans.size(), dir.toAbsolutePath());
+        } catch (IOException ex) {
+            logger.warn("Failed to write startup profile into " + dir.toAbsolutePath(), ex);
+        }
+    }
+}
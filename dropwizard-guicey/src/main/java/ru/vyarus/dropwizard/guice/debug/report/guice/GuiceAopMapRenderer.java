@@ -5,7 +5,6 @@ import com.google.inject.Module; // NOPMD
 import com.google.inject.*;
 import com.google.inject.spi.ConstructorBinding;
 import com.google.inject.spi.Element;
-import com.google.inject.spi.Elements;
 import com.google.inject.spi.InterceptorBinding;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.aopalliance.intercept.MethodInterceptor;
@@ -17,6 +16,7 @@ import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.debug.util.TreeNode;
 import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo;
 import ru.vyarus.dropwizard.guice.module.context.info.ModuleItemInfo;
+import ru.vyarus.dropwizard.guice.module.installer.internal.ModulesElementsHolder;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
 import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
@@ -36,6 +36,7 @@ public class GuiceAopMapRenderer implements ReportRenderer<GuiceAopConfig> {
 
     private final Injector injector;
     private final List<Module> modules;
+    private final ModulesElementsHolder elements;
 
     public GuiceAopMapRenderer(final Injector injector) {
         this.injector = injector;
@@ -44,6 +45,7 @@ public class GuiceAopMapRenderer implements ReportRenderer<GuiceAopConfig> {
         this.modules = info.getModuleIds().stream()
                 .map(it -> info.getData().<ModuleItemInfo>getInfo(it).getInstance())
                 .collect(Collectors.toList());
+        this.elements = info.getData().getModulesElements();
     }
 
     @Override
@@ -51,7 +53,7 @@ public class GuiceAopMapRenderer implements ReportRenderer<GuiceAopConfig> {
         final StringBuilder res = new StringBuilder();
 
         // AOP declarations
-        final List<Element> declared = Elements.getElements(Stage.TOOL, modules).stream()
+        final List<Element> declared = elements.getAllElements(modules).stream()
                 .filter(it -> it instanceof InterceptorBinding)
                 .collect(Collectors.toList());
 
@@ -5,8 +5,6 @@ import com.google.inject.Binding;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
-import com.google.inject.Stage;
-import com.google.inject.spi.Elements;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import ru.vyarus.dropwizard.guice.GuiceyOptions;
 import ru.vyarus.dropwizard.guice.debug.report.ReportRenderer;
@@ -21,6 +19,7 @@ import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo;
 import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemId;
 import ru.vyarus.dropwizard.guice.module.context.info.ModuleItemInfo;
+import ru.vyarus.dropwizard.guice.module.installer.internal.ModulesElementsHolder;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 
 import java.util.ArrayList;
@@ -72,6 +71,7 @@ public class GuiceBindingsRenderer implements ReportRenderer<GuiceConfig> {
     private final List<Class<Object>> disabled;
     private final List<Class<Module>> modulesDisabled;
     private final boolean analysisEnabled;
+    private final ModulesElementsHolder elements;
 
     public GuiceBindingsRenderer(final Injector injector) {
         this.injector = injector;
@@ -88,13 +88,14 @@ public class GuiceBindingsRenderer implements ReportRenderer<GuiceConfig> {
         // when module analysis disabled show entire context (because nothing would be removed)
         this.analysisEnabled = info.getOptions().getValue(GuiceyOptions.AnalyzeGuiceModules);
         this.modulesDisabled = analysisEnabled ? info.getModulesDisabled() : Collections.emptyList();
+        this.elements = info.getData().getModulesElements();
     }
 
     @Override
     public String renderReport(final GuiceConfig config) {
         // analyze modules
         final List<ModuleDeclaration> moduleItems = filter(
-                GuiceModelParser.parse(injector, Elements.getElements(Stage.TOOL, modules)), config);
+                GuiceModelParser.parse(injector, elements.getNormalElements(modules)), config);
         final Map<Key, BindingDeclaration> moduleBindings = GuiceModelUtils.index(moduleItems);
 
         // don't show extensions if no guice module analysis actually performed
@@ -105,7 +106,7 @@ public class GuiceBindingsRenderer implements ReportRenderer<GuiceConfig> {
         // analyze overrides
         final List<ModuleDeclaration> overrideItems = filter(overridden.isEmpty()
                 ? Collections.emptyList() : GuiceModelParser.parse(injector,
-                Elements.getElements(Stage.TOOL, overridden)), config);
+                elements.getOverridingElements(overridden)), config);
         final Map<Key, BindingDeclaration> overrideBindings = GuiceModelUtils.index(overrideItems);
 
         markOverrides(moduleBindings, overrideBindings);
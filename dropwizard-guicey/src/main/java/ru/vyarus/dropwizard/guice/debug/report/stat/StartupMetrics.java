@@ -0,0 +1,152 @@
+package ru.vyarus.dropwizard.guice.debug.report.stat;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Injector;
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo;
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsInfo;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Machine-readable startup metrics (the same values as in {@link StatsRenderer} report). Metrics are grouped:
+ * <ul>
+ * <li>{@link #TIMERS} - all timer {@link Stat} values in milliseconds (including per-phase timings:
+ * {@link Stat#ConfigurationTime}, {@link Stat#RunTime}, {@link Stat#JerseyTime})</li>
+ * <li>{@link #COUNTERS} - all counter {@link Stat} values</li>
+ * <li>{@link #GUICE} - guice internal injector creation stats in milliseconds (e.g. "ModuleExecution")</li>
+ * <li>{@link #ITEMS} - used configuration items counts (extensions, modules, installers, bundles) and
+ * injector bindings count</li>
+ * </ul>
+ * Metrics could be written as json or registered as dropwizard gauges (with {@link #PREFIX} prefix, e.g.
+ * "guicey.startup.timers.GuiceyTime"), which makes them available in admin metrics servlet and metrics
+ * reporters.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.dropwizard.guice.debug.StartupMetricsDiagnostic
+ * @since 19.10.2026
+ */
+public final class StartupMetrics {
+
+    /**
+     * Gauges prefix.
+     */
+    public static final String PREFIX = "guicey.startup";
+    /**
+     * Timer stats group (milliseconds).
+     */
+    public static final String TIMERS = "timers";
+    /**
+     * Counter stats group.
+     */
+    public static final String COUNTERS = "counters";
+    /**
+     * Guice internal stats group (milliseconds).
+     */
+    public static final String GUICE = "guice";
+    /**
+     * Configuration items counts group.
+     */
+    public static final String ITEMS = "items";
+
+    // guice stats messages format: "Module execution: 12 ms"
+    private static final Pattern GUICE_STAT = Pattern.compile("(.+): (\\d+) ms");
+
+    private StartupMetrics() {
+    }
+
+    /**
+     * Collects metrics. Must be called after application startup (otherwise not all stats would be available).
+     *
+     * @param info     configuration info
+     * @param injector injector
+     * @return metrics by group
+     */
+    public static Map<String, Map<String, Long>> collect(final GuiceyConfigurationInfo info,
+                                                         final Injector injector) {
+        final StatsInfo stats = info.getStats();
+        final Map<String, Long> timers = new LinkedHashMap<>();
+        final Map<String, Long> counters = new LinkedHashMap<>();
+        for (Stat stat : Stat.values()) {
+            if (stat.isTimer()) {
+                timers.put(stat.name(), stats.time(stat));
+            } else {
+                counters.put(stat.name(), (long) stats.count(stat));
+            }
+        }
+
+        final Map<String, Long> guice = new LinkedHashMap<>();
+        for (String message : stats.getGuiceStats()) {
+            final Matcher matcher = GUICE_STAT.matcher(message);
+            if (matcher.matches()) {
+                guice.merge(toName(matcher.group(1)), Long.parseLong(matcher.group(2)), Long::sum);
+            }
+        }
+
+        final Map<String, Long> items = new LinkedHashMap<>();
+        items.put("extensions", (long) info.getExtensions().size());
+        items.put("installers", (long) info.getInstallers().size());
+        items.put("modules", (long) info.getModules().size());
+        items.put("guiceyBundles", (long) info.getGuiceyBundles().size());
+        items.put("dropwizardBundles", (long) info.getDropwizardBundles().size());
+        items.put("configurationPaths", (long) info.getConfigurationTree().getPaths().size());
+        // all injector bindings (including guicey and just-in-time bindings)
+        items.put("bindings", (long) injector.getAllBindings().size());
+
+        final Map<String, Map<String, Long>> res = new LinkedHashMap<>();
+        res.put(TIMERS, timers);
+        res.put(COUNTERS, counters);
+        res.put(GUICE, guice);
+        res.put(ITEMS, items);
+        return res;
+    }
+
+    /**
+     * Writes metrics as json object (with group objects inside).
+     *
+     * @param metrics collected metrics
+     * @param writer  target writer (not closed)
+     * @throws IOException on write error
+     */
+    public static void writeJson(final Map<String, Map<String, Long>> metrics,
+                                 final Writer writer) throws IOException {
+        new ObjectMapper()
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(writer, metrics);
+    }
+
+    /**
+     * Registers metrics as gauges ("guicey.startup.group.name"). Already registered gauges with the same names
+     * are replaced.
+     *
+     * @param metrics  collected metrics
+     * @param registry metrics registry
+     */
+    public static void registerGauges(final Map<String, Map<String, Long>> metrics,
+                                      final MetricRegistry registry) {
+        metrics.forEach((group, values) -> values.forEach((key, value) -> {
+            final String name = MetricRegistry.name(PREFIX, group, key);
+            registry.remove(name);
+            registry.register(name, (Gauge<Long>) () -> value);
+        }));
+    }
+
+    private static String toName(final String message) {
+        final StringBuilder res = new StringBuilder();
+        for (String word : message.trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                res.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+            }
+        }
+        return res.toString();
+    }
+}
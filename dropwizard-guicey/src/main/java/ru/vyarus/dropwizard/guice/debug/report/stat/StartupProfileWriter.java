@@ -0,0 +1,92 @@
+package ru.vyarus.dropwizard.guice.debug.report.stat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ru.vyarus.dropwizard.guice.module.context.stat.ProfileSpan;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes startup profiler spans ({@link ru.vyarus.dropwizard.guice.module.context.stat.StartupProfiler}) in
+ * external formats:
+ * <ul>
+ * <li>Chrome trace (JSON array of complete events) - could be opened in {@code chrome://tracing} or
+ * https://ui.perfetto.dev</li>
+ * <li>Collapsed stacks ("parent;child self-time" lines) - could be used with flame graph tools (e.g.
+ * flamegraph.pl or speedscope)</li>
+ * </ul>
+ * Times are written in microseconds.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public final class StartupProfileWriter {
+
+    private StartupProfileWriter() {
+    }
+
+    /**
+     * Writes spans as chrome trace events. Each thread is shown as separate track.
+     *
+     * @param spans  profiler spans
+     * @param writer target writer (not closed)
+     * @throws IOException on write error
+     */
+    public static void writeChromeTrace(final List<ProfileSpan> spans, final Writer writer) throws IOException {
+        final ObjectMapper mapper = new ObjectMapper().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        final Map<String, Integer> threads = new LinkedHashMap<>();
+        try (JsonGenerator json = mapper.getFactory().createGenerator(writer)) {
+            json.writeStartArray();
+            for (ProfileSpan span : spans) {
+                final int tid = threads.computeIfAbsent(span.getThread(), key -> threads.size() + 1);
+                json.writeStartObject();
+                json.writeStringField("name", span.getName());
+                json.writeStringField("cat", span.getCategory());
+                json.writeStringField("ph", "X");
+                json.writeNumberField("ts", TimeUnit.NANOSECONDS.toMicros(span.getStart()));
+                json.writeNumberField("dur", span.getDuration(TimeUnit.MICROSECONDS));
+                json.writeNumberField("pid", 1);
+                json.writeNumberField("tid", tid);
+                json.writeEndObject();
+            }
+            // thread names metadata
+            for (Map.Entry<String, Integer> thread : threads.entrySet()) {
+                json.writeStartObject();
+                json.writeStringField("name", "thread_name");
+                json.writeStringField("ph", "M");
+                json.writeNumberField("pid", 1);
+                json.writeNumberField("tid", thread.getValue());
+                json.writeObjectFieldStart("args");
+                json.writeStringField("name", thread.getKey());
+                json.writeEndObject();
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+    }
+
+    /**
+     * Writes spans as collapsed stacks: one line per span with span path and self time (spans with equal paths
+     * are merged).
+     *
+     * @param spans  profiler spans
+     * @param writer target writer (not closed)
+     */
+    public static void writeCollapsedStacks(final List<ProfileSpan> spans, final Writer writer) {
+        final Map<String, Long> stacks = new LinkedHashMap<>();
+        for (ProfileSpan span : spans) {
+            // semicolon is stack separator and space separates value
+            stacks.merge(span.getStack().replace(' ', '_'),
+                    TimeUnit.NANOSECONDS.toMicros(span.getSelfTime()), Long::sum);
+        }
+        final PrintWriter out = new PrintWriter(writer);
+        stacks.forEach((stack, time) -> out.println(stack + " " + time));
+        out.flush();
+    }
+}
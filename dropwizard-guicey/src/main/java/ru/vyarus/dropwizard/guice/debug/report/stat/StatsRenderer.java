@@ -2,19 +2,28 @@ package ru.vyarus.dropwizard.guice.debug.report.stat;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import ru.vyarus.dropwizard.guice.debug.report.ReportRenderer;
+import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.debug.util.TreeNode;
 import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo;
 import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
 import ru.vyarus.dropwizard.guice.module.context.Filters;
 import ru.vyarus.dropwizard.guice.module.context.info.ExtensionItemInfo;
+import ru.vyarus.dropwizard.guice.module.context.stat.ProfileSpan;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupProfiler;
 import ru.vyarus.dropwizard.guice.module.installer.install.JerseyInstaller;
 
+import java.util.Comparator;
+import java.util.List;
+
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.*;
 import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.NEWLINE;
 
 /**
  * Renders startup statistics. Overall guicey time is composed from bundle time and hk time and so
  * Hk execution time is shown also below guicey.
+ * <p>
+ * When startup profiling is enabled ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#ProfileStartup}), slowest
+ * profiler spans are shown at the end.
  *
  * @author Vyacheslav Rusakov
  * @since 28.07.2016
@@ -22,6 +31,10 @@ import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.NEWLINE;
 @SuppressFBWarnings("RV_RETURN_VALUE_IGNORED_INFERRED")
 public class StatsRenderer implements ReportRenderer<Boolean> {
 
+    private static final int PROFILE_TOP = 10;
+    private static final int SLOWEST_EXTENSIONS = 5;
+    private static final double NANOS_IN_MS = 1_000_000d;
+
     private final GuiceyConfigurationInfo info;
 
     public StatsRenderer(final GuiceyConfigurationInfo info) {
@@ -40,6 +53,7 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
                 info.getStats().humanTime(RunTime),
                 info.getStats().humanTime(JerseyTime));
         renderTimes(root, hideTiny);
+        renderProfile(root);
 
         final StringBuilder res = new StringBuilder().append(NEWLINE).append(NEWLINE);
         root.render(res);
@@ -52,6 +66,7 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
         remaining -= renderClasspathScanInfo(root, hideTiny, percent);
         remaining -= renderBundlesProcessing(root, hideTiny, percent);
         remaining -= renderCommandsRegistration(root, hideTiny, percent);
+        remaining -= renderConfigurationTree(root, hideTiny, percent);
         remaining -= renderModulesProcessing(root, percent);
         remaining -= renderInstallersProcessing(root, hideTiny, percent);
         remaining -= renderInjectorCreation(root, hideTiny, percent);
@@ -62,6 +77,19 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
         }
     }
 
+    private void renderProfile(final TreeNode root) {
+        final List<ProfileSpan> spans = info.getStats().getProfileSpans();
+        if (!spans.isEmpty()) {
+            final TreeNode node = root.child("PROFILE recorded %s spans, slowest (by self time):", spans.size());
+            spans.stream()
+                    .filter(span -> !StartupProfiler.PHASE.equals(span.getCategory()))
+                    .sorted(Comparator.comparingLong(ProfileSpan::getSelfTime).reversed())
+                    .limit(PROFILE_TOP)
+                    .forEach(span -> node.child("%-10s %s in %.3f ms", span.getCategory(), span.getName(),
+                            span.getSelfTime() / NANOS_IN_MS));
+        }
+    }
+
     private long renderClasspathScanInfo(final TreeNode root, final boolean hideTiny, final double percent) {
         final long scan = info.getStats().time(ScanTime);
         if (show(hideTiny, scan)) {
@@ -117,6 +145,20 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
         return command;
     }
 
+    private long renderConfigurationTree(final TreeNode root, final boolean hideTiny, final double percent) {
+        final long tree = info.getStats().time(ConfigurationTreeTime);
+        if (show(hideTiny, tree)) {
+            final TreeNode node = root.child("[%.2g%%] CONFIGURATION introspected in %s",
+                    tree / percent, info.getStats().humanTime(ConfigurationTreeTime));
+            node.child("%s paths resolved", info.getConfigurationTree().getPaths().size());
+            final int size = info.getStats().count(ConfigurationTreeSize);
+            if (size > 0) {
+                node.child("~%.1f KB retained by tree", size / 1024d);
+            }
+        }
+        return tree;
+    }
+
     private long renderModulesProcessing(final TreeNode root, final double percent) {
         final long modules = info.getStats().time(ModulesProcessingTime);
         final TreeNode node = root.child("[%.2g%%] MODULES processed in %s",
@@ -124,6 +166,11 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
 
         node.child("%s modules autowired", info.getModules().size());
 
+        final int skippedPaths = info.getStats().count(SkippedConfigPathsCount);
+        if (skippedPaths > 0) {
+            node.child("%s not referenced configuration paths not bound", skippedPaths);
+        }
+
         // identify if analysis were performed
         final int bindings = info.getStats().count(AnalyzedBindingsCount);
         if (bindings > 0) {
@@ -174,6 +221,12 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
         final long injector = info.getStats().time(InjectorCreationTime);
         final TreeNode node = root.child("[%.2g%%] INJECTOR created in %s",
                 injector / percent, info.getStats().humanTime(InjectorCreationTime));
+        final int singletons = info.getStats().count(ParallelSingletonsCount);
+        if (singletons > 0) {
+            node.child("%s singletons created in parallel in %s (%s cumulative)", singletons,
+                    info.getStats().humanTime(ParallelSingletonsTime),
+                    info.getStats().humanTime(ParallelSingletonsCumulativeTime));
+        }
         info.getStats().getGuiceStats().forEach(it -> {
             if (!hideTiny || !it.endsWith(" 0 ms")) {
                 node.child(it);
@@ -194,10 +247,24 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
                     info.getExtensionsRegisteredManually().size(),
                     info.getExtensionsFromScan().size(),
                     info.getExtensionsFromBindings().size());
+            renderSlowestExtensions(node);
         }
         return extensions;
     }
 
+    private void renderSlowestExtensions(final TreeNode root) {
+        final List<ExtensionItemInfo> slowest = info.getSlowestExtensions(SLOWEST_EXTENSIONS);
+        if (!slowest.isEmpty()) {
+            final TreeNode node = root.child("slowest extensions:");
+            slowest.forEach(ext -> node.child("%s in %.3f ms (%.3f ms instance, %.3f ms install, %.3f ms jersey)",
+                    RenderUtils.getClassName(ext.getType()),
+                    ext.getTotalTime() / NANOS_IN_MS,
+                    ext.getInstanceTime() / NANOS_IN_MS,
+                    ext.getInstallTime() / NANOS_IN_MS,
+                    ext.getJerseyInstallTime() / NANOS_IN_MS));
+        }
+    }
+
     private long renderJerseyPart(final TreeNode root, final boolean hideTiny, final double percent) {
         final long hk = info.getStats().time(JerseyTime);
         if (show(hideTiny, hk)) {
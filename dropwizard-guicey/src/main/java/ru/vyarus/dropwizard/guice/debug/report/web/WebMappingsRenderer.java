@@ -5,10 +5,8 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.inject.Binding;
 import com.google.inject.Module;
-import com.google.inject.Stage;
 import com.google.inject.servlet.UriPatternType;
 import com.google.inject.spi.Element;
-import com.google.inject.spi.Elements;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dropwizard.jetty.MutableServletContextHandler;
 import io.dropwizard.core.setup.Environment;
@@ -25,6 +23,7 @@ import ru.vyarus.dropwizard.guice.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.debug.util.TreeNode;
 import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo;
 import ru.vyarus.dropwizard.guice.module.context.info.ModuleItemInfo;
+import ru.vyarus.dropwizard.guice.module.installer.internal.ModulesElementsHolder;
 import ru.vyarus.dropwizard.guice.module.installer.util.BindingUtils;
 import ru.vyarus.dropwizard.guice.module.jersey.GuiceWebModule;
 
@@ -50,6 +49,7 @@ public class WebMappingsRenderer implements ReportRenderer<MappingsConfig> {
 
     private final Environment environment;
     private final List<Module> modules;
+    private final ModulesElementsHolder elements;
 
     public WebMappingsRenderer(final Environment environment,
                                final GuiceyConfigurationInfo info) {
@@ -58,6 +58,7 @@ public class WebMappingsRenderer implements ReportRenderer<MappingsConfig> {
         this.modules = info.getModuleIds().stream()
                 .map(it -> info.getData().<ModuleItemInfo>getInfo(it).getInstance())
                 .collect(Collectors.toList());
+        this.elements = info.getData().getModulesElements();
     }
 
     @Override
@@ -206,7 +207,7 @@ public class WebMappingsRenderer implements ReportRenderer<MappingsConfig> {
         final List<String> servlets = new ArrayList<>();
         final List<String> filters = new ArrayList<>();
 
-        for (Element element : Elements.getElements(Stage.TOOL, modules)) {
+        for (Element element : elements.getAllElements(modules)) {
             if (!(element instanceof Binding)) {
                 continue;
             }
@@ -0,0 +1,24 @@
+package ru.vyarus.dropwizard.guice.injector;
+
+import com.google.inject.Injector;
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+
+/**
+ * Optional {@link InjectorFactory} extension: factory, implementing this interface, is notified after injector
+ * creation (before extensions installation). Could be used to record factory-specific startup stats
+ * ({@link ConfigurationContext#stat()}), register health checks or lifecycle listeners
+ * ({@link ConfigurationContext#lifecycle()}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public interface InjectorCreationAware {
+
+    /**
+     * Called by guicey just after injector creation.
+     *
+     * @param context  configuration context
+     * @param injector created injector
+     */
+    void injectorCreated(ConfigurationContext context, Injector injector);
+}
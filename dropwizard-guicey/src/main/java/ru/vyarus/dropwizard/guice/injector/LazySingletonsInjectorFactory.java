@@ -0,0 +1,207 @@
+package ru.vyarus.dropwizard.guice.injector;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Module;
+import com.google.inject.Stage;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycleAdapter;
+import ru.vyarus.dropwizard.guice.module.lifecycle.event.jersey.ApplicationStartedEvent;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Experimental injector factory for faster startup: in {@link Stage#PRODUCTION} guice creates all singletons
+ * before server start. Instead, this factory creates injector with {@link Stage#DEVELOPMENT} semantics (only
+ * critical singletons created) and creates all other singletons in background (warm-up) after application
+ * startup ({@link ru.vyarus.dropwizard.guice.module.lifecycle.event.jersey.ApplicationStartedEvent}).
+ * <p>
+ * Critical singletons, created synchronously (before server start):
+ * <ul>
+ * <li>Eager singletons ({@code asEagerSingleton()} bindings, including
+ * {@link ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton} extensions)</li>
+ * <li>Extensions instances, obtained by installers (e.g. managed objects, tasks, health checks)</li>
+ * <li>Types, declared with {@link #critical(Class[])}</li>
+ * </ul>
+ * <p>
+ * Warm-up creates singletons in parallel, respecting dependency order from the binding graph (see
+ * {@link ParallelEagerSingletonsInjectorFactory}). Warm-up progress is shown with health check
+ * {@link #HEALTH_CHECK}: check is unhealthy until warm-up completes (could be used as readiness check).
+ * Warm-up, not completed before application shutdown, is cancelled (see {@link #shutdown()}).
+ * <p>
+ * In {@link Stage#DEVELOPMENT} there is nothing to warm up (singletons are lazy anyway). Note that injector itself
+ * is always created in {@link Stage#DEVELOPMENT} (so injected {@link Stage} would be always development, warning is
+ * logged when {@link Stage#TOOL} requested with {@link ru.vyarus.dropwizard.guice.GuiceyOptions#InjectorStage}).
+ * <p>
+ * Usage: {@code GuiceBundle.builder().injectorFactory(new LazySingletonsInjectorFactory())}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class LazySingletonsInjectorFactory implements InjectorFactory, InjectorCreationAware {
+
+    /**
+     * Warm-up health check name.
+     */
+    public static final String HEALTH_CHECK = "guicey-singletons-warmup";
+
+    private final Logger logger = LoggerFactory.getLogger(LazySingletonsInjectorFactory.class);
+
+    private final int threads;
+    private final Set<Class<?>> critical = new LinkedHashSet<>();
+
+    private volatile SingletonsCreator creator;
+    private volatile ExecutorService executor;
+    private final CompletableFuture<Void> warmUp = new CompletableFuture<>();
+
+    /**
+     * Use threads count equal to available processors count.
+     */
+    public LazySingletonsInjectorFactory() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param threads threads count to use for warm-up
+     */
+    public LazySingletonsInjectorFactory(final int threads) {
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive");
+        this.threads = threads;
+    }
+
+    /**
+     * Declare critical singletons: such beans are created synchronously, just after injector creation.
+     *
+     * @param types critical singleton types
+     * @return factory instance for chained calls
+     */
+    public LazySingletonsInjectorFactory critical(final Class<?>... types) {
+        critical.addAll(Arrays.asList(types));
+        return this;
+    }
+
+    @Override
+    public Injector createInjector(final Stage stage, final Iterable<? extends Module> modules) {
+        Preconditions.checkState(creator == null, "Injector was already created with this factory");
+        if (stage == Stage.TOOL) {
+            logger.warn("Injector stage {} requested, but {} always creates injector in {} stage", stage,
+                    getClass().getSimpleName(), Stage.DEVELOPMENT);
+        }
+        final List<Element> elements = Elements.getElements(stage, modules);
+        // eager singletons created by guice
+        final Injector injector = Guice.createInjector(Stage.DEVELOPMENT, Elements.getModule(elements));
+        critical.forEach(injector::getInstance);
+        creator = new SingletonsCreator(stage == Stage.PRODUCTION
+                ? SingletonsCreator.collect(injector, elements, false, true)
+                : Collections.emptyList());
+        return injector;
+    }
+
+    /**
+     * Registers warm-up health check, starts warm-up after application startup and cancels it on shutdown.
+     *
+     * @param context  configuration context
+     * @param injector created injector
+     */
+    @Override
+    public void injectorCreated(final ConfigurationContext context, final Injector injector) {
+        context.getEnvironment().healthChecks().register(HEALTH_CHECK, new SingletonsWarmUpHealthCheck(this));
+        context.lifecycle().register(new GuiceyLifecycleAdapter() {
+            @Override
+            protected void applicationStarted(final ApplicationStartedEvent event) {
+                warmUp();
+            }
+        });
+        context.getEnvironment().lifecycle().manage(new Managed() {
+            @Override
+            public void stop() {
+                shutdown();
+            }
+        });
+    }
+
+    /**
+     * Starts singletons warm-up in background. Called by guicey after application startup.
+     *
+     * @return future, completed after warm-up
+     */
+    public CompletableFuture<Void> warmUp() {
+        Preconditions.checkState(creator != null, "Injector is not yet created");
+        if (creator.getCount() == 0) {
+            warmUp.complete(null);
+        } else if (!warmUp.isDone()) {
+            logger.debug("Warming up {} singletons ({} threads)", creator.getCount(), threads);
+            final long start = System.nanoTime();
+            executor = Executors.newFixedThreadPool(threads,
+                    new ThreadFactoryBuilder().setNameFormat("guicey-warmup-%d").setDaemon(true).build());
+            creator.start(executor).whenComplete((res, ex) -> {
+                executor.shutdown();
+                if (warmUp.isDone()) {
+                    // cancelled on shutdown
+                    return;
+                }
+                if (ex == null) {
+                    logger.info("{} singletons warmed up in {} ms (cumulative {} ms)", creator.getCount(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                            TimeUnit.NANOSECONDS.toMillis(creator.getCumulativeTime()));
+                    warmUp.complete(null);
+                } else {
+                    logger.error("Singletons warm-up failed", ex);
+                    warmUp.completeExceptionally(ex);
+                }
+            });
+        }
+        return warmUp;
+    }
+
+    /**
+     * Cancels warm-up, if it is still in progress: warm-up threads are interrupted and warm-up future fails.
+     * Called by guicey on application shutdown.
+     */
+    public void shutdown() {
+        final ExecutorService exec = executor;
+        if (warmUp.completeExceptionally(new IllegalStateException("Singletons warm-up cancelled"))) {
+            logger.warn("Singletons warm-up cancelled on shutdown: {} of {} singletons created",
+                    getWarmedUpCount(), getSingletonsCount());
+        }
+        if (exec != null) {
+            exec.shutdownNow();
+        }
+    }
+
+    /**
+     * @return future, completed after warm-up
+     */
+    public CompletableFuture<Void> getWarmUp() {
+        return warmUp;
+    }
+
+    /**
+     * @return count of singletons to warm up
+     */
+    public int getSingletonsCount() {
+        return creator == null ? 0 : creator.getCount();
+    }
+
+    /**
+     * @return count of already warmed up singletons
+     */
+    public int getWarmedUpCount() {
+        return creator == null ? 0 : creator.getCreatedCount();
+    }
+}
@@ -0,0 +1,208 @@
+package ru.vyarus.dropwizard.guice.injector;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Binder;
+import com.google.inject.Binding;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.Scopes;
+import com.google.inject.Stage;
+import com.google.inject.binder.LinkedBindingBuilder;
+import com.google.inject.binder.ScopedBindingBuilder;
+import com.google.inject.spi.ConstructorBinding;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.ProviderInstanceBinding;
+import com.google.inject.spi.ProviderKeyBinding;
+import com.google.inject.spi.UntargettedBinding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ParallelSingletonsCount;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ParallelSingletonsCumulativeTime;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ParallelSingletonsTime;
+
+/**
+ * Experimental injector factory, creating singletons in parallel. Guice creates all eager singletons (and, in
+ * {@link Stage#PRODUCTION}, all singletons) serially during injector creation. Instead, this factory creates
+ * injector without eager instantiation and then guicey creates singletons in parallel, respecting dependency
+ * order from the binding graph: singleton is created only after creation of all singletons it depends on
+ * (directly or through non singleton beans).
+ * <p>
+ * Created singletons:
+ * <ul>
+ * <li>In {@link Stage#PRODUCTION}: all singleton bindings (same as guice would create)</li>
+ * <li>In {@link Stage#DEVELOPMENT}: only eager singletons ({@code asEagerSingleton()} bindings, including
+ * {@link ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton} extensions)</li>
+ * </ul>
+ * <p>
+ * Modules are configured with the requested stage, but injector itself is created in {@link Stage#DEVELOPMENT}
+ * (so injected {@link Stage} would be always development, warning is logged when other stage requested with
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#InjectorStage}). Eager singletons bindings are re-declared as simple
+ * singletons. Bindings inside private modules are created in parallel too, except eager singletons declared in
+ * private modules (guice creates them during injector creation, as usual).
+ * <p>
+ * Provider dependencies ({@code Provider<T>}) are not counted as dependencies (provider call is assumed to be
+ * lazy). Singletons with cyclic dependencies are created after all other singletons.
+ * <p>
+ * Usage: {@code GuiceBundle.builder().injectorFactory(new ParallelEagerSingletonsInjectorFactory())}.
+ * Wall-clock and cumulative singletons creation time is shown in guicey stats report
+ * ({@link ru.vyarus.dropwizard.guice.GuiceBundle.Builder#printDiagnosticInfo()}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class ParallelEagerSingletonsInjectorFactory implements InjectorFactory, InjectorCreationAware {
+    private final Logger logger = LoggerFactory.getLogger(ParallelEagerSingletonsInjectorFactory.class);
+
+    private final int threads;
+
+    private volatile int singletonsCount;
+    private volatile long wallClockTime;
+    private volatile long cumulativeTime;
+
+    /**
+     * Use threads count equal to available processors count.
+     */
+    public ParallelEagerSingletonsInjectorFactory() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param threads threads count to use for singletons creation
+     */
+    public ParallelEagerSingletonsInjectorFactory(final int threads) {
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive");
+        this.threads = threads;
+    }
+
+    @Override
+    public Injector createInjector(final Stage stage, final Iterable<? extends Module> modules) {
+        if (stage != Stage.DEVELOPMENT) {
+            logger.warn("Injector stage {} requested, but {} always creates injector in {} stage (singletons "
+                    + "are created by factory, but injected Stage would differ)", stage,
+                    getClass().getSimpleName(), Stage.DEVELOPMENT);
+        }
+        final List<Element> elements = Elements.getElements(stage, modules);
+        final Set<Element> eager = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Key<?>> eagerKeys = new LinkedHashSet<>();
+        for (Element element : elements) {
+            if (element instanceof Binding && isRedeclarable((Binding<?>) element)
+                    && SingletonsCreator.isSingleton((Binding<?>) element, true, false)) {
+                eager.add(element);
+                eagerKeys.add(((Binding<?>) element).getKey());
+            }
+        }
+        final Injector injector = Guice.createInjector(Stage.DEVELOPMENT, (Module) binder -> {
+            for (Element element : elements) {
+                if (eager.contains(element)) {
+                    redeclareAsSingleton(binder, (Binding<?>) element);
+                } else {
+                    element.applyTo(binder);
+                }
+            }
+        });
+        createSingletons(new SingletonsCreator(stage == Stage.PRODUCTION
+                ? SingletonsCreator.collect(injector, elements, true, true)
+                : SingletonsCreator.collect(injector, eagerKeys)));
+        return injector;
+    }
+
+    @Override
+    public void injectorCreated(final ConfigurationContext context, final Injector injector) {
+        // singletons creation stats (measured inside factory)
+        context.stat().count(ParallelSingletonsCount, singletonsCount);
+        context.stat().time(ParallelSingletonsTime, wallClockTime);
+        context.stat().time(ParallelSingletonsCumulativeTime, cumulativeTime);
+    }
+
+    /**
+     * @return count of singletons created by the last created injector
+     */
+    public int getSingletonsCount() {
+        return singletonsCount;
+    }
+
+    /**
+     * @return wall-clock singletons creation time of the last created injector (nanoseconds)
+     */
+    public long getWallClockTime() {
+        return wallClockTime;
+    }
+
+    /**
+     * @return sum of all singletons creation times of the last created injector (nanoseconds)
+     */
+    public long getCumulativeTime() {
+        return cumulativeTime;
+    }
+
+    private boolean isRedeclarable(final Binding<?> binding) {
+        return binding instanceof UntargettedBinding
+                || binding instanceof LinkedKeyBinding
+                || binding instanceof ProviderKeyBinding
+                || binding instanceof ProviderInstanceBinding
+                || binding instanceof ConstructorBinding;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void redeclareAsSingleton(final Binder binder, final Binding binding) {
+        final LinkedBindingBuilder builder = binder.withSource(binding.getSource()).bind(binding.getKey());
+        final ScopedBindingBuilder scoped;
+        if (binding instanceof LinkedKeyBinding) {
+            scoped = builder.to(((LinkedKeyBinding) binding).getLinkedKey());
+        } else if (binding instanceof ProviderKeyBinding) {
+            scoped = builder.toProvider(((ProviderKeyBinding) binding).getProviderKey());
+        } else if (binding instanceof ProviderInstanceBinding) {
+            scoped = builder.toProvider(((ProviderInstanceBinding) binding).getUserSuppliedProvider());
+        } else if (binding instanceof ConstructorBinding) {
+            final ConstructorBinding ctor = (ConstructorBinding) binding;
+            scoped = builder.toConstructor((Constructor) ctor.getConstructor().getMember(),
+                    ctor.getConstructor().getDeclaringType());
+        } else {
+            scoped = builder;
+        }
+        scoped.in(Scopes.SINGLETON);
+    }
+
+    private void createSingletons(final SingletonsCreator creator) {
+        final long start = System.nanoTime();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("guicey-singletons-%d").setDaemon(true).build());
+        try {
+            creator.start(executor).get();
+        } catch (ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new IllegalStateException("Failed to create singletons", cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating singletons", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        singletonsCount = creator.getCount();
+        wallClockTime = System.nanoTime() - start;
+        cumulativeTime = creator.getCumulativeTime();
+        logger.debug("{} singletons created in parallel ({} threads) in {} ms (cumulative {} ms, {} with cycles)",
+                singletonsCount, threads, TimeUnit.NANOSECONDS.toMillis(wallClockTime),
+                TimeUnit.NANOSECONDS.toMillis(cumulativeTime), creator.getCyclicCount());
+    }
+}
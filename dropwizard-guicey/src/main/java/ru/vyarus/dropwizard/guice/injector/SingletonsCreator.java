@@ -0,0 +1,310 @@
+package ru.vyarus.dropwizard.guice.injector;
+
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.MembersInjector;
+import com.google.inject.Scope;
+import com.google.inject.Scopes;
+import com.google.inject.spi.BindingScopingVisitor;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.PrivateElements;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates singletons in parallel, respecting dependency order from the binding graph: singleton is created only
+ * after creation of all singletons it depends on (directly or through non singleton beans).
+ * <p>
+ * Provider dependencies ({@code Provider<T>}) are not counted as dependencies (provider call is assumed to be
+ * lazy). Singletons with cyclic dependencies are created after all other singletons (serially).
+ * <p>
+ * Internal api.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class SingletonsCreator {
+
+    private final int count;
+    private final List<Node> order = new ArrayList<>();
+    private final List<Node> cyclic = new ArrayList<>();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicLong cumulative = new AtomicLong();
+
+    /**
+     * @param singletons singletons to create
+     */
+    SingletonsCreator(final List<Node> singletons) {
+        this.count = singletons.size();
+        resolveOrder(singletons);
+    }
+
+    /**
+     * Collects singleton bindings of injector and all private injectors (declared with private modules).
+     *
+     * @param injector injector
+     * @param elements elements used for injector creation
+     * @param eager    true to include eager singletons
+     * @param simple   true to include not eager singletons
+     * @return singletons
+     */
+    static List<Node> collect(final Injector injector,
+                              final List<Element> elements,
+                              final boolean eager,
+                              final boolean simple) {
+        final List<Node> res = new ArrayList<>();
+        final Deque<Map.Entry<Injector, List<Element>>> queue = new ArrayDeque<>();
+        queue.add(Map.entry(injector, elements));
+        while (!queue.isEmpty()) {
+            final Map.Entry<Injector, List<Element>> current = queue.poll();
+            // injector bindings contain only bindings of this injector (without parent bindings)
+            for (Binding<?> binding : current.getKey().getBindings().values()) {
+                if (isSingleton(binding, eager, simple)) {
+                    res.add(new Node(current.getKey(), binding));
+                }
+            }
+            for (Element element : current.getValue()) {
+                if (element instanceof PrivateElements) {
+                    final PrivateElements elts = (PrivateElements) element;
+                    queue.add(Map.entry(elts.getInjector(), elts.getElements()));
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @param injector injector
+     * @param keys     singleton keys
+     * @return singletons
+     */
+    static List<Node> collect(final Injector injector, final Collection<Key<?>> keys) {
+        final List<Node> res = new ArrayList<>();
+        keys.forEach(key -> res.add(new Node(injector, injector.getBinding(key))));
+        return res;
+    }
+
+    /**
+     * @param binding binding to check
+     * @param eager   true to accept eager singletons
+     * @param simple  true to accept not eager singletons
+     * @return true if binding matches
+     */
+    static boolean isSingleton(final Binding<?> binding, final boolean eager, final boolean simple) {
+        return binding.acceptScopingVisitor(new SingletonScopingVisitor(eager, simple));
+    }
+
+    /**
+     * Starts singletons creation with provided executor. Returned future is completed (exceptionally on first
+     * singleton creation error) after all singletons creation.
+     *
+     * @param executor executor to use
+     * @return future completed after all singletons creation
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    CompletableFuture<Void> start(final Executor executor) {
+        final Map<Node, CompletableFuture<Void>> futures = new IdentityHashMap<>();
+        for (Node node : order) {
+            final CompletableFuture<?>[] deps = node.dependencies.stream()
+                    .map(futures::get).toArray(CompletableFuture[]::new);
+            futures.put(node, CompletableFuture.allOf(deps).thenRunAsync(() -> create(node), executor));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                .thenRunAsync(() -> cyclic.forEach(this::create), executor);
+    }
+
+    /**
+     * @return count of singletons to create
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * @return count of already created singletons
+     */
+    int getCreatedCount() {
+        return created.get();
+    }
+
+    /**
+     * @return count of singletons with cyclic dependencies (created serially)
+     */
+    int getCyclicCount() {
+        return cyclic.size();
+    }
+
+    /**
+     * @return sum of all singletons creation times (nanoseconds)
+     */
+    long getCumulativeTime() {
+        return cumulative.get();
+    }
+
+    private void create(final Node node) {
+        final long start = System.nanoTime();
+        node.binding.getProvider().get();
+        cumulative.addAndGet(System.nanoTime() - start);
+        created.incrementAndGet();
+    }
+
+    /**
+     * Resolves singleton dependencies and sorts singletons so dependencies always go first (Kahn's algorithm).
+     * Singletons involved in cycles (or depending on them) are put into separate list.
+     *
+     * @param nodes singletons
+     */
+    private void resolveOrder(final List<Node> nodes) {
+        final Map<Binding<?>, Node> index = new IdentityHashMap<>();
+        nodes.forEach(node -> index.put(node.binding, node));
+        final Map<Binding<?>, Set<Node>> reachable = new IdentityHashMap<>();
+        final Map<Node, List<Node>> dependants = new IdentityHashMap<>();
+        final Map<Node, Integer> remaining = new IdentityHashMap<>();
+        for (Node node : nodes) {
+            for (Binding<?> dep : node.directDependencies()) {
+                node.dependencies.addAll(findSingletons(node.injector, dep, index, reachable, new HashMap<>()));
+            }
+            node.dependencies.remove(node);
+            remaining.put(node, node.dependencies.size());
+            node.dependencies.forEach(dep -> dependants.computeIfAbsent(dep, k -> new ArrayList<>()).add(node));
+        }
+        final Deque<Node> ready = new ArrayDeque<>();
+        nodes.stream().filter(node -> remaining.get(node) == 0).forEach(ready::add);
+        while (!ready.isEmpty()) {
+            final Node node = ready.poll();
+            order.add(node);
+            for (Node dependant : dependants.getOrDefault(node, Collections.emptyList())) {
+                final int left = remaining.merge(dependant, -1, Integer::sum);
+                if (left == 0) {
+                    ready.add(dependant);
+                }
+            }
+        }
+        nodes.stream().filter(node -> remaining.get(node) > 0).forEach(cyclic::add);
+    }
+
+    /**
+     * Searches for singletons, required for binding instance creation. Search stops on the first singleton in each
+     * dependency path (its own dependencies are resolved separately).
+     *
+     * @param injector  injector
+     * @param binding   binding
+     * @param index     singletons index
+     * @param reachable cache of already resolved non singleton bindings
+     * @param visiting  bindings in current path (cycle guard)
+     * @return singletons required for binding
+     */
+    private Set<Node> findSingletons(final Injector injector,
+                                     final Binding<?> binding,
+                                     final Map<Binding<?>, Node> index,
+                                     final Map<Binding<?>, Set<Node>> reachable,
+                                     final Map<Binding<?>, Boolean> visiting) {
+        final Node singleton = index.get(binding);
+        if (singleton != null) {
+            return Collections.singleton(singleton);
+        }
+        Set<Node> res = reachable.get(binding);
+        if (res == null && visiting.put(binding, true) == null) {
+            res = new LinkedHashSet<>();
+            for (Binding<?> dep : new Node(injector, binding).directDependencies()) {
+                res.addAll(findSingletons(injector, dep, index, reachable, visiting));
+            }
+            reachable.put(binding, res);
+        }
+        return res == null ? Collections.emptySet() : res;
+    }
+
+    /**
+     * Singleton binding (together with injector, owning binding).
+     */
+    static class Node {
+        private final Injector injector;
+        private final Binding<?> binding;
+        private final Set<Node> dependencies = new LinkedHashSet<>();
+
+        Node(final Injector injector, final Binding<?> binding) {
+            this.injector = injector;
+            this.binding = binding;
+        }
+
+        /**
+         * @return binding dependencies, required for instance creation (without providers)
+         */
+        List<Binding<?>> directDependencies() {
+            final List<Binding<?>> res = new ArrayList<>();
+            if (binding instanceof HasDependencies) {
+                for (Dependency<?> dep : ((HasDependencies) binding).getDependencies()) {
+                    final Class<?> type = dep.getKey().getTypeLiteral().getRawType();
+                    if (isLazy(type)) {
+                        continue;
+                    }
+                    try {
+                        res.add(injector.getBinding(dep.getKey()));
+                    } catch (ConfigurationException ex) {
+                        // could not appear for valid injector: ignore to let guice report problem on creation
+                    }
+                }
+            }
+            return res;
+        }
+
+        private boolean isLazy(final Class<?> type) {
+            return jakarta.inject.Provider.class.isAssignableFrom(type)
+                    || MembersInjector.class.equals(type)
+                    || Injector.class.equals(type);
+        }
+    }
+
+    /**
+     * Detects singleton bindings.
+     */
+    private static class SingletonScopingVisitor implements BindingScopingVisitor<Boolean> {
+        private final boolean eager;
+        private final boolean simple;
+
+        SingletonScopingVisitor(final boolean eager, final boolean simple) {
+            this.eager = eager;
+            this.simple = simple;
+        }
+
+        @Override
+        public Boolean visitEagerSingleton() {
+            return eager;
+        }
+
+        @Override
+        public Boolean visitScope(final Scope scope) {
+            return simple && scope == Scopes.SINGLETON;
+        }
+
+        @Override
+        public Boolean visitScopeAnnotation(final Class<? extends Annotation> scopeAnnotation) {
+            return simple && (scopeAnnotation == jakarta.inject.Singleton.class
+                    || scopeAnnotation == com.google.inject.Singleton.class);
+        }
+
+        @Override
+        public Boolean visitNoScoping() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ru.vyarus.dropwizard.guice.injector;
+
+import com.codahale.metrics.health.HealthCheck;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Singletons warm-up readiness check (for {@link LazySingletonsInjectorFactory}): unhealthy until warm-up
+ * completes. Registered automatically with {@link LazySingletonsInjectorFactory#HEALTH_CHECK} name.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class SingletonsWarmUpHealthCheck extends HealthCheck {
+
+    private final LazySingletonsInjectorFactory factory;
+
+    public SingletonsWarmUpHealthCheck(final LazySingletonsInjectorFactory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    protected Result check() throws Exception {
+        final CompletableFuture<Void> warmUp = factory.getWarmUp();
+        if (!warmUp.isDone()) {
+            return Result.unhealthy("Singletons warm-up in progress: %s of %s created",
+                    factory.getWarmedUpCount(), factory.getSingletonsCount());
+        }
+        try {
+            warmUp.get();
+        } catch (ExecutionException ex) {
+            return Result.unhealthy(ex.getCause());
+        }
+        return Result.healthy("%s singletons warmed up", factory.getSingletonsCount());
+    }
+}
@@ -5,6 +5,7 @@ import io.dropwizard.core.Application;
 import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.module.context.SharedConfigurationState;
 
+import jakarta.inject.Provider;
 import java.util.Optional;
 
 /**
@@ -36,7 +37,8 @@ public final class InjectorLookup {
     }
 
     /**
-     * Shortcut to directly obtain bean instance.
+     * Shortcut to directly obtain bean instance. Guice provider is cached for each type, so method could be used
+     * on hot paths (e.g. in objects not managed by guice, obtaining guice beans on each call).
      *
      * @param application application instance
      * @param bean        bean type
@@ -44,11 +46,11 @@ public final class InjectorLookup {
      * @return bean instance, obtained from guice injector
      */
     public static <T> Optional<T> getInstance(final Application application, final Class<T> bean) {
-        return getInjector(application).map(it -> it.getInstance(bean));
+        return getProvider(application, bean).map(Provider::get);
     }
 
     /**
-     * Shortcut to directly obtain bean instance.
+     * Shortcut to directly obtain bean instance. Guice provider is cached for each type.
      *
      * @param environment environment instance
      * @param bean        bean type
@@ -56,7 +58,33 @@ public final class InjectorLookup {
      * @return bean instance, obtained from guice injector
      */
     public static <T> Optional<T> getInstance(final Environment environment, final Class<T> bean) {
-        return getInjector(environment).map(it -> it.getInstance(bean));
+        return getProvider(environment, bean).map(Provider::get);
+    }
+
+    /**
+     * Provider could be obtained once and used for all later bean resolutions (without any lookups).
+     * Provider instance is cached.
+     *
+     * @param application application instance
+     * @param bean        bean type
+     * @param <T>         bean type
+     * @return bean provider, obtained from guice injector
+     */
+    public static <T> Optional<Provider<T>> getProvider(final Application application, final Class<T> bean) {
+        return SharedConfigurationState.get(application).flatMap(state -> state.getProvider(bean));
+    }
+
+    /**
+     * Provider could be obtained once and used for all later bean resolutions (without any lookups).
+     * Provider instance is cached.
+     *
+     * @param environment environment instance
+     * @param bean        bean type
+     * @param <T>         bean type
+     * @return bean provider, obtained from guice injector
+     */
+    public static <T> Optional<Provider<T>> getProvider(final Environment environment, final Class<T> bean) {
+        return SharedConfigurationState.get(environment).flatMap(state -> state.getProvider(bean));
     }
 
     /**
@@ -1,21 +1,30 @@
 package ru.vyarus.dropwizard.guice.module;
 
 import com.google.inject.Scopes;
+import com.google.inject.Stage;
+import com.google.inject.spi.Element;
 import io.dropwizard.core.Configuration;
 import io.dropwizard.core.setup.Bootstrap;
 import io.dropwizard.core.setup.Environment;
+import ru.vyarus.dropwizard.guice.GuiceyOptions;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationInfo;
 import ru.vyarus.dropwizard.guice.module.context.option.Options;
 import ru.vyarus.dropwizard.guice.module.context.option.OptionsInfo;
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsInfo;
 import ru.vyarus.dropwizard.guice.module.installer.InstallerModule;
 import ru.vyarus.dropwizard.guice.module.jersey.Jersey2Module;
 import ru.vyarus.dropwizard.guice.module.support.DropwizardAwareModule;
 import ru.vyarus.dropwizard.guice.module.support.scope.Prototype;
 import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigBindingModule;
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigReferencesScanner;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ReloadableConfiguration;
 
 import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Bootstrap integration guice module.
@@ -70,6 +79,28 @@ public class GuiceBootstrapModule<T extends Configuration> extends DropwizardAwa
     private void bindEnvironment() {
         bind(Bootstrap.class).toInstance(bootstrap());
         bind(Environment.class).toInstance(environment());
-        install(new ConfigBindingModule(configuration(), configurationTree()));
+        final ConfigBindingModule configModule = new ConfigBindingModule(configuration(), configurationTree(),
+                findReferencedConfigPaths(), context.getSharedState().get(ReloadableConfiguration.class));
+        install(configModule);
+        if (currentStage() != Stage.TOOL) {
+            context.stat().count(Stat.SkippedConfigPathsCount, configModule.getSkippedPaths());
+        }
+    }
+
+    /**
+     * Search for configuration paths, referenced in injection points (only when
+     * {@link GuiceyOptions#BindOnlyReferencedConfigPaths} enabled).
+     *
+     * @return referenced paths or null to bind all paths
+     */
+    private Set<String> findReferencedConfigPaths() {
+        final boolean enabled = context.option(GuiceyOptions.BindOnlyReferencedConfigPaths);
+        final List<Element> elements = context.getModulesElements().getUserElements();
+        if (!enabled || elements == null) {
+            return null;
+        }
+        final List<Class<?>> types = new ArrayList<>(context.getEnabledExtensions());
+        bootstrap().getCommands().forEach(command -> types.add(command.getClass()));
+        return ConfigReferencesScanner.findReferencedPaths(types, elements);
     }
 }
@@ -12,6 +12,7 @@ import ru.vyarus.dropwizard.guice.module.context.info.ExtensionItemInfo;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemId;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemInfo;
 import ru.vyarus.dropwizard.guice.module.context.info.ModuleItemInfo;
+import ru.vyarus.dropwizard.guice.module.context.info.impl.ExtensionItemInfoImpl;
 import ru.vyarus.dropwizard.guice.module.context.info.sign.DisableSupport;
 import ru.vyarus.dropwizard.guice.module.context.option.OptionsInfo;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsInfo;
@@ -22,8 +23,10 @@ import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
 
 import jakarta.inject.Inject;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static ru.vyarus.dropwizard.guice.module.context.info.ItemId.typesOnly;
 
@@ -453,6 +456,23 @@ public class GuiceyConfigurationInfo {
                         .and(Filters.fromBinding().negate())));
     }
 
+    /**
+     * Extensions sorted by overall instance resolution and installation time (slowest first). Useful for
+     * spotting extensions with slow construction (e.g. managed objects or health checks doing work in constructor).
+     * Note that jersey extensions installation time is known only after jersey context startup.
+     *
+     * @param limit maximum amount of extensions to return
+     * @return slowest extensions or empty list
+     * @see ExtensionItemInfo#getTotalTime()
+     */
+    public List<ExtensionItemInfo> getSlowestExtensions(final int limit) {
+        final List<ExtensionItemInfoImpl> extensions = holder.getExtensionsData();
+        return extensions == null ? Collections.emptyList() : extensions.stream()
+                .sorted(Comparator.comparingLong(ExtensionItemInfo::getTotalTime).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returned installers are ordered by execution order according to
      * {@link ru.vyarus.dropwizard.guice.module.installer.order.Order} annotation.
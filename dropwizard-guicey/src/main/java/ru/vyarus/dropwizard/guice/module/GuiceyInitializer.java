@@ -12,6 +12,8 @@ import ru.vyarus.dropwizard.guice.bundle.GuiceyBundleLookup;
 import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.option.Options;
+import ru.vyarus.dropwizard.guice.module.context.stat.ProfileSpan;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupProfiler;
 import ru.vyarus.dropwizard.guice.module.installer.CoreInstallersBundle;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.internal.CommandSupport;
@@ -31,6 +33,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.ProfileStartup;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.ScanPackages;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.SearchCommands;
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.UseCoreInstallers;
@@ -69,14 +72,19 @@ public class GuiceyInitializer {
 
     private final Stopwatch guiceyTimer;
     private final Stopwatch confTimer;
+    private final ProfileSpan confSpan;
 
     private final Bootstrap bootstrap;
     private final ConfigurationContext context;
     private final ClasspathScanner scanner;
 
     public GuiceyInitializer(final Bootstrap bootstrap, final ConfigurationContext context) {
+        if (context.option(ProfileStartup)) {
+            context.stat().profiler().enable();
+        }
         guiceyTimer = context.stat().timer(GuiceyTime);
         confTimer = context.stat().timer(ConfigurationTime);
+        confSpan = context.stat().profiler().start(StartupProfiler.PHASE, "configuration");
 
         // this will also trigger registered dropwizard bundles initialization
         // (so dropwizard bundles init before guicey bundles)
@@ -185,6 +193,7 @@ public class GuiceyInitializer {
         }
         context.lifecycle().initialized();
 
+        confSpan.stop();
         confTimer.stop();
         guiceyTimer.stop();
     }
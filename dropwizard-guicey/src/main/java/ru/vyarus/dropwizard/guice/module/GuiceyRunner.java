@@ -1,20 +1,33 @@
 package ru.vyarus.dropwizard.guice.module;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Iterables;
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
 import com.google.inject.Injector;
+import com.google.inject.Key;
 import com.google.inject.Module;
+import com.google.inject.Scopes;
+import com.google.inject.matcher.Matcher;
+import com.google.inject.spi.ProvisionListener;
 import io.dropwizard.core.Configuration;
 import io.dropwizard.core.setup.Environment;
+import ru.vyarus.dropwizard.guice.injector.InjectorCreationAware;
 import ru.vyarus.dropwizard.guice.injector.InjectorFactory;
 import ru.vyarus.dropwizard.guice.injector.lookup.InjectorLookup;
 import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+import ru.vyarus.dropwizard.guice.module.context.stat.ProfileSpan;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupProfiler;
 import ru.vyarus.dropwizard.guice.module.installer.internal.CommandSupport;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsSupport;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ModulesSupport;
 import ru.vyarus.dropwizard.guice.module.installer.util.BundleSupport;
+import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycleAdapter;
+import ru.vyarus.dropwizard.guice.module.lifecycle.event.jersey.ApplicationStartedEvent;
 
 import java.util.ArrayList;
+import java.util.Collections;
 
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.InjectorStage;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.*;
@@ -29,6 +42,7 @@ public class GuiceyRunner {
 
     private final Stopwatch guiceyTime;
     private final Stopwatch runTime;
+    private final ProfileSpan runSpan;
 
     private final ConfigurationContext context;
 
@@ -39,9 +53,13 @@ public class GuiceyRunner {
                         final Environment environment) {
         guiceyTime = context.stat().timer(GuiceyTime);
         runTime = context.stat().timer(RunTime);
+        runSpan = context.stat().profiler().start(StartupProfiler.PHASE, "run");
 
         context.runPhaseStarted(configuration, environment);
         this.context = context;
+        if (context.stat().profiler().isEnabled()) {
+            stopProfilingAfterStartup();
+        }
     }
 
     /**
@@ -99,6 +117,7 @@ public class GuiceyRunner {
      */
     public void createInjector(final InjectorFactory injectorFactory, final Iterable<Module> modules) {
         final Stopwatch timer = context.stat().timer(InjectorCreationTime);
+        final ProfileSpan span = context.stat().profiler().start(StartupProfiler.PHASE, "injector creation");
         context.lifecycle().injectorCreation(
                 new ArrayList<>(context.getNormalModules()),
                 new ArrayList<>(context.getOverridingModules()),
@@ -107,12 +126,45 @@ public class GuiceyRunner {
         // intercept detailed guice initialization stats from guice logs
         context.stat().getGuiceStats().injectLogsInterceptor();
         injector = injectorFactory.createInjector(
-                context.option(InjectorStage), modules);
+                context.option(InjectorStage), context.stat().profiler().isEnabled()
+                        ? Iterables.concat(modules, Collections.singletonList(
+                        new SingletonsProfilingModule(context.stat().profiler())))
+                        : modules);
         context.stat().getGuiceStats().resetStatsLogger();
+        if (injectorFactory instanceof InjectorCreationAware) {
+            ((InjectorCreationAware) injectorFactory).injectorCreated(context, injector);
+        }
         InjectorLookup.registerInjector(context.getBootstrap().getApplication(), injector);
+        releaseElementsAfterStartup();
+        span.stop();
         timer.stop();
     }
 
+    /**
+     * Captured modules elements are required only for startup reports (rendered on application startup). Listener
+     * is registered after injector creation, so it is called after all reports.
+     */
+    private void releaseElementsAfterStartup() {
+        context.lifecycle().register(new GuiceyLifecycleAdapter() {
+            @Override
+            protected void applicationStarted(final ApplicationStartedEvent event) {
+                context.getModulesElements().release();
+            }
+        });
+    }
+
+    /**
+     * Profiler must not record spans after application startup (e.g. request scoped objects creation).
+     */
+    private void stopProfilingAfterStartup() {
+        context.lifecycle().register(new GuiceyLifecycleAdapter() {
+            @Override
+            protected void applicationStarted(final ApplicationStartedEvent event) {
+                context.stat().profiler().disable();
+            }
+        });
+    }
+
     /**
      * Execute extensions installation (by type and instance).
      */
@@ -139,7 +191,39 @@ public class GuiceyRunner {
     public void runFinished() {
         context.bundleStarted();
 
+        runSpan.stop();
         runTime.stop();
         guiceyTime.stop();
     }
+
+    /**
+     * Records singletons construction spans (profiling enabled only during startup).
+     */
+    private static class SingletonsProfilingModule extends AbstractModule {
+        private final StartupProfiler profiler;
+
+        SingletonsProfilingModule(final StartupProfiler profiler) {
+            this.profiler = profiler;
+        }
+
+        @Override
+        protected void configure() {
+            final Matcher<Binding<?>> singletons = Scopes::isSingleton;
+            bindListener(singletons, new ProvisionListener() {
+                @Override
+                public <T> void onProvision(final ProvisionInvocation<T> provision) {
+                    final Key<T> key = provision.getBinding().getKey();
+                    final ProfileSpan span = profiler.start(StartupProfiler.SINGLETON,
+                            StartupProfiler.name(key.getTypeLiteral().getRawType())
+                                    + (key.getAnnotationType() == null ? ""
+                                    : " @" + key.getAnnotationType().getSimpleName()));
+                    try {
+                        provision.provision();
+                    } finally {
+                        span.stop();
+                    }
+                }
+            });
+        }
+    }
 }
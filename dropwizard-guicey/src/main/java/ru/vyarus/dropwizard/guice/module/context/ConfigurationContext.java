@@ -34,9 +34,11 @@ import ru.vyarus.dropwizard.guice.module.context.unique.DuplicateConfigDetector;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsHolder;
+import ru.vyarus.dropwizard.guice.module.installer.internal.ModulesElementsHolder;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner;
 import ru.vyarus.dropwizard.guice.module.lifecycle.internal.LifecycleSupport;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeSizeEstimator;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
 
 import java.util.*;
@@ -44,7 +46,10 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static ru.vyarus.dropwizard.guice.GuiceyOptions.BindConfigurationByPath;
+import static ru.vyarus.dropwizard.guice.GuiceyOptions.ParallelConfigIntrospection;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.BundleTime;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ConfigurationTreeSize;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ConfigurationTreeTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.DropwizardBundleInitTime;
 
 /**
@@ -77,6 +82,7 @@ public final class ConfigurationContext {
     private ConfigurationTree configurationTree;
     private Environment environment;
     private ExtensionsHolder extensionsHolder;
+    private final ModulesElementsHolder modulesElements = new ModulesElementsHolder();
 
 
     /**
@@ -487,6 +493,15 @@ public final class ConfigurationContext {
         lifecycle().installersResolved(new ArrayList<>(installers), getDisabledInstallers());
     }
 
+    /**
+     * Guice modules elements are captured once during startup and used by guice reports.
+     *
+     * @return modules elements holder
+     */
+    public ModulesElementsHolder getModulesElements() {
+        return modulesElements;
+    }
+
     // --------------------------------------------------------------------------- EXTENSIONS
 
 
@@ -700,8 +715,12 @@ public final class ConfigurationContext {
      */
     public void runPhaseStarted(final Configuration configuration, final Environment environment) {
         this.configuration = configuration;
-        this.configurationTree = ConfigTreeBuilder
-                .build(bootstrap, configuration, option(BindConfigurationByPath));
+        final Stopwatch timer = stat().timer(ConfigurationTreeTime);
+        this.configurationTree = ConfigTreeBuilder.build(bootstrap, configuration,
+                option(BindConfigurationByPath), option(ParallelConfigIntrospection));
+        timer.stop();
+        stat().count(ConfigurationTreeSize, (int) Math.min(Integer.MAX_VALUE,
+                ConfigTreeSizeEstimator.estimate(configurationTree)));
         this.environment = environment;
         // register in shared state just in case
         this.sharedState.put(Configuration.class, configuration);
@@ -7,6 +7,7 @@ import com.google.common.collect.Multimap;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemId;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemInfo;
 import ru.vyarus.dropwizard.guice.module.context.info.impl.ItemInfoImpl;
+import ru.vyarus.dropwizard.guice.module.installer.internal.ModulesElementsHolder;
 
 import java.util.*;
 import java.util.function.Predicate;
@@ -42,8 +43,10 @@ public final class ConfigurationInfo {
     private final Map<ItemId, ItemInfo> classTypes = Maps.newHashMap();
     // preserve all instance types together
     private final Multimap<Class<?>, ItemInfo> instanceTypes = LinkedHashMultimap.create();
+    private final ModulesElementsHolder modulesElements;
 
     public ConfigurationInfo(final ConfigurationContext context) {
+        this.modulesElements = context.getModulesElements();
         // convert all objects into types (more suitable for analysis)
         for (ConfigItem type : ConfigItem.values()) {
             for (Object item : context.getItems(type)) {
@@ -183,6 +186,16 @@ public final class ConfigurationInfo {
         return res == null ? Collections.emptyList() : Collections.singletonList(res);
     }
 
+    /**
+     * Guice modules elements, captured during startup (to avoid repeated modules configuration in guice reports).
+     * Internal api.
+     *
+     * @return modules elements holder
+     */
+    public ModulesElementsHolder getModulesElements() {
+        return modulesElements;
+    }
+
     private <T, K extends ItemInfo> List<ItemId<T>> filter(final List<ItemId<T>> items, final Predicate<K> filter) {
         return items.stream().filter(it -> filter.test(getInfo(it))).collect(Collectors.toList());
     }
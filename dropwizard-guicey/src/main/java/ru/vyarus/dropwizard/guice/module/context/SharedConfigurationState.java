@@ -13,11 +13,11 @@ import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
 
 import jakarta.inject.Provider;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -52,6 +52,10 @@ import java.util.function.Supplier;
  * {@link io.dropwizard.core.Configuration}, {@link Environment},
  * {@link ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree}, {@link com.google.inject.Injector}
  * (see shortcut instance methods).
+ * <p>
+ * State is safe for concurrent reads after startup (e.g. static injector lookups from request threads).
+ * Injector reference and guice providers, obtained with {@link #getProvider(Class)}, are cached to avoid
+ * repeated lookups on hot paths (see {@link ru.vyarus.dropwizard.guice.injector.lookup.InjectorLookup}).
  *
  * @author Vyacheslav Rusakov
  * @since 26.09.2019
@@ -64,6 +68,8 @@ public class SharedConfigurationState {
     public static final String CONTEXT_APPLICATION_PROPERTY = "guicey.context.application";
 
     private static final Map<Application, SharedConfigurationState> STATE = Maps.newConcurrentMap();
+    // direct environment mapping to avoid application context attributes lookup
+    private static final Map<Environment, SharedConfigurationState> ENVIRONMENTS = Maps.newConcurrentMap();
 
     /**
      * During application startup all initialization performed in the single thread and so it is possible
@@ -72,7 +78,10 @@ public class SharedConfigurationState {
      */
     private static final ThreadLocal<SharedConfigurationState> STARTUP_INSTANCE = new ThreadLocal<>();
 
-    private final Map<String, Object> state = new HashMap<>();
+    // concurrent map used for safe publication: values are set during startup, but could be read from any thread
+    private final Map<String, Object> state = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Provider<?>> providers = new ConcurrentHashMap<>();
+    private volatile Injector injector;
     private Application application;
 
     public SharedConfigurationState() {
@@ -193,12 +202,28 @@ public class SharedConfigurationState {
      * @see ru.vyarus.dropwizard.guice.injector.lookup.InjectorLookup for simpler lookup method
      */
     public Provider<Injector> getInjector() {
-        return () -> Preconditions.checkNotNull(get(ConfigurationTree.class),
-                "Injector is not yet available");
+        return () -> Preconditions.checkNotNull(injector, "Injector is not yet available");
     }
 
     // ---- end of common object providers
 
+    /**
+     * Cached guice provider for the type. Useful for code, which can't use injection and have to
+     * obtain beans statically (on each call). Guice provider lookup is performed only once (just-in-time bindings
+     * resolution in guice is synchronized).
+     *
+     * @param type bean type
+     * @param <T>  bean type
+     * @return optional with guice provider or empty optional if injector is not yet available
+     * @throws com.google.inject.ConfigurationException if guice can't provide bean of requested type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<Provider<T>> getProvider(final Class<T> type) {
+        final Injector current = injector;
+        return current == null ? Optional.empty()
+                : Optional.of((Provider<T>) providers.computeIfAbsent(type, current::getProvider));
+    }
+
     /**
      * Assumed to be used to store some configuration during startup. For example, if multiple bundle instances
      * should know of each other - they could use shared state to communicate.
@@ -217,8 +242,11 @@ public class SharedConfigurationState {
         // just to avoid dummy mistakes
         Preconditions.checkArgument(value != null, "Shared state does not accept null values");
         final String name = key.getName();
-        Preconditions.checkState(!state.containsKey(name), "Shared state for key %s already defined", name);
-        state.put(name, value);
+        Preconditions.checkState(state.putIfAbsent(name, value) == null,
+                "Shared state for key %s already defined", name);
+        if (value instanceof Injector && Injector.class.getName().equals(name)) {
+            injector = (Injector) value;
+        }
     }
 
     /**
@@ -256,7 +284,8 @@ public class SharedConfigurationState {
     protected void listen(final Environment environment) {
         // storing application reference in context attributes (to be able to reference shared state by environment)
         environment.getApplicationContext().setAttribute(CONTEXT_APPLICATION_PROPERTY, application);
-        environment.lifecycle().manage(new RegistryShutdown(application));
+        ENVIRONMENTS.put(environment, this);
+        environment.lifecycle().manage(new RegistryShutdown(application, environment));
     }
 
     /**
@@ -369,6 +398,10 @@ public class SharedConfigurationState {
      * @return optional of application registry (may be empty if called too early or too late)
      */
     public static Optional<SharedConfigurationState> get(final Environment environment) {
+        final SharedConfigurationState res = ENVIRONMENTS.get(environment);
+        if (res != null) {
+            return Optional.of(res);
+        }
         final Application application = (Application) environment.getApplicationContext()
                 .getAttribute(CONTEXT_APPLICATION_PROPERTY);
         return application == null ? Optional.empty() : get(application);
@@ -419,6 +452,7 @@ public class SharedConfigurationState {
     @VisibleForTesting
     public static void clear() {
         STATE.clear();
+        ENVIRONMENTS.clear();
     }
 
     /**
@@ -438,9 +472,11 @@ public class SharedConfigurationState {
      */
     private static class RegistryShutdown implements Managed {
         private final Application application;
+        private final Environment environment;
 
-        protected RegistryShutdown(final Application application) {
+        protected RegistryShutdown(final Application application, final Environment environment) {
             this.application = application;
+            this.environment = environment;
         }
 
         @Override
@@ -451,6 +487,7 @@ public class SharedConfigurationState {
         @Override
         public void stop() throws Exception {
             STATE.remove(application);
+            ENVIRONMENTS.remove(environment);
         }
     }
 }
@@ -6,6 +6,8 @@ import io.dropwizard.core.setup.Bootstrap;
 import io.dropwizard.core.setup.Environment;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemId;
+import ru.vyarus.dropwizard.guice.module.context.stat.ProfileSpan;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupProfiler;
 
 /**
  * Bundle decorator. Used to track transitive dropwizard bundles registration.
@@ -29,14 +31,26 @@ public class DropwizardBundleTracker<T extends Configuration> implements Configu
 
     @Override
     public void initialize(final Bootstrap bootstrap) {
-        final ItemId currentScope = context.replaceContextScope(ItemId.from(bundle));
-        // initialize with proxy bootstrap object to intercept transitive bundles registration
-        bundle.initialize(context.getBootstrapProxy());
-        context.replaceContextScope(currentScope);
+        final ProfileSpan span = context.stat().profiler()
+                .start(StartupProfiler.DROPWIZARD_BUNDLE, bundle.getClass(), "initialize");
+        try {
+            final ItemId currentScope = context.replaceContextScope(ItemId.from(bundle));
+            // initialize with proxy bootstrap object to intercept transitive bundles registration
+            bundle.initialize(context.getBootstrapProxy());
+            context.replaceContextScope(currentScope);
+        } finally {
+            span.stop();
+        }
     }
 
     @Override
     public void run(final T configuration, final Environment environment) throws Exception {
-        bundle.run(configuration, environment);
+        final ProfileSpan span = context.stat().profiler()
+                .start(StartupProfiler.DROPWIZARD_BUNDLE, bundle.getClass(), "run");
+        try {
+            bundle.run(configuration, environment);
+        } finally {
+            span.stop();
+        }
     }
 }
@@ -54,4 +54,38 @@ public interface ExtensionItemInfo extends ClassItemInfo, ScanSupport, DisableSu
      * @return true if extension is optional
      */
     boolean isOptional();
+
+    /**
+     * Extension instance resolution time ({@code injector.getInstance()}) for extensions installed by
+     * {@link ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller}. Includes extension
+     * construction (and all its dependencies construction, if they were not created before).
+     *
+     * @return instance resolution time in nanoseconds or 0 if instance was not resolved by guicey
+     */
+    long getInstanceTime();
+
+    /**
+     * Extension installation time by {@link ru.vyarus.dropwizard.guice.module.installer.install.TypeInstaller}
+     * or {@link ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller} (without instance
+     * resolution time).
+     *
+     * @return installation time in nanoseconds or 0 if extension was not installed with these installers
+     */
+    long getInstallTime();
+
+    /**
+     * Extension installation time by {@link ru.vyarus.dropwizard.guice.module.installer.install.JerseyInstaller}
+     * (performed after jersey context startup). Value is 0 before
+     * {@link ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycle#JerseyExtensionsInstalled} event.
+     *
+     * @return jersey installation time in nanoseconds or 0 if extension is not jersey extension
+     */
+    long getJerseyInstallTime();
+
+    /**
+     * @return overall extension instance resolution and installation time in nanoseconds
+     */
+    default long getTotalTime() {
+        return getInstanceTime() + getInstallTime() + getJerseyInstallTime();
+    }
 }
@@ -26,6 +26,9 @@ public class ExtensionItemInfoImpl extends ClassItemInfoImpl implements Extensio
     // little hack used to preserve installer reference during initialization
     private FeatureInstaller installer;
     private boolean optional;
+    private long instanceTime;
+    private long installTime;
+    private long jerseyInstallTime;
 
     public ExtensionItemInfoImpl(final Class<?> type) {
         super(ConfigItem.Extension, type);
@@ -71,6 +74,21 @@ public class ExtensionItemInfoImpl extends ClassItemInfoImpl implements Extensio
         return optional;
     }
 
+    @Override
+    public long getInstanceTime() {
+        return instanceTime;
+    }
+
+    @Override
+    public long getInstallTime() {
+        return installTime;
+    }
+
+    @Override
+    public long getJerseyInstallTime() {
+        return jerseyInstallTime;
+    }
+
     public void setLazy(final boolean lazy) {
         this.lazy = lazy;
     }
@@ -99,4 +117,16 @@ public class ExtensionItemInfoImpl extends ClassItemInfoImpl implements Extensio
     public void setOptional(final boolean optional) {
         this.optional = optional;
     }
+
+    public void setInstanceTime(final long instanceTime) {
+        this.instanceTime = instanceTime;
+    }
+
+    public void setInstallTime(final long installTime) {
+        this.installTime = installTime;
+    }
+
+    public void setJerseyInstallTime(final long jerseyInstallTime) {
+        this.jerseyInstallTime = jerseyInstallTime;
+    }
 }
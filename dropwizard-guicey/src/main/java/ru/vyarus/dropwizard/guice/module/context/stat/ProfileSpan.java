@@ -0,0 +1,128 @@
+package ru.vyarus.dropwizard.guice.module.context.stat;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup profiler span: measured startup step (e.g. bundle initialization or module configuration). Spans are
+ * hierarchical: span started (in the same thread) while other span is active becomes its child.
+ * <p>
+ * Span must be stopped with {@link #stop()} (in finally block).
+ *
+ * @author Vyacheslav Rusakov
+ * @see StartupProfiler
+ * @since 19.10.2026
+ */
+public final class ProfileSpan {
+
+    private final StartupProfiler profiler;
+    private final String category;
+    private final String name;
+    private final String thread;
+    private final ProfileSpan parent;
+    private final long start;
+    private volatile long duration = -1;
+    private long childrenTime;
+
+    ProfileSpan(final StartupProfiler profiler,
+                final String category,
+                final String name,
+                final String thread,
+                final ProfileSpan parent,
+                final long start) {
+        this.profiler = profiler;
+        this.category = category;
+        this.name = name;
+        this.thread = thread;
+        this.parent = parent;
+        this.start = start;
+    }
+
+    /**
+     * @return span category (one of {@link StartupProfiler} constants or custom)
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * @return span name (e.g. "SomeBundle.initialize")
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return name of thread where span was executed
+     */
+    public String getThread() {
+        return thread;
+    }
+
+    /**
+     * @return parent span or null for root span
+     */
+    public ProfileSpan getParent() {
+        return parent;
+    }
+
+    /**
+     * @return span start time in nanoseconds (relative to profiler start)
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * @return span duration in nanoseconds or -1 if span is not stopped
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return span duration without children spans time in nanoseconds
+     */
+    public long getSelfTime() {
+        return Math.max(0, duration - childrenTime);
+    }
+
+    /**
+     * @return true if span stopped
+     */
+    public boolean isStopped() {
+        return duration >= 0;
+    }
+
+    /**
+     * @return span path (all parent names and span name, separated with ";")
+     */
+    public String getStack() {
+        return parent == null ? name : parent.getStack() + ";" + name;
+    }
+
+    /**
+     * @param unit time unit
+     * @return span duration in required units
+     */
+    public long getDuration(final TimeUnit unit) {
+        return unit.convert(duration, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop span. Does nothing for already stopped span and when profiling is disabled.
+     */
+    public void stop() {
+        if (profiler != null && !isStopped()) {
+            duration = profiler.now() - start;
+            if (parent != null) {
+                parent.childrenTime += duration;
+            }
+            profiler.stopped(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return category + " " + name;
+    }
+}
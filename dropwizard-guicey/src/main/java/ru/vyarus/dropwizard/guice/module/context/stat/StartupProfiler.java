@@ -0,0 +1,159 @@
+package ru.vyarus.dropwizard.guice.module.context.stat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Startup profiler records hierarchical spans for startup steps: bundles initialization and run, guice modules
+ * configuration, injector creation with singletons construction, extensions installation. Enabled with
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ProfileStartup} option (disabled by default, so
+ * {@link #start(String, String)} returns no-op span).
+ * <p>
+ * Spans are hierarchical per thread: span started while other span (in the same thread) is active becomes its
+ * child. Recording stops after application startup (spans, started after that would not be recorded).
+ * <p>
+ * Recorded spans summary is shown in stats report
+ * ({@link ru.vyarus.dropwizard.guice.debug.report.stat.StatsRenderer}). Spans could be exported in chrome trace or
+ * collapsed stacks formats ({@link ru.vyarus.dropwizard.guice.debug.report.stat.StartupProfileWriter}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public final class StartupProfiler {
+
+    /**
+     * Startup phase span category (configuration, run, injector creation).
+     */
+    public static final String PHASE = "phase";
+    /**
+     * Guicey bundle initialization and run spans category.
+     */
+    public static final String BUNDLE = "bundle";
+    /**
+     * Dropwizard bundle initialization and run spans category.
+     */
+    public static final String DROPWIZARD_BUNDLE = "dropwizard-bundle";
+    /**
+     * Guice module configuration spans category.
+     */
+    public static final String MODULE = "module";
+    /**
+     * Installer spans category (extensions installation by installer).
+     */
+    public static final String INSTALLER = "installer";
+    /**
+     * Extension installation spans category.
+     */
+    public static final String EXTENSION = "extension";
+    /**
+     * Singleton construction spans category.
+     */
+    public static final String SINGLETON = "singleton";
+
+    private static final ProfileSpan NOOP = new ProfileSpan(null, "", "", "", null, 0);
+
+    private final long origin = System.nanoTime();
+    private final Queue<ProfileSpan> spans = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Deque<ProfileSpan>> active = ThreadLocal.withInitial(ArrayDeque::new);
+    private volatile boolean enabled;
+
+    /**
+     * Enable spans recording.
+     */
+    public void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stop spans recording (already started spans would be recorded after stop).
+     */
+    public void disable() {
+        enabled = false;
+    }
+
+    /**
+     * @return true if spans recording is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start new span. Span must be stopped in finally block (otherwise profile hierarchy would be broken).
+     *
+     * @param category span category
+     * @param name     span name
+     * @return started span (no-op span if profiling disabled)
+     */
+    public ProfileSpan start(final String category, final String name) {
+        if (!enabled) {
+            return NOOP;
+        }
+        final Deque<ProfileSpan> stack = active.get();
+        final ProfileSpan span = new ProfileSpan(this, category, name,
+                Thread.currentThread().getName(), stack.peek(), now());
+        stack.push(span);
+        return span;
+    }
+
+    /**
+     * Shortcut for class-related span start.
+     *
+     * @param category span category
+     * @param type     measured class (bundle, module, etc.)
+     * @param action   measured action (e.g. "initialize")
+     * @return started span (no-op span if profiling disabled)
+     */
+    public ProfileSpan start(final String category, final Class<?> type, final String action) {
+        return enabled ? start(category, name(type) + "." + action) : NOOP;
+    }
+
+    /**
+     * @return all stopped spans sorted by start time
+     */
+    public List<ProfileSpan> getSpans() {
+        return spans.stream()
+                .sorted(Comparator.comparingLong(ProfileSpan::getStart))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * @param type class
+     * @return class name for span (simple name or name with outer class name for anonymous classes)
+     */
+    public static String name(final Class<?> type) {
+        String name = type.getSimpleName();
+        if (name.isEmpty()) {
+            name = type.getName().substring(type.getName().lastIndexOf('.') + 1);
+        }
+        return name;
+    }
+
+    /**
+     * @return time (in nanoseconds) since profiler creation
+     */
+    long now() {
+        return System.nanoTime() - origin;
+    }
+
+    /**
+     * Called by span on stop.
+     *
+     * @param span stopped span
+     */
+    void stopped(final ProfileSpan span) {
+        spans.add(span);
+        final Deque<ProfileSpan> stack = active.get();
+        // span could be stopped in other thread (must not happen, but just in case)
+        stack.remove(span);
+        if (stack.isEmpty()) {
+            active.remove();
+        }
+    }
+}
@@ -67,6 +67,16 @@ public enum Stat {
      * Guicey time in dropwizard run phase (without jersey time). Part of {@link #GuiceyTime}.
      */
     RunTime(true),
+    /**
+     * Configuration introspection time ({@link ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree} build).
+     * Part of {@link #RunTime}.
+     */
+    ConfigurationTreeTime(true),
+    /**
+     * Estimated memory (in bytes) retained by {@link ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree}
+     * (see {@link ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeSizeEstimator}).
+     */
+    ConfigurationTreeSize(false),
     /**
      * Modules pre processing time (include Aware* interfaces processing and bindings analysis).
      * Also includes part of {@link #ExtensionsRecognitionTime}.
@@ -95,6 +105,11 @@ public enum Stat {
      * related to this module will be removed. Counter shows only how many disabled module types were affected.
      */
     RemovedInnerModules(false),
+    /**
+     * Count of not bound configuration paths (not referenced in injection points), when
+     * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#BindOnlyReferencedConfigPaths} enabled.
+     */
+    SkippedConfigPathsCount(false),
     /**
      * Guice SPI time of modules elements resolution. When bindings inspection is disabled with
      * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#AnalyzeGuiceModules}, this time become a part of
@@ -105,6 +120,23 @@ public enum Stat {
      * Guice injector creation time. Part of {@link #RunTime}.
      */
     InjectorCreationTime(true),
+    /**
+     * Count of singletons, created in parallel by
+     * {@link ru.vyarus.dropwizard.guice.injector.ParallelEagerSingletonsInjectorFactory}.
+     */
+    ParallelSingletonsCount(false),
+    /**
+     * Wall-clock time of singletons creation in parallel (with
+     * {@link ru.vyarus.dropwizard.guice.injector.ParallelEagerSingletonsInjectorFactory}).
+     * Part of {@link #InjectorCreationTime}.
+     */
+    ParallelSingletonsTime(true),
+    /**
+     * Sum of all singletons creation times (with
+     * {@link ru.vyarus.dropwizard.guice.injector.ParallelEagerSingletonsInjectorFactory}). Comparison with
+     * {@link #ParallelSingletonsTime} shows parallelization effect. Not a part of any other timer.
+     */
+    ParallelSingletonsCumulativeTime(true),
     /**
      * Time spent installing extensions with registered installers.
      * Part of {@link #RunTime}.
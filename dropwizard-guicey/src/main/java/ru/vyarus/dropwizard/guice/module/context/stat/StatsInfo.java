@@ -4,6 +4,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -34,6 +35,10 @@ public final class StatsInfo {
      */
     public long time(final Stat name) {
         name.requiresTimer();
+        final Long nanos = tracker.getTimes().get(name);
+        if (nanos != null) {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
         final Stopwatch stopwatch = tracker.getTimers().get(name);
         return stopwatch == null ? 0 : stopwatch.elapsed(TimeUnit.MILLISECONDS);
     }
@@ -48,6 +53,10 @@ public final class StatsInfo {
     public String humanTime(final Stat name) {
         name.requiresTimer();
         Preconditions.checkState(name.isTimer(), "Stat %s is not timer stat", name);
+        final Long nanos = tracker.getTimes().get(name);
+        if (nanos != null) {
+            return formatTime(nanos);
+        }
         final Stopwatch stopwatch = tracker.getTimers().get(name);
         return stopwatch == null ? "0" : stopwatch.toString();
     }
@@ -69,4 +78,51 @@ public final class StatsInfo {
     public List<String> getGuiceStats() {
         return tracker.getGuiceStats().getMessages();
     }
+
+    /**
+     * Spans are recorded only when {@link ru.vyarus.dropwizard.guice.GuiceyOptions#ProfileStartup} enabled.
+     *
+     * @return recorded startup profiler spans (sorted by start time) or empty list
+     */
+    public List<ProfileSpan> getProfileSpans() {
+        return tracker.profiler().getSpans();
+    }
+
+    /**
+     * Formats externally measured time the same way as {@link Stopwatch#toString()}.
+     *
+     * @param nanos time in nanoseconds
+     * @return formatted time
+     */
+    private static String formatTime(final long nanos) {
+        TimeUnit unit = TimeUnit.NANOSECONDS;
+        for (TimeUnit candidate : new TimeUnit[]{TimeUnit.DAYS, TimeUnit.HOURS, TimeUnit.MINUTES,
+                TimeUnit.SECONDS, TimeUnit.MILLISECONDS, TimeUnit.MICROSECONDS}) {
+            if (candidate.convert(nanos, TimeUnit.NANOSECONDS) > 0) {
+                unit = candidate;
+                break;
+            }
+        }
+        final double value = (double) nanos / TimeUnit.NANOSECONDS.convert(1, unit);
+        return String.format(Locale.ROOT, "%.4g", value) + " " + abbreviate(unit);
+    }
+
+    private static String abbreviate(final TimeUnit unit) {
+        switch (unit) {
+            case NANOSECONDS:
+                return "ns";
+            case MICROSECONDS:
+                return "\u03bcs";
+            case MILLISECONDS:
+                return "ms";
+            case SECONDS:
+                return "s";
+            case MINUTES:
+                return "min";
+            case HOURS:
+                return "h";
+            default:
+                return "d";
+        }
+    }
 }
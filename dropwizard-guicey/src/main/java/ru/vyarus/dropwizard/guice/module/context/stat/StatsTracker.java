@@ -1,5 +1,6 @@
 package ru.vyarus.dropwizard.guice.module.context.stat;
 
+import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Maps;
 
@@ -19,7 +20,9 @@ import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.JerseyTime;
 public final class StatsTracker {
     private final Map<Stat, Stopwatch> timers = Maps.newEnumMap(Stat.class);
     private final Map<Stat, Integer> counters = Maps.newEnumMap(Stat.class);
+    private final Map<Stat, Long> times = Maps.newEnumMap(Stat.class);
     private final GuiceStatsTracker guiceStats = new GuiceStatsTracker();
+    private final StartupProfiler profiler = new StartupProfiler();
 
     /**
      * If measured first time, returns new instance. For second and following measures returns the same instance
@@ -30,12 +33,26 @@ public final class StatsTracker {
      * @return timer to measure time
      */
     public Stopwatch timer(final Stat name) {
+        Preconditions.checkState(!times.containsKey(name), "Stat %s is measured externally", name);
         final Stopwatch watch = timers.computeIfAbsent(name, k -> Stopwatch.createUnstarted());
         // if watch was performed before then new time will sum with current
         watch.start();
         return watch;
     }
 
+    /**
+     * Records time, measured outside of tracker (for example, computed in multiple threads). Consequent calls
+     * sum values. Should not be used for stats, measured with {@link #timer(Stat)}.
+     *
+     * @param name  statistic name
+     * @param nanos measured time in nanoseconds
+     */
+    public void time(final Stat name, final long nanos) {
+        name.requiresTimer();
+        Preconditions.checkState(!timers.containsKey(name), "Stat %s is measured with timer", name);
+        times.merge(name, nanos, Long::sum);
+    }
+
     /**
      * Inserts value for first call and sum values for consequent calls.
      *
@@ -83,6 +100,13 @@ public final class StatsTracker {
         return timers;
     }
 
+    /**
+     * @return externally measured times map (nanoseconds)
+     */
+    public Map<Stat, Long> getTimes() {
+        return times;
+    }
+
     /**
      * @return collected counters map
      */
@@ -96,4 +120,11 @@ public final class StatsTracker {
     public GuiceStatsTracker getGuiceStats() {
         return guiceStats;
     }
+
+    /**
+     * @return startup profiler (records spans only when enabled)
+     */
+    public StartupProfiler profiler() {
+        return profiler;
+    }
 }
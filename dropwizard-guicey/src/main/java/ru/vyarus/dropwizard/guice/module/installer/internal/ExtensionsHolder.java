@@ -25,6 +25,7 @@ public class ExtensionsHolder {
     private List<ExtensionItemInfoImpl> extensionsData;
     private final List<Class<? extends FeatureInstaller>> installerTypes;
     private final Map<Class<? extends FeatureInstaller>, List<Class<?>>> extensions = Maps.newHashMap();
+    private final Map<Class<?>, ExtensionItemInfoImpl> extensionsIndex = Maps.newHashMap();
 
     public ExtensionsHolder(final List<FeatureInstaller> installers) {
         this.installers = installers;
@@ -47,6 +48,7 @@ public class ExtensionsHolder {
                 extensions.put(installer, Lists.<Class<?>>newArrayList());
             }
             extensions.get(installer).add(ext.getType());
+            extensionsIndex.put(ext.getType(), ext);
         }
     }
 
@@ -57,6 +59,14 @@ public class ExtensionsHolder {
         return extensionsData;
     }
 
+    /**
+     * @param extension extension type
+     * @return extension data or null if extension is not registered (or disabled)
+     */
+    public ExtensionItemInfoImpl getExtensionData(final Class<?> extension) {
+        return extensionsIndex.get(extension);
+    }
+
     /**
      * @return list of all registered installer instances
      */
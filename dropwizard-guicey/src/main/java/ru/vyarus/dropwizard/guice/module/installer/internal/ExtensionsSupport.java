@@ -10,6 +10,8 @@ import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.OptionalExtensionDisablerScope;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemId;
 import ru.vyarus.dropwizard.guice.module.context.info.impl.ExtensionItemInfoImpl;
+import ru.vyarus.dropwizard.guice.module.context.stat.ProfileSpan;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupProfiler;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.JerseyManaged;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
@@ -126,18 +128,18 @@ public final class ExtensionsSupport {
         holder.order();
         final List<Class<?>> allInstalled = new ArrayList<>();
         context.lifecycle().injectorPhase(injector);
+        final StartupProfiler profiler = context.stat().profiler();
         for (FeatureInstaller installer : holder.getInstallers()) {
             final List<Class<?>> res = holder.getExtensions(installer.getClass());
             if (res != null) {
-                for (Class inst : res) {
-                    if (installer instanceof TypeInstaller) {
-                        ((TypeInstaller) installer).install(context.getEnvironment(), inst);
+                final ProfileSpan installerSpan = profiler.start(StartupProfiler.INSTALLER, installer.getClass(),
+                        "install");
+                try {
+                    for (Class inst : res) {
+                        installExtension(context, injector, installer, inst);
                     }
-                    if (installer instanceof InstanceInstaller) {
-                        ((InstanceInstaller) installer).install(context.getEnvironment(), injector.getInstance(inst));
-                    }
-                    LOGGER.trace("{} extension installed: {}",
-                            FeatureUtils.getInstallerExtName(installer.getClass()), inst.getName());
+                } finally {
+                    installerSpan.stop();
                 }
             }
             if (!(installer instanceof JerseyInstaller)) {
@@ -154,6 +156,35 @@ public final class ExtensionsSupport {
     }
 
 
+    @SuppressWarnings("unchecked")
+    private static void installExtension(final ConfigurationContext context,
+                                         final Injector injector,
+                                         final FeatureInstaller installer,
+                                         final Class inst) {
+        final ExtensionItemInfoImpl info = context.getExtensionsHolder().getExtensionData(inst);
+        final ProfileSpan span = context.stat().profiler().start(StartupProfiler.EXTENSION, inst, "install");
+        try {
+            if (installer instanceof TypeInstaller) {
+                final long start = System.nanoTime();
+                ((TypeInstaller) installer).install(context.getEnvironment(), inst);
+                info.setInstallTime(System.nanoTime() - start);
+            }
+            if (installer instanceof InstanceInstaller) {
+                long start = System.nanoTime();
+                final Object instance = injector.getInstance(inst);
+                info.setInstanceTime(System.nanoTime() - start);
+                start = System.nanoTime();
+                ((InstanceInstaller) installer).install(context.getEnvironment(), instance);
+                info.setInstallTime(info.getInstallTime() + System.nanoTime() - start);
+            }
+        } finally {
+            span.stop();
+        }
+        LOGGER.trace("{} extension installed: {} ({} ns instance, {} ns install)",
+                FeatureUtils.getInstallerExtName(installer.getClass()), inst.getName(),
+                info.getInstanceTime(), info.getInstallTime());
+    }
+
     /**
      * Search for matching installer. Extension may match multiple installer, but only one will be actually
      * used (note that installers are ordered).
@@ -0,0 +1,126 @@
+package ru.vyarus.dropwizard.guice.module.installer.internal;
+
+import com.google.inject.Module;
+import com.google.inject.Stage;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holds guice elements of configured modules, captured once during startup (modules analysis and injector
+ * creation). Elements are used by guice reports to avoid repeated modules configuration (and so modules must not
+ * guard against {@link Stage#TOOL} side effects).
+ * <p>
+ * Captured normal modules elements include all elements (even removed by modules analysis).
+ * <p>
+ * Elements are captured only if modules analysis is enabled
+ * ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#AnalyzeGuiceModules}): otherwise modules are used for injector
+ * creation as is. In this case elements are resolved from modules (with {@link Stage#TOOL}).
+ * <p>
+ * Elements are released after application startup (when startup reports are already rendered) to not retain
+ * elements (and bound instances) for the whole application life. After release, elements are resolved from
+ * modules (as if elements were not captured).
+ * <p>
+ * Internal api.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class ModulesElementsHolder {
+
+    private List<Element> modulesElements;
+    private List<Element> bootstrapElements;
+    private List<Element> overridingElements = Collections.emptyList();
+
+    /**
+     * @param elements all elements of user normal modules (before modules analysis)
+     */
+    public void setModulesElements(final List<Element> elements) {
+        this.modulesElements = Collections.unmodifiableList(elements);
+    }
+
+    /**
+     * @param elements guicey bootstrap module elements
+     */
+    public void setBootstrapElements(final List<Element> elements) {
+        this.bootstrapElements = Collections.unmodifiableList(elements);
+    }
+
+    /**
+     * @param elements overriding modules elements
+     */
+    public void setOverridingElements(final List<Element> elements) {
+        this.overridingElements = Collections.unmodifiableList(elements);
+    }
+
+    /**
+     * Releases captured elements.
+     */
+    public void release() {
+        modulesElements = null;
+        bootstrapElements = null;
+        overridingElements = Collections.emptyList();
+    }
+
+    /**
+     * Bootstrap module elements are captured later, during injector creation.
+     *
+     * @return true if modules elements were captured during startup, false otherwise
+     */
+    public boolean isCaptured() {
+        return modulesElements != null;
+    }
+
+    /**
+     * Available before bootstrap module configuration (so could be used inside it).
+     *
+     * @return elements of user normal and overriding modules or null if elements were not captured
+     */
+    public List<Element> getUserElements() {
+        if (!isCaptured()) {
+            return null;
+        }
+        final List<Element> res = new ArrayList<>(modulesElements.size() + overridingElements.size());
+        res.addAll(modulesElements);
+        res.addAll(overridingElements);
+        return res;
+    }
+
+    /**
+     * @param modules normal modules to use if elements were not captured
+     * @return all elements of normal modules (including guicey bootstrap module)
+     */
+    public List<Element> getNormalElements(final List<Module> modules) {
+        if (!isCaptured() || bootstrapElements == null) {
+            return Elements.getElements(Stage.TOOL, modules);
+        }
+        final List<Element> res = new ArrayList<>(modulesElements.size() + bootstrapElements.size());
+        res.addAll(modulesElements);
+        res.addAll(bootstrapElements);
+        return res;
+    }
+
+    /**
+     * @param modules overriding modules to use if elements were not captured
+     * @return all elements of overriding modules
+     */
+    public List<Element> getOverridingElements(final List<Module> modules) {
+        return isCaptured() ? overridingElements : Elements.getElements(Stage.TOOL, modules);
+    }
+
+    /**
+     * @param modules all modules to use if elements were not captured
+     * @return elements of all modules (normal and overriding)
+     */
+    public List<Element> getAllElements(final List<Module> modules) {
+        if (!isCaptured() || bootstrapElements == null) {
+            return Elements.getElements(Stage.TOOL, modules);
+        }
+        final List<Element> res = getNormalElements(modules);
+        res.addAll(overridingElements);
+        return res;
+    }
+}
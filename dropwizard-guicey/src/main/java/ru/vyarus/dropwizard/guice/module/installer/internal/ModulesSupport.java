@@ -16,6 +16,8 @@ import ru.vyarus.dropwizard.guice.GuiceyOptions;
 import ru.vyarus.dropwizard.guice.module.GuiceBootstrapModule;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.option.Options;
+import ru.vyarus.dropwizard.guice.module.context.stat.ProfileSpan;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupProfiler;
 import ru.vyarus.dropwizard.guice.module.context.stat.Stat;
 import ru.vyarus.dropwizard.guice.module.installer.util.BindingUtils;
 import ru.vyarus.dropwizard.guice.module.support.*;
@@ -76,9 +78,20 @@ public final class ModulesSupport {
      */
     public static Iterable<Module> prepareModules(final ConfigurationContext context) {
         final Stopwatch timer = context.stat().timer(ModulesProcessingTime);
-        final List<Module> overridingModules = context.getOverridingModules();
+        List<Module> overridingModules = context.getOverridingModules();
         // repackage normal modules to reveal all guice extensions
         final List<Module> normalModules = analyzeModules(context, timer);
+        if (!overridingModules.isEmpty()) {
+            if (context.getModulesElements().isCaptured()) {
+                // capture overriding modules elements too (to avoid modules configuration in reports)
+                final List<Element> elements = Elements.getElements(context.option(InjectorStage),
+                        profileModules(context, overridingModules));
+                context.getModulesElements().setOverridingElements(elements);
+                overridingModules = Collections.singletonList(Elements.getModule(elements));
+            } else {
+                overridingModules = profileModules(context, overridingModules);
+            }
+        }
 
         final Iterable<Module> res = overridingModules.isEmpty() ? normalModules
                 : Collections.singletonList(Modules.override(normalModules).with(overridingModules));
@@ -102,6 +115,7 @@ public final class ModulesSupport {
                                                final Stopwatch modulesTimer) {
         List<Module> modules = context.getNormalModules();
         final Boolean configureFromGuice = context.option(AnalyzeGuiceModules);
+        boolean analyzed = false;
         // one module mean no user modules registered
         if (modules.size() > 1 && configureFromGuice) {
             // analyzing only user bindings (excluding overrides and guicey technical bindings)
@@ -109,17 +123,22 @@ public final class ModulesSupport {
             try {
                 // find extensions and remove bindings if required (disabled extensions)
                 final Stopwatch gtime = context.stat().timer(Stat.BindingsResolutionTime);
-                final List<Element> elements = new ArrayList<>(
-                        Elements.getElements(context.option(InjectorStage), modules));
+                final List<Element> declared = Elements.getElements(context.option(InjectorStage),
+                        profileModules(context, modules));
+                final List<Element> elements = new ArrayList<>(declared);
                 gtime.stop();
 
                 // exclude analysis time from modules processing time (it's installer time)
                 modulesTimer.stop();
                 analyzeAndFilterBindings(context, modules, elements);
                 modulesTimer.start();
+                // preserve all elements for reports (before filtering)
+                context.getModulesElements().setModulesElements(declared);
 
                 // wrap raw elements into module to avoid duplicate work on guice startup and put back bootstrap
-                modules = Arrays.asList(Elements.getModule(elements), bootstrap);
+                modules = Arrays.asList(Elements.getModule(elements),
+                        captureElements(bootstrap, context.getModulesElements(), context.stat().profiler()));
+                analyzed = true;
             } catch (Exception ex) {
                 // better show meaningful message then just fail entire startup with ambiguous message
                 // NOTE if guice configuration is not OK it will fail here too, but user will see injector creation
@@ -134,7 +153,61 @@ public final class ModulesSupport {
                 }
             }
         }
-        return modules;
+        // not analyzed modules would be configured by injector
+        return analyzed ? modules : profileModules(context, modules);
+    }
+
+    /**
+     * Guice configures modules sequentially, so module configuration time could be measured with marker modules,
+     * registered before and after each module (only when startup profiling enabled). Markers does not produce any
+     * elements and does not appear in modules hierarchy (bindings sources).
+     *
+     * @param context configuration context
+     * @param modules modules to profile
+     * @return modules with profiling markers or the same modules if profiling disabled
+     */
+    private static List<Module> profileModules(final ConfigurationContext context, final List<Module> modules) {
+        final StartupProfiler profiler = context.stat().profiler();
+        if (!profiler.isEnabled()) {
+            return modules;
+        }
+        final List<Module> res = new ArrayList<>();
+        for (Module module : modules) {
+            final ProfileSpan[] span = new ProfileSpan[1];
+            res.add(binder -> span[0] = profiler.start(StartupProfiler.MODULE, module.getClass(), "configure"));
+            res.add(module);
+            res.add(binder -> {
+                if (span[0] != null) {
+                    span[0].stop();
+                }
+            });
+        }
+        return res;
+    }
+
+    /**
+     * Guicey bootstrap module must be configured after extensions registration (after modules analysis), so
+     * its elements are captured on injector creation.
+     *
+     * @param module   guicey bootstrap module
+     * @param holder   elements holder
+     * @param profiler startup profiler
+     * @return module, capturing bootstrap module elements
+     */
+    private static Module captureElements(final Module module,
+                                          final ModulesElementsHolder holder,
+                                          final StartupProfiler profiler) {
+        return binder -> {
+            final ProfileSpan span = profiler.start(StartupProfiler.MODULE, module.getClass(), "configure");
+            final List<Element> elements;
+            try {
+                elements = Elements.getElements(binder.currentStage(), module);
+            } finally {
+                span.stop();
+            }
+            holder.setBootstrapElements(elements);
+            Elements.getModule(elements).configure(binder);
+        };
     }
 
     @SuppressWarnings("PMD.NcssCount")
@@ -144,48 +217,53 @@ public final class ModulesSupport {
         final Stopwatch itimer = context.stat().timer(InstallersTime);
         final Stopwatch timer = context.stat().timer(Stat.ExtensionsRecognitionTime);
         context.stat().count(Stat.BindingsCount, elements.size());
-        final List<String> disabledModules = prepareDisabledModules(context);
+        final Set<String> disabledModules = prepareDisabledModules(context);
         final Set<String> actuallyDisabledModules = new HashSet<>();
         final List<Binding> removedBindings = new ArrayList<>();
-        final Iterator<Element> it = elements.iterator();
-        final List<Class<?>> extensions = new ArrayList<>();
+        // elements to remove: elements are collected first and removed with one pass at the end
+        // (removing elements one by one from array list is too slow for large modules)
+        final Set<Element> removedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Class<?>> extensions = new LinkedHashSet<>();
         // extension may be recognized by linked key and linked keys may need to be removed too
         // right key -> binding
         final Multimap<Key, LinkedKeyBinding> linkedBindings = LinkedHashMultimap.create();
-        while (it.hasNext()) {
-            final Element element = it.next();
+        for (Element element : elements) {
             if (isInDisabledModule(element, disabledModules, actuallyDisabledModules)) {
                 // remove all bindings under disabled modules
-                it.remove();
+                removedElements.add(element);
                 context.stat().count(Stat.RemovedBindingsCount, 1);
                 continue;
             }
             // filter constants, listeners, aop etc.
             if (element instanceof Binding
                     && checkBindingRemoveRequired(context, (Binding) element, extensions, linkedBindings)) {
-                it.remove();
+                removedElements.add(element);
                 removedBindings.add((Binding) element);
             }
         }
         // recognize extensions in linked bindings and remove required bindings
         for (Binding binding : findLinkedBindingsToRemove(context, extensions, linkedBindings)) {
-            elements.remove(binding);
-            removedBindings.add(binding);
+            if (removedElements.add(binding)) {
+                removedBindings.add(binding);
+            }
+        }
+        if (!removedElements.isEmpty()) {
+            elements.removeIf(removedElements::contains);
         }
         if (!actuallyDisabledModules.isEmpty()) {
             LOGGER.debug("Removed inner guice modules: {}", actuallyDisabledModules);
         }
         context.stat().count(Stat.RemovedInnerModules, actuallyDisabledModules.size());
         context.stat().count(Stat.RemovedBindingsCount, removedBindings.size());
-        context.lifecycle().modulesAnalyzed(analyzedModules, extensions, toModuleClasses(actuallyDisabledModules),
-                removedBindings);
+        context.lifecycle().modulesAnalyzed(analyzedModules, new ArrayList<>(extensions),
+                toModuleClasses(actuallyDisabledModules), removedBindings);
         timer.stop();
         itimer.stop();
     }
 
     private static boolean checkBindingRemoveRequired(final ConfigurationContext context,
                                                       final Binding binding,
-                                                      final List<Class<?>> extensions,
+                                                      final Set<Class<?>> extensions,
                                                       final Multimap<Key, LinkedKeyBinding> linkedBindings) {
         final Key key = binding.getKey();
         if (isPossibleExtension(key)) {
@@ -215,7 +293,7 @@ public final class ModulesSupport {
 
     // links map is: linked type (end) -> binding
     private static List<LinkedKeyBinding> findLinkedBindingsToRemove(final ConfigurationContext context,
-                                                                     final List<Class<?>> extensions,
+                                                                     final Set<Class<?>> extensions,
                                                                      final Multimap<Key, LinkedKeyBinding> links) {
         // try to recognize extensions in links
         for (Map.Entry<Key, LinkedKeyBinding> entry : links.entries()) {
@@ -255,26 +333,29 @@ public final class ModulesSupport {
      */
     private static List<LinkedKeyBinding> removeChains(final List<Key> removed,
                                                        final Multimap<Key, LinkedKeyBinding> bindings) {
-        final List<Key> newlyRemoved = new ArrayList<>();
         final List<LinkedKeyBinding> res = new ArrayList<>();
-
-        for (Key removedKey : removed) {
-            // remove all links ending on removed key
-            for (LinkedKeyBinding bnd : bindings.get(removedKey)) {
-                res.add(bnd);
-                newlyRemoved.add(bnd.getKey());
+        final Set<Key> processed = new HashSet<>(removed);
+        List<Key> current = removed;
+        // iterative processing to avoid deep recursion for long chains
+        while (!current.isEmpty()) {
+            final List<Key> newlyRemoved = new ArrayList<>();
+            for (Key removedKey : current) {
+                // remove all links ending on removed key
+                for (LinkedKeyBinding bnd : bindings.get(removedKey)) {
+                    res.add(bnd);
+                    if (processed.add(bnd.getKey())) {
+                        newlyRemoved.add(bnd.getKey());
+                    }
+                }
             }
-        }
-
-        // continue removing chains
-        if (!newlyRemoved.isEmpty()) {
-            res.addAll(removeChains(newlyRemoved, bindings));
+            // continue removing chains
+            current = newlyRemoved;
         }
         return res;
     }
 
-    private static List<String> prepareDisabledModules(final ConfigurationContext context) {
-        final List<String> res = new ArrayList<>();
+    private static Set<String> prepareDisabledModules(final ConfigurationContext context) {
+        final Set<String> res = new HashSet<>();
         for (Class cls : context.getDisabledModuleTypes()) {
             res.add(cls.getName());
         }
@@ -282,7 +363,7 @@ public final class ModulesSupport {
     }
 
     private static boolean isInDisabledModule(final Element element,
-                                              final List<String> disabled,
+                                              final Set<String> disabled,
                                               final Set<String> actuallyDisabled) {
         if (!disabled.isEmpty()) {
             final List<String> modules = BindingUtils.getModules(element);
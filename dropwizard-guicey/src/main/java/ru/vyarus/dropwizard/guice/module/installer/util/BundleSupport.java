@@ -8,6 +8,8 @@ import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemId;
+import ru.vyarus.dropwizard.guice.module.context.stat.ProfileSpan;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupProfiler;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
@@ -66,7 +68,13 @@ public final class BundleSupport {
     public static void runBundles(final ConfigurationContext context) throws Exception {
         final GuiceyEnvironment env = new GuiceyEnvironment(context);
         for (GuiceyBundle bundle : context.getEnabledBundles()) {
-            bundle.run(env);
+            final ProfileSpan span = context.stat().profiler()
+                    .start(StartupProfiler.BUNDLE, bundle.getClass(), "run");
+            try {
+                bundle.run(env);
+            } finally {
+                span.stop();
+            }
         }
         context.lifecycle().bundlesStarted(context.getEnabledBundles());
     }
@@ -143,18 +151,25 @@ public final class BundleSupport {
         // disabled bundles are not processed (so nothing will be registered from it)
         // important to check here because transitive bundles may appear to be disabled
         final ItemId id = ItemId.from(bundle);
-        if (context.isBundleEnabled(id)) {
+        if (!context.isBundleEnabled(id)) {
+            return;
+        }
+        // transitive bundles initialization is included into profiler span
+        final ProfileSpan span = context.stat().profiler().start(StartupProfiler.BUNDLE, bundleType, "initialize");
+        try {
             context.openScope(id);
             bundle.initialize(bootstrap);
             context.closeScope();
-        }
 
-        if (!wrk.isEmpty()) {
-            final List<Class<? extends GuiceyBundle>> nextPath = new ArrayList<>(path);
-            nextPath.add(bundleType);
-            for (GuiceyBundle nextBundle : new ArrayList<>(wrk)) {
-                initBundle(nextPath, nextBundle, wrk, context, bootstrap);
+            if (!wrk.isEmpty()) {
+                final List<Class<? extends GuiceyBundle>> nextPath = new ArrayList<>(path);
+                nextPath.add(bundleType);
+                for (GuiceyBundle nextBundle : new ArrayList<>(wrk)) {
+                    initBundle(nextPath, nextBundle, wrk, context, bootstrap);
+                }
             }
+        } finally {
+            span.stop();
         }
     }
 
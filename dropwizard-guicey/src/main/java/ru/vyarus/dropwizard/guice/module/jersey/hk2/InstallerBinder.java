@@ -18,6 +18,8 @@ import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.JerseyInstalle
  * Registers all guice extensions into HK2 context as factory, which delegates to guice provider.
  * Such bridging is required to delegate objects creation to guice and properly use guice scopes.
  * <p>If jersey extension is already a factory, then factory will be registered directly.</p>
+ * <p>Installation time is recorded for each extension (see
+ * {@link ru.vyarus.dropwizard.guice.module.context.info.ExtensionItemInfo#getJerseyInstallTime()}).</p>
  *
  * @author Vyacheslav Rusakov
  * @see ru.vyarus.dropwizard.guice.module.installer.install.JerseyInstaller
@@ -47,7 +49,9 @@ public class InstallerBinder extends AbstractBinder {
                 final List<Class<?>> features = holder.getExtensions(installer.getClass());
                 if (features != null) {
                     for (Class<?> type : features) {
+                        final long start = System.nanoTime();
                         ((JerseyInstaller) installer).install(this, injector, type);
+                        holder.getExtensionData(type).setJerseyInstallTime(System.nanoTime() - start);
                     }
                     allInstalled.addAll(features);
                 }
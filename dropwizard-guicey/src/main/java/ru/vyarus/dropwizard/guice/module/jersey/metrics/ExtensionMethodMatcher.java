@@ -0,0 +1,94 @@
+package ru.vyarus.dropwizard.guice.module.jersey.metrics;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.reflect.TypeToken;
+import com.google.inject.matcher.Matcher;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptor;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+/**
+ * Matches measured jersey extension methods: resource methods (including sub-resource locators) and
+ * {@link #CONTRACTS} provider methods.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class ExtensionMethodMatcher implements Matcher<Method> {
+
+    /**
+     * Resource methods group name.
+     */
+    static final String RESOURCE = "Resource";
+
+    /**
+     * Measured provider contracts with measured method name.
+     */
+    static final Map<Class<?>, String> CONTRACTS = ImmutableMap.<Class<?>, String>builder()
+            .put(ContainerRequestFilter.class, "filter")
+            .put(ContainerResponseFilter.class, "filter")
+            .put(ReaderInterceptor.class, "aroundReadFrom")
+            .put(WriterInterceptor.class, "aroundWriteTo")
+            .put(ExceptionMapper.class, "toResponse")
+            .build();
+
+    @Override
+    public boolean matches(final Method method) {
+        return group(method) != null;
+    }
+
+    /**
+     * @param method method
+     * @return measured contract simple name, {@link #RESOURCE} for resource methods or null if method is
+     * not measured
+     */
+    static String group(final Method method) {
+        if (method.isSynthetic() || !Modifier.isPublic(method.getModifiers())) {
+            return null;
+        }
+        final Class<?> type = method.getDeclaringClass();
+        for (Map.Entry<Class<?>, String> contract : CONTRACTS.entrySet()) {
+            // request and response filters differ by parameters count
+            if (contract.getKey().isAssignableFrom(type) && contract.getValue().equals(method.getName())
+                    && contract.getKey().getMethods()[0].getParameterCount() == method.getParameterCount()) {
+                return contract.getKey().getSimpleName();
+            }
+        }
+        return isResourceMethod(method) ? RESOURCE : null;
+    }
+
+    private static boolean isResourceMethod(final Method method) {
+        // jax-rs annotations could be declared on overridden method (e.g. in interface)
+        for (Class<?> type : TypeToken.of(method.getDeclaringClass()).getTypes().rawTypes()) {
+            try {
+                if (isResourceAnnotated(type.getDeclaredMethod(method.getName(), method.getParameterTypes()))) {
+                    return true;
+                }
+            } catch (NoSuchMethodException ignored) {
+                // method not declared in this type
+            }
+        }
+        return false;
+    }
+
+    private static boolean isResourceAnnotated(final Method method) {
+        if (method.isAnnotationPresent(Path.class)) {
+            return true;
+        }
+        for (Annotation ann : method.getAnnotations()) {
+            if (ann.annotationType().isAnnotationPresent(HttpMethod.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
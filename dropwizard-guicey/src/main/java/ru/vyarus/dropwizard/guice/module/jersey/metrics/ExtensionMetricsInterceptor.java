@@ -0,0 +1,57 @@
+package ru.vyarus.dropwizard.guice.module.jersey.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures jersey extension method execution time. Timer name contains measured contract (or "Resource"),
+ * extension class name and method name: "guicey.jersey.ContainerRequestFilter.com.foo.AuthFilter.filter".
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class ExtensionMetricsInterceptor implements MethodInterceptor {
+
+    private final MetricRegistry metrics;
+    private final Set<Class<?>> extensions;
+    // instance class (guice aop subclass) -> method -> timer
+    private final Map<Class<?>, Map<Method, Timer>> timers = new ConcurrentHashMap<>();
+
+    ExtensionMetricsInterceptor(final MetricRegistry metrics, final Set<Class<?>> extensions) {
+        this.metrics = metrics;
+        this.extensions = extensions;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final Class<?> type = invocation.getThis().getClass();
+        final Timer timer = timers.computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(invocation.getMethod(), method -> metrics.timer(MetricRegistry.name(
+                        JerseyExtensionsMetricsBundle.PREFIX,
+                        ExtensionMethodMatcher.group(method),
+                        findExtension(type, method).getName(),
+                        method.getName())));
+        final Timer.Context context = timer.time();
+        try {
+            return invocation.proceed();
+        } finally {
+            context.stop();
+        }
+    }
+
+    private Class<?> findExtension(final Class<?> type, final Method method) {
+        // instance class is guice aop subclass and method could be declared in extension superclass
+        Class<?> res = type;
+        while (res != null && !extensions.contains(res)) {
+            res = res.getSuperclass();
+        }
+        return res == null ? method.getDeclaringClass() : res;
+    }
+}
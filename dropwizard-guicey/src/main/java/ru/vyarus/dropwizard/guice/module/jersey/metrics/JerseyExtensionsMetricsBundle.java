@@ -0,0 +1,61 @@
+package ru.vyarus.dropwizard.guice.module.jersey.metrics;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.matcher.Matcher;
+import ru.vyarus.dropwizard.guice.module.context.unique.item.UniqueGuiceyBundle;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
+import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycleAdapter;
+import ru.vyarus.dropwizard.guice.module.lifecycle.event.run.ExtensionsResolvedEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects runtime metrics for jersey extensions, installed by guicey: timers for resource methods, filters
+ * ({@link jakarta.ws.rs.container.ContainerRequestFilter}, {@link jakarta.ws.rs.container.ContainerResponseFilter}),
+ * interceptors ({@link jakarta.ws.rs.ext.ReaderInterceptor}, {@link jakarta.ws.rs.ext.WriterInterceptor}) and
+ * exception mappers ({@link jakarta.ws.rs.ext.ExceptionMapper}, timer count is mapper hits count). Timers are
+ * registered in application metrics registry with extension type (as in extensions report), class and
+ * method names: "guicey.jersey.ContainerRequestFilter.com.foo.SomeFilter.filter",
+ * "guicey.jersey.Resource.com.foo.SomeResource.get" (see {@link #PREFIX}).
+ * <p>
+ * Measurement is implemented with guice AOP and so works only for guice-managed extensions (default): extensions
+ * annotated with {@link ru.vyarus.dropwizard.guice.module.installer.feature.jersey.JerseyManaged} or extension
+ * instances, bound in guice modules, are not measured. Only extensions known to guicey (registered manually,
+ * found by classpath scan or declared in guice bindings) are measured.
+ * <p>
+ * Register bundle with {@code GuiceBundle.builder().bundles(new JerseyExtensionsMetricsBundle())}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class JerseyExtensionsMetricsBundle extends UniqueGuiceyBundle {
+
+    /**
+     * Timers name prefix.
+     */
+    public static final String PREFIX = "guicey.jersey";
+
+    // filled before injector creation (guice checks matchers during injector creation)
+    private final Set<Class<?>> extensions = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void run(final GuiceyEnvironment environment) {
+        final ExtensionMetricsInterceptor interceptor =
+                new ExtensionMetricsInterceptor(environment.environment().metrics(), extensions);
+        environment
+                .listen(new GuiceyLifecycleAdapter() {
+                    @Override
+                    protected void extensionsResolved(final ExtensionsResolvedEvent event) {
+                        extensions.addAll(event.getExtensions());
+                    }
+                })
+                .modules(new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        final Matcher<Class<?>> types = extensions::contains;
+                        bindInterceptor(types, new ExtensionMethodMatcher(), interceptor);
+                    }
+                });
+    }
+}
@@ -1,5 +1,6 @@
 package ru.vyarus.dropwizard.guice.module.lifecycle.event.jersey;
 
+import ru.vyarus.dropwizard.guice.module.context.info.ExtensionItemInfo;
 import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.JerseyManaged;
 import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycle;
 import ru.vyarus.dropwizard.guice.module.lifecycle.event.JerseyPhaseEvent;
@@ -40,4 +41,17 @@ public class JerseyExtensionsInstalledEvent extends JerseyPhaseEvent {
     public List<Class<?>> getExtensions() {
         return extensions;
     }
+
+    /**
+     * Per-extension timings (instance resolution and installation) could be used for tracking startup
+     * regressions (e.g. slow extension constructors). At this point all
+     * extensions are installed (including jersey extensions) and so timings are complete.
+     *
+     * @param limit maximum amount of extensions to return
+     * @return slowest installed extensions (slowest first)
+     * @see ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo#getSlowestExtensions(int)
+     */
+    public List<ExtensionItemInfo> getSlowestExtensions(final int limit) {
+        return getConfigurationInfo().getSlowestExtensions(limit);
+    }
 }
@@ -1,5 +1,6 @@
 package ru.vyarus.dropwizard.guice.module.lifecycle.event.run;
 
+import ru.vyarus.dropwizard.guice.module.context.info.ExtensionItemInfo;
 import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycle;
 import ru.vyarus.dropwizard.guice.module.lifecycle.event.InjectorPhaseEvent;
 import ru.vyarus.dropwizard.guice.module.lifecycle.internal.EventsContext;
@@ -31,4 +32,18 @@ public class ExtensionsInstalledEvent extends InjectorPhaseEvent {
     public List<Class<?>> getExtensions() {
         return extensions;
     }
+
+    /**
+     * Per-extension timings (instance resolution and installation) could be used for tracking startup
+     * regressions (e.g. slow extension constructors). Jersey extensions installation
+     * time is not known at this point (use the same method in
+     * {@link ru.vyarus.dropwizard.guice.module.lifecycle.event.jersey.JerseyExtensionsInstalledEvent}).
+     *
+     * @param limit maximum amount of extensions to return
+     * @return slowest installed extensions (slowest first)
+     * @see ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo#getSlowestExtensions(int)
+     */
+    public List<ExtensionItemInfo> getSlowestExtensions(final int limit) {
+        return getConfigurationInfo().getSlowestExtensions(limit);
+    }
 }
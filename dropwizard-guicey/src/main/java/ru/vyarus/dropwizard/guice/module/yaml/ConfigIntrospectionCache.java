@@ -0,0 +1,232 @@
+package ru.vyarus.dropwizard.guice.module.yaml;
+
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.google.inject.BindingAnnotation;
+import jakarta.inject.Qualifier;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Configuration classes introspection cache. Jackson caches introspection results inside object mapper, but
+ * each application instance (e.g. application started in test) use new object mapper and so all configuration
+ * classes were introspected from scratch. Cache holds resolved serialization properties (with reflection accessors,
+ * declared generic types and qualifier annotations) per class for the whole JVM (cache is stored directly in class with
+ * {@link ClassValue} and so does not prevent class unloading). Only plain reflection objects are cached (jackson
+ * introspection objects are not retained because they reference object mapper configuration).
+ * <p>
+ * Introspection result depends on object mapper configuration (naming strategy, visibility rules, enabled
+ * features), so properties are cached for each configuration "fingerprint" separately. Object mappers with
+ * registered mix-ins are not cached (mix-ins could affect any class).
+ * <p>
+ * Generics resolution results are cached by {@link ru.vyarus.java.generics.resolver.GenericsResolver} itself.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+final class ConfigIntrospectionCache {
+
+    private static final ClassValue<Map<String, List<Property>>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, List<Property>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private ConfigIntrospectionCache() {
+    }
+
+    /**
+     * Computes configuration fingerprint: the same fingerprint means that the same class would be introspected
+     * the same way.
+     *
+     * @param config jackson serialization config
+     * @return configuration fingerprint or null if introspection results can't be cached
+     */
+    static String fingerprint(final SerializationConfig config) {
+        if (config.mixInCount() > 0) {
+            return null;
+        }
+        final StringBuilder res = new StringBuilder();
+        for (MapperFeature feature : MapperFeature.values()) {
+            res.append(config.isEnabled(feature) ? '1' : '0');
+        }
+        final PropertyNamingStrategy naming = config.getPropertyNamingStrategy();
+        res.append(':').append(naming == null ? null : naming.getClass().getName());
+        for (AnnotationIntrospector introspector : config.getAnnotationIntrospector().allIntrospectors()) {
+            res.append(':').append(introspector.getClass().getName());
+        }
+        res.append(':').append(config.getDefaultVisibilityChecker());
+        return res.toString();
+    }
+
+    /**
+     * Introspect class properties (accessible for serialization). Cached result is used, if available.
+     *
+     * @param config      jackson serialization config
+     * @param fingerprint config fingerprint (null to avoid caching)
+     * @param type        class to introspect
+     * @return class properties
+     */
+    static List<Property> getProperties(final SerializationConfig config,
+                                        final String fingerprint,
+                                        final Class<?> type) {
+        return fingerprint == null ? introspect(config, type)
+                : CACHE.get(type).computeIfAbsent(fingerprint, key -> introspect(config, type));
+    }
+
+    private static List<Property> introspect(final SerializationConfig config, final Class<?> type) {
+        final List<Property> res = new ArrayList<>();
+        for (BeanPropertyDefinition prop : config.introspect(config.constructType(type)).findProperties()) {
+            // ignore write-only or groovy special property
+            if (prop.couldSerialize() && !"metaClass".equals(prop.getName())) {
+                res.add(new Property(prop));
+            }
+        }
+        return Collections.unmodifiableList(res);
+    }
+
+    /**
+     * Configuration class property.
+     */
+    static final class Property {
+        private final String name;
+        private final Class<?> declaringClass;
+        private final Method getter;
+        private final Field field;
+        private final Type genericType;
+        private final Annotation qualifier;
+
+        Property(final BeanPropertyDefinition prop) {
+            this.name = prop.getName();
+            this.getter = prop.getGetter() != null ? prop.getGetter().getAnnotated() : null;
+            this.field = prop.getField() != null ? prop.getField().getAnnotated() : null;
+            // need generified type to resolve generics manually because jackson's generics resolution
+            // couldn't handle all required cases
+            this.genericType = getter != null ? getter.getGenericReturnType() : field.getGenericType();
+            this.declaringClass = getter != null ? getter.getDeclaringClass() : field.getDeclaringClass();
+            this.qualifier = findQualifier(prop);
+            fixAccess(getter != null ? getter : field);
+        }
+
+        /**
+         * @return property name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return class declaring property accessor (getter or field)
+         */
+        public Class<?> getDeclaringClass() {
+            return declaringClass;
+        }
+
+        /**
+         * @return getter method or null
+         */
+        public Method getGetter() {
+            return getter;
+        }
+
+        /**
+         * @return field or null (getter always used if available)
+         */
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * @return declared property type
+         */
+        public Type getGenericType() {
+            return genericType;
+        }
+
+        /**
+         * @return qualifier annotation or null
+         */
+        public Annotation getQualifier() {
+            return qualifier;
+        }
+
+        /**
+         * @param object object to read property value from (may be null)
+         * @return property value or null
+         * @throws IllegalArgumentException on value read error
+         */
+        public Object readValue(final Object object) {
+            if (object == null) {
+                return null;
+            }
+            try {
+                return getter != null ? getter.invoke(object) : field.get(object);
+            } catch (InvocationTargetException ex) {
+                throw new IllegalArgumentException("Failed to get value from " + getAccessorName() + ": "
+                        + ex.getCause().getMessage(), ex.getCause());
+            } catch (IllegalAccessException ex) {
+                throw new IllegalArgumentException("Failed to get value from " + getAccessorName() + ": "
+                        + ex.getMessage(), ex);
+            }
+        }
+
+        private String getAccessorName() {
+            return declaringClass.getName() + "#" + (getter != null ? getter.getName() : field.getName());
+        }
+
+        /**
+         * Accessor could be used concurrently and so access (for non-public members) is fixed just once instead of
+         * switching it on each read (jackson does the same for private members).
+         *
+         * @param accessor property accessor (getter or field)
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private static void fixAccess(final AccessibleObject accessor) {
+            try {
+                accessor.setAccessible(true);
+            } catch (RuntimeException ex) {
+                // ignore: value reading error will be logged
+            }
+        }
+
+        private static Annotation findQualifier(final BeanPropertyDefinition prop) {
+            // field in priority
+            Annotation ann = null;
+            if (prop.getField() != null) {
+                ann = findQualifierAnnotation(prop.getField().getAllAnnotations().annotations());
+            }
+            // check getter
+            if (ann == null && prop.getGetter() != null) {
+                ann = findQualifierAnnotation(prop.getGetter().getAllAnnotations().annotations());
+            }
+
+            return ann;
+        }
+
+        private static Annotation findQualifierAnnotation(final Iterable<Annotation> anns) {
+            for (Annotation ann : anns) {
+                for (Annotation marker : ann.annotationType().getAnnotations()) {
+                    final Class<? extends Annotation> type = marker.annotationType();
+                    if (type.equals(Qualifier.class) || type.equals(BindingAnnotation.class)) {
+                        return ann;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
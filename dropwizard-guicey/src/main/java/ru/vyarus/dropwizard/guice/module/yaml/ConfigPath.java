@@ -73,6 +73,14 @@ public class ConfigPath {
         this.qualifier = qualifier;
     }
 
+    /**
+     * Trims children list capacity. Called after tree building to reduce long-lived memory footprint
+     * (tree is bound as singleton).
+     */
+    void compact() {
+        ((ArrayList<ConfigPath>) children).trimToSize();
+    }
+
     /**
      * For example, if current path is "some.long.path" then method returns "some.long" path item.
      *
@@ -1,35 +1,35 @@
 package ru.vyarus.dropwizard.guice.module.yaml;
 
-import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.SerializationConfig;
-import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
-import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Multimap;
 import com.google.common.primitives.Primitives;
-import com.google.inject.BindingAnnotation;
 import io.dropwizard.core.Configuration;
 import io.dropwizard.core.setup.Bootstrap;
 import io.dropwizard.util.DataSize;
 import io.dropwizard.util.Duration;
-import jakarta.inject.Qualifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.java.generics.resolver.GenericsResolver;
 import ru.vyarus.java.generics.resolver.context.GenericsContext;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Analyzes configuration instance, prepared by dropwizard, in order to be able to use configuration
@@ -37,7 +37,14 @@ import java.util.Set;
  * <p>
  * Use jackson serialization api for configuration introspection. This way everything that is accessible for
  * jackson serialization will be extracted. Jackson will perform all required reflection work and cache it
- * during configuration mapping, so performance should not be harmed at all.
+ * during configuration mapping, so performance should not be harmed at all. Introspection results are also cached
+ * for the whole JVM (see {@link ConfigIntrospectionCache}) to speed up multiple applications startup (e.g. in tests).
+ * Configuration sub-trees (root configuration properties) could be introspected in parallel (see
+ * {@link #build(Bootstrap, Configuration, boolean, boolean)}).
+ * <p>
+ * Resulted tree is stored in compact form (it is bound as singleton and so lives as long as application): generics
+ * lists are immutable and interned (the same generics are shared between paths) and lists capacity is trimmed.
+ * Estimated tree size is available with {@link ConfigTreeSizeEstimator}.
  * <p>
  * Extra generics information is extracted with {@link GenericsResolver} to use all possibly available types
  * information in bindings.
@@ -80,6 +87,12 @@ public final class ConfigTreeBuilder {
             List.class, Set.class, Map.class, Multimap.class
     );
 
+    /**
+     * Generics lists are the same for many paths (e.g. {@code List<String>}) so there is no need to keep
+     * duplicate lists in memory. Weak interner used to not hold configuration classes.
+     */
+    private static final Interner<List<Type>> GENERICS = Interners.newWeakInterner();
+
     private ConfigTreeBuilder() {
     }
 
@@ -96,7 +109,7 @@ public final class ConfigTreeBuilder {
     }
 
     /**
-     * Analyze configuration object to extract bindable parts.
+     * Shortcut for {@link #build(Bootstrap, Configuration, boolean, boolean)} with sequential introspection.
      *
      * @param bootstrap     bootstrap instance
      * @param configuration configuration instance
@@ -107,15 +120,39 @@ public final class ConfigTreeBuilder {
     public static ConfigurationTree build(final Bootstrap bootstrap,
                                           final Configuration configuration,
                                           final boolean introspect) {
+        return build(bootstrap, configuration, introspect, false);
+    }
+
+    /**
+     * Analyze configuration object to extract bindable parts.
+     * <p>
+     * When parallel introspection enabled, configuration sub-trees are introspected in
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}, so configuration getters would be called from
+     * different threads (getters must not rely on thread locals or synchronization with the calling thread).
+     *
+     * @param bootstrap     bootstrap instance
+     * @param configuration configuration instance
+     * @param introspect    true to introspect configuration object and extract values by path and unique
+     *                      sub configurations
+     * @param parallel      true to introspect configuration sub-trees in parallel
+     * @return parsed configuration info
+     */
+    public static ConfigurationTree build(final Bootstrap bootstrap,
+                                          final Configuration configuration,
+                                          final boolean introspect,
+                                          final boolean parallel) {
         final List<Class> roots = resolveRootTypes(new ArrayList<>(), configuration.getClass());
         if (introspect) {
-            final List<ConfigPath> content = resolvePaths(
-                    bootstrap.getObjectMapper().getSerializationConfig(),
-                    null,
-                    new ArrayList<>(),
+            final SerializationConfig config = bootstrap.getObjectMapper().getSerializationConfig();
+            // copy to trim list capacity
+            final List<ConfigPath> content = new ArrayList<>(resolveRootPaths(
+                    config,
+                    ConfigIntrospectionCache.fingerprint(config),
                     configuration.getClass(),
                     configuration,
-                    GenericsResolver.resolve(configuration.getClass()));
+                    GenericsResolver.resolve(configuration.getClass()),
+                    parallel));
+            content.forEach(ConfigPath::compact);
             final List<ConfigPath> uniqueContent = resolveUniqueTypePaths(content);
             return new ConfigurationTree(roots, content, uniqueContent);
         } else {
@@ -146,6 +183,80 @@ public final class ConfigTreeBuilder {
         return resolveRootTypes(roots, type.getSuperclass());
     }
 
+    /**
+     * Root configuration properties are resolved first and then each configuration sub-tree (custom type property)
+     * is introspected (in parallel, if enabled: sub-trees are independent). Resulted paths order is the same as
+     * with sequential processing.
+     *
+     * @param config          jackson serialization config
+     * @param fingerprint     jackson config fingerprint (for introspection cache)
+     * @param type            configuration type
+     * @param object          configuration instance
+     * @param genericsContext generics context
+     * @param parallel        true to introspect sub-trees in parallel
+     * @return all configuration paths values
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private static List<ConfigPath> resolveRootPaths(final SerializationConfig config,
+                                                     final String fingerprint,
+                                                     final Class type,
+                                                     final Object object,
+                                                     final GenericsContext genericsContext,
+                                                     final boolean parallel) {
+        final List<ConfigPath> roots = new ArrayList<>();
+        final Map<ConfigPath, ConfigIntrospectionCache.Property> subtrees = new LinkedHashMap<>();
+        for (ConfigIntrospectionCache.Property prop : ConfigIntrospectionCache.getProperties(config, fingerprint,
+                type)) {
+            final ConfigPath item = createPath(null, prop, object, genericsContext);
+            if (item != null) {
+                roots.add(item);
+                if (item.isCustomType()) {
+                    subtrees.put(item, prop);
+                }
+            }
+        }
+        final Map<ConfigPath, CompletableFuture<List<ConfigPath>>> futures = new HashMap<>();
+        if (parallel && subtrees.size() > 1) {
+            subtrees.forEach((item, prop) -> futures.put(item, CompletableFuture.supplyAsync(() ->
+                    resolveSubtree(config, fingerprint, item, prop, genericsContext))));
+        }
+        final List<ConfigPath> content = new ArrayList<>();
+        for (ConfigPath item : roots) {
+            content.add(item);
+            if (futures.containsKey(item)) {
+                content.addAll(join(futures.get(item)));
+            } else if (subtrees.containsKey(item)) {
+                content.addAll(resolveSubtree(config, fingerprint, item, subtrees.get(item), genericsContext));
+            }
+        }
+        return content;
+    }
+
+    /**
+     * @param config          jackson serialization config
+     * @param fingerprint     jackson config fingerprint (for introspection cache)
+     * @param item            custom type path
+     * @param prop            property
+     * @param genericsContext generics context of containing type
+     * @return all sub-tree paths
+     */
+    private static List<ConfigPath> resolveSubtree(final SerializationConfig config,
+                                                   final String fingerprint,
+                                                   final ConfigPath item,
+                                                   final ConfigIntrospectionCache.Property prop,
+                                                   final GenericsContext genericsContext) {
+        final List<ConfigPath> content = new ArrayList<>();
+        if (!detectRecursion(item)) {
+            // build generics context for actual value type (if not null)
+            final GenericsContext subContext = prop.getGetter() != null
+                    ? genericsContext.method(prop.getGetter()).returnTypeAs(item.getValueType())
+                    : genericsContext.fieldTypeAs(prop.getField(), item.getValueType());
+
+            resolvePaths(config, fingerprint, item, content, item.getValueType(), item.getValue(), subContext);
+        }
+        return content;
+    }
+
     /**
      * Use jackson serialization api to extract all configuration values with paths from configuration object.
      * Always analyze types, even if actual branch is not present at all (null value) in order to always bind
@@ -155,64 +266,55 @@ public final class ConfigTreeBuilder {
      * Still, bindings may vary: for example, bound implementations may differ (best example is dropwizard server type),
      * as a consequences, parsed type may be different and so different properties paths could be recognized.
      *
-     * @param config  jackson serialization config
-     * @param content currently parsed paths
-     * @param type    analyzed part type
-     * @param object  analyzed part instance (may be null)
+     * @param config          jackson serialization config
+     * @param fingerprint     jackson config fingerprint (for introspection cache)
+     * @param root            parent path
+     * @param content         currently parsed paths
+     * @param type            analyzed part type
+     * @param object          analyzed part instance (may be null)
+     * @param genericsContext generics context
      * @return all configuration paths values
      */
-    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "PMD.AvoidLiteralsInIfCondition"})
     private static List<ConfigPath> resolvePaths(final SerializationConfig config,
+                                                 final String fingerprint,
                                                  final ConfigPath root,
                                                  final List<ConfigPath> content,
                                                  final Class type,
                                                  final Object object,
                                                  final GenericsContext genericsContext) {
-        final BeanDescription description = config.introspect(
-                config.constructType(type)
-        );
-
-        for (BeanPropertyDefinition prop : description.findProperties()) {
-            // ignore write-only or groovy special property
-            if (!prop.couldSerialize() || "metaClass".equals(prop.getName())) {
-                continue;
-            }
-            final Object value;
-            // if configuration doesn't expect serialization and throws error on access
-            // (like netflix dynamic properties) it should not break app startup
-            try {
-                value = readValue(prop.getAccessor(), object);
-            } catch (Exception ex) {
-                LOGGER.warn("Can't bind configuration path '{}' due to {}: {}. Enable debug logs to see "
-                                + "complete stack trace or use @JsonIgnore on property getter.",
-                        fullPath(root, prop), ex.getClass().getSimpleName(), ex.getMessage());
-                LOGGER.debug("Complete error: ", ex);
+        for (ConfigIntrospectionCache.Property prop : ConfigIntrospectionCache.getProperties(config, fingerprint,
+                type)) {
+            final ConfigPath item = createPath(root, prop, object, genericsContext);
+            if (item == null) {
                 continue;
             }
-
-            final ConfigPath item = createItem(root, prop, value, genericsContext);
             content.add(item);
-            if (root != null) {
-                root.getChildren().add(item);
-            }
+            root.getChildren().add(item);
 
-            if (item.isCustomType() && !detectRecursion(item)) {
-                // build generics context for actual value type (if not null)
-                final GenericsContext subContext = prop.getGetter() != null
-                        ? genericsContext.method(prop.getGetter().getAnnotated()).returnTypeAs(item.getValueType())
-                        : genericsContext.fieldTypeAs(prop.getField().getAnnotated(), item.getValueType());
-
-                resolvePaths(config, item, content, item.getValueType(),
-                        item.getValue(), subContext);
+            if (item.isCustomType()) {
+                content.addAll(resolveSubtree(config, fingerprint, item, prop, genericsContext));
             }
         }
-        if (root != null) {
-            // simple properties goes up and composite objects go lower (both groups sorted alphabetically)
-            root.getChildren().sort(Comparator.comparing(o -> (o.isCustomType() ? 'b' : 'a') + o.getPath()));
-        }
+        // simple properties goes up and composite objects go lower (both groups sorted alphabetically)
+        root.getChildren().sort(Comparator.comparing(o -> (o.isCustomType() ? 'b' : 'a') + o.getPath()));
         return content;
     }
 
+    /**
+     * Waits for sub-tree processing.
+     *
+     * @param future sub-tree processing future
+     * @return sub-tree paths
+     */
+    private static List<ConfigPath> join(final CompletableFuture<List<ConfigPath>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw ex;
+        }
+    }
+
     /**
      * Possible recursive declarations must be detected to prevent stack overflow errors. The simplest recursion example
      * is {@code class SubConfig { SubConfig property;}}, but it may not be direct recursion. Recursive processing
@@ -242,6 +344,35 @@ public final class ConfigTreeBuilder {
         return res;
     }
 
+    /**
+     * Read property value and create item for property.
+     *
+     * @param root            root property (containing), may be null for roots
+     * @param prop            property descriptor
+     * @param object          analyzed part instance (may be null)
+     * @param genericsContext generics context
+     * @return path item object or null if property value can't be read
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static ConfigPath createPath(final ConfigPath root,
+                                         final ConfigIntrospectionCache.Property prop,
+                                         final Object object,
+                                         final GenericsContext genericsContext) {
+        final Object value;
+        // if configuration doesn't expect serialization and throws error on access
+        // (like netflix dynamic properties) it should not break app startup
+        try {
+            value = prop.readValue(object);
+        } catch (Exception ex) {
+            LOGGER.warn("Can't bind configuration path '{}' due to {}: {}. Enable debug logs to see "
+                            + "complete stack trace or use @JsonIgnore on property getter.",
+                    fullPath(root, prop), ex.getClass().getSimpleName(), ex.getMessage());
+            LOGGER.debug("Complete error: ", ex);
+            return null;
+        }
+        return createItem(root, prop, value, genericsContext);
+    }
+
     /**
      * Create item for property.
      * <p>
@@ -253,20 +384,16 @@ public final class ConfigTreeBuilder {
      * </ul>
      *
      * @param root            root property (containing), may be null for roots
-     * @param prop            jackson property descriptor
+     * @param prop            property descriptor
      * @param value           property value, may be null
      * @param genericsContext generics context
      * @return path item object
      */
     private static ConfigPath createItem(final ConfigPath root,
-                                         final BeanPropertyDefinition prop,
+                                         final ConfigIntrospectionCache.Property prop,
                                          final Object value,
                                          final GenericsContext genericsContext) {
-        // need generified type to resolve generics manually because jackson's generics resolution
-        // couldn't handle all required cases
-        final Type type = prop.getGetter() != null
-                ? prop.getGetter().getAnnotated().getGenericReturnType()
-                : prop.getField().getAnnotated().getGenericType();
+        final Type type = prop.getGenericType();
         final Class typeClass = Primitives.wrap(genericsContext.resolveClass(type));
 
         // upper possible known type (for introspection): ideally type of actually used configuration value
@@ -278,13 +405,13 @@ public final class ConfigTreeBuilder {
         final Class lowerType = correctValueType(objectDeclared ? upperType : typeClass, customType);
 
         final List<Type> lowerGenerics =
-                resolveLowerGenerics(genericsContext, type, typeClass, objectDeclared, lowerType);
+                intern(resolveLowerGenerics(genericsContext, type, typeClass, objectDeclared, lowerType));
         final List<Type> upperGenerics = lowerType.equals(upperType) ? lowerGenerics
-                : resolveUpperGenerics(genericsContext, type, objectDeclared, upperType);
+                : intern(resolveUpperGenerics(genericsContext, type, objectDeclared, upperType));
 
         return new ConfigPath(
                 root,
-                prop.getAccessor().getDeclaringClass(),
+                prop.getDeclaringClass(),
                 lowerType,
                 // as an example, enum constant type could lead to anonymous class
                 upperType.isAnonymousClass() ? lowerType : upperType,
@@ -294,7 +421,7 @@ public final class ConfigTreeBuilder {
                 value,
                 customType,
                 objectDeclared,
-                findQualifier(prop));
+                prop.getQualifier());
     }
 
     /**
@@ -361,6 +488,14 @@ public final class ConfigTreeBuilder {
         return res;
     }
 
+    /**
+     * @param generics resolved generics
+     * @return immutable shared generics list
+     */
+    private static List<Type> intern(final List<Type> generics) {
+        return generics.isEmpty() ? Collections.emptyList() : GENERICS.intern(ImmutableList.copyOf(generics));
+    }
+
     /**
      * Looks for all pojo objects on all configuration paths and select unique pojos. This may be used later
      * to bind configuration part by type (as its uniquely identify location).
@@ -458,54 +593,7 @@ public final class ConfigTreeBuilder {
         return res;
     }
 
-    private static Object readValue(final AnnotatedMember member, final Object object) {
-        if (object == null) {
-            return null;
-        }
-        final Object res;
-        final AccessibleObject accessor = (AccessibleObject) member.getMember();
-        // case: private field
-        if (!accessor.isAccessible()) {
-            accessor.setAccessible(true);
-            try {
-                res = member.getValue(object);
-            } finally {
-                accessor.setAccessible(false);
-            }
-        } else {
-            // public access (most likely getter)
-            res = member.getValue(object);
-        }
-        return res;
-    }
-
-    private static String fullPath(final ConfigPath root, final BeanPropertyDefinition prop) {
+    private static String fullPath(final ConfigPath root, final ConfigIntrospectionCache.Property prop) {
         return (root == null ? "" : root.getPath() + ".") + prop.getName();
     }
-
-    private static Annotation findQualifier(final BeanPropertyDefinition prop) {
-        // field in priority
-        Annotation ann = null;
-        if (prop.getField() != null) {
-            ann = findQualifierAnnotation(prop.getField().getAllAnnotations().annotations());
-        }
-        // check getter
-        if (ann == null && prop.getGetter() != null) {
-            ann = findQualifierAnnotation(prop.getGetter().getAllAnnotations().annotations());
-        }
-
-        return ann;
-    }
-
-    private static Annotation findQualifierAnnotation(final Iterable<Annotation> anns) {
-        for (Annotation ann : anns) {
-            for (Annotation marker : ann.annotationType().getAnnotations()) {
-                final Class<? extends Annotation> type = marker.annotationType();
-                if (type.equals(Qualifier.class) || type.equals(BindingAnnotation.class)) {
-                    return ann;
-                }
-            }
-        }
-        return null;
-    }
 }
@@ -0,0 +1,81 @@
+package ru.vyarus.dropwizard.guice.module.yaml;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Estimates memory retained by {@link ConfigurationTree} (tree is bound as singleton and so lives as long as
+ * application). Estimation assumes 64-bit jvm with compressed oops and compact strings (defaults).
+ * <p>
+ * Only tree structure is counted: path descriptors, their lists and path strings. Configuration values are not
+ * counted because they are referenced by configuration object anyway. Shared objects (classes, interned generics
+ * lists, qualifier annotations) are counted only once (or not counted at all for classes). Lazy search indexes
+ * (built on first search) are also not counted.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public final class ConfigTreeSizeEstimator {
+
+    private static final int HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REF = 4;
+    private static final int ALIGN = 8;
+    // 10 references and 2 booleans
+    private static final int PATH_FIELDS = 10 * REF + 2;
+    // size, modCount and elementData reference
+    private static final int LIST_FIELDS = 4 + 4 + REF;
+    // value reference, hash, coder and hashIsZero
+    private static final int STRING_FIELDS = REF + 4 + 1 + 1;
+    // immutable list (array reference)
+    private static final int IMMUTABLE_LIST_FIELDS = REF;
+
+    private ConfigTreeSizeEstimator() {
+    }
+
+    /**
+     * @param tree configuration tree
+     * @return estimated retained size in bytes
+     */
+    public static long estimate(final ConfigurationTree tree) {
+        final List<ConfigPath> paths = tree.getPaths();
+        long res = list(paths.size()) + list(tree.getUniqueTypePaths().size());
+        final Set<Object> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ConfigPath path : paths) {
+            res += align(HEADER + PATH_FIELDS)
+                    + list(path.getChildren().size())
+                    + string(path.getPath())
+                    + generics(path.getDeclaredTypeGenerics(), shared)
+                    + generics(path.getValueTypeGenerics(), shared);
+            if (path.getQualifier() != null && shared.add(path.getQualifier())) {
+                res += align(HEADER + REF);
+            }
+        }
+        return res;
+    }
+
+    private static long list(final int size) {
+        // trimmed array list (empty list use shared array)
+        return align(HEADER + LIST_FIELDS) + (size == 0 ? 0 : array(size));
+    }
+
+    private static long string(final String value) {
+        return align(HEADER + STRING_FIELDS) + align(ARRAY_HEADER + value.length());
+    }
+
+    private static long generics(final List<?> generics, final Set<Object> shared) {
+        // empty lists are always shared
+        return generics.isEmpty() || !shared.add(generics) ? 0
+                : align(HEADER + IMMUTABLE_LIST_FIELDS) + array(generics.size());
+    }
+
+    private static long array(final int size) {
+        return align(ARRAY_HEADER + (long) size * REF);
+    }
+
+    private static long align(final long size) {
+        return (size + ALIGN - 1) / ALIGN * ALIGN;
+    }
+}
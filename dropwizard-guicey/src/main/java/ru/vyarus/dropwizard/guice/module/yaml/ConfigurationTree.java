@@ -7,6 +7,7 @@ import ru.vyarus.dropwizard.guice.module.support.ConfigurationTreeAwareModule;
 
 import java.lang.annotation.Annotation;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +36,9 @@ import java.util.stream.Collectors;
  * Qualifier annotation is an annotation annotated with {@link com.google.inject.BindingAnnotation}
  * (e.g. {@link com.google.inject.name.Named}) or {@link jakarta.inject.Qualifier}
  * (e.g. {@link jakarta.inject.Named}).
+ * <p>
+ * Search by path, qualifier annotation and type use indexes, built on first usage (so many lookups over large
+ * configurations are cheap).
  *
  * @author Vyacheslav Rusakov
  * @see ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigBindingModule
@@ -52,6 +56,12 @@ public class ConfigurationTree {
     // unique custom types from paths (could be bound by type - no duplicates)
     private final List<ConfigPath> uniqueTypePaths;
 
+    // lazy indexes (built on first use; tree is immutable)
+    private volatile Map<String, ConfigPath> pathIndex;
+    private volatile Map<Object, List<ConfigPath>> qualifierIndex;
+    private volatile List<ConfigPath> customTypePaths;
+    private final Map<Class<?>, List<ConfigPath>> typeCache = new ConcurrentHashMap<>();
+
     public ConfigurationTree(final List<Class> rootTypes) {
         this(rootTypes, Collections.emptyList(), Collections.emptyList());
     }
@@ -113,10 +123,7 @@ public class ConfigurationTree {
      * @return path descriptor or null if not found
      */
     public ConfigPath findByPath(final String path) {
-        return paths.stream()
-                .filter(it -> it.getPath().equalsIgnoreCase(path))
-                .findFirst()
-                .orElse(null);
+        return path == null ? null : pathIndex().get(path.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -131,9 +138,7 @@ public class ConfigurationTree {
      * @return list of annotated (on field or getter) configuration paths
      */
     public List<ConfigPath> findAllByAnnotation(final Annotation annotation) {
-        return paths.stream()
-                .filter(path -> path.getQualifier() != null && annotation.equals(path.getQualifier()))
-                .collect(Collectors.toList());
+        return new ArrayList<>(qualifierIndex().getOrDefault(annotation, Collections.emptyList()));
     }
 
     /**
@@ -145,10 +150,7 @@ public class ConfigurationTree {
      * @return list of annotated (on field or getter) configuration paths
      */
     public List<ConfigPath> findAllByAnnotation(final Class<? extends Annotation> qualifierType) {
-        return paths.stream()
-                .filter(path -> path.getQualifier() != null
-                        && qualifierType.equals(path.getQualifier().annotationType()))
-                .collect(Collectors.toList());
+        return new ArrayList<>(qualifierIndex().getOrDefault(qualifierType, Collections.emptyList()));
     }
 
     /**
@@ -207,10 +209,10 @@ public class ConfigurationTree {
      * @return all paths with the same or sub type for specified type or empty list
      */
     public List<ConfigPath> findAllByType(final Class<?> type) {
-        return paths.stream()
-                // do not allow search for all booleans or integers (completely meaningless)
-                .filter(it -> it.isCustomType() && type.isAssignableFrom(it.getDeclaredType()))
-                .collect(Collectors.toList());
+        // assignability resolved once for each requested type
+        return new ArrayList<>(typeCache.computeIfAbsent(type, key -> customTypePaths().stream()
+                .filter(it -> key.isAssignableFrom(it.getDeclaredType()))
+                .collect(Collectors.toList())));
     }
 
     /**
@@ -436,6 +438,49 @@ public class ConfigurationTree {
     }
 
 
+    private Map<String, ConfigPath> pathIndex() {
+        Map<String, ConfigPath> res = pathIndex;
+        if (res == null) {
+            res = new HashMap<>();
+            for (ConfigPath path : paths) {
+                // first path wins (same as linear search)
+                res.putIfAbsent(path.getPath().toLowerCase(Locale.ROOT), path);
+            }
+            pathIndex = res;
+        }
+        return res;
+    }
+
+    /**
+     * @return paths by qualifier annotation instance and by qualifier annotation type
+     */
+    private Map<Object, List<ConfigPath>> qualifierIndex() {
+        Map<Object, List<ConfigPath>> res = qualifierIndex;
+        if (res == null) {
+            res = new HashMap<>();
+            for (ConfigPath path : paths) {
+                final Annotation qualifier = path.getQualifier();
+                if (qualifier != null) {
+                    res.computeIfAbsent(qualifier, k -> new ArrayList<>()).add(path);
+                    // annotation type can't be equal to annotation instance
+                    res.computeIfAbsent(qualifier.annotationType(), k -> new ArrayList<>()).add(path);
+                }
+            }
+            qualifierIndex = res;
+        }
+        return res;
+    }
+
+    private List<ConfigPath> customTypePaths() {
+        List<ConfigPath> res = customTypePaths;
+        if (res == null) {
+            // do not allow search for all booleans or integers (completely meaningless)
+            res = paths.stream().filter(ConfigPath::isCustomType).collect(Collectors.toList());
+            customTypePaths = res;
+        }
+        return res;
+    }
+
     private void sortContent() {
         final Comparator<ConfigPath> comparator = (o1, o2) -> {
             final int res;
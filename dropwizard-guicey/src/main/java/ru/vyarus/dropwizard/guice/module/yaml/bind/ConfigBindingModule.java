@@ -4,11 +4,14 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.inject.AbstractModule;
 import com.google.inject.Key;
+import com.google.inject.Provider;
 import com.google.inject.binder.LinkedBindingBuilder;
 import com.google.inject.util.Providers;
 import io.dropwizard.core.Configuration;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ReloadableConfiguration;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ReloadableValueProvider;
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
 
 import java.util.Collection;
@@ -31,6 +34,9 @@ import java.util.stream.Collectors;
  * with qualifier only.
  * <p>
  * {@link ConfigurationTree} instance is also bound directly to be used for custom configuration analysis.
+ * <p>
+ * When configuration reload is enabled ({@link ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloadBundle}),
+ * all values are bound with providers, returning current values (instead of instance bindings).
  *
  * @author Vyacheslav Rusakov
  * @see Config for more info on usage
@@ -41,15 +47,56 @@ public class ConfigBindingModule extends AbstractModule {
 
     private final Configuration configuration;
     private final ConfigurationTree tree;
+    private final Set<String> referencedPaths;
+    private final ReloadableConfiguration reloadable;
+    private int skippedPaths;
 
     public ConfigBindingModule(final Configuration configuration, final ConfigurationTree tree) {
+        this(configuration, tree, null);
+    }
+
+    /**
+     * @param configuration   configuration
+     * @param tree            configuration tree
+     * @param referencedPaths paths to bind or null to bind all paths
+     */
+    public ConfigBindingModule(final Configuration configuration,
+                               final ConfigurationTree tree,
+                               final Set<String> referencedPaths) {
+        this(configuration, tree, referencedPaths, null);
+    }
+
+    /**
+     * @param configuration   configuration
+     * @param tree            configuration tree
+     * @param referencedPaths paths to bind or null to bind all paths
+     * @param reloadable      reloadable configuration or null when reload is not enabled
+     */
+    public ConfigBindingModule(final Configuration configuration,
+                               final ConfigurationTree tree,
+                               final Set<String> referencedPaths,
+                               final ReloadableConfiguration reloadable) {
         this.configuration = configuration;
         this.tree = tree;
+        this.referencedPaths = referencedPaths;
+        this.reloadable = reloadable;
+    }
+
+    /**
+     * @return count of not bound (not referenced) configuration paths
+     */
+    public int getSkippedPaths() {
+        return skippedPaths;
     }
 
     @Override
     protected void configure() {
-        bind(ConfigurationTree.class).toInstance(tree);
+        if (reloadable != null) {
+            bind(ReloadableConfiguration.class).toInstance(reloadable);
+            bind(ConfigurationTree.class).toProvider((Provider<ConfigurationTree>) reloadable::getTree);
+        } else {
+            bind(ConfigurationTree.class).toInstance(tree);
+        }
 
         bindCustomQualifiers();
         bindRootTypes();
@@ -77,14 +124,18 @@ public class ConfigBindingModule extends AbstractModule {
             Object value = first.getValue();
 
             Key<?> bindingKey = key;
+            Provider<?> provider = pathProvider(first);
             if (values.size() > 1) {
                 // aggregate multiple values into set
                 // NOTE no need to check types compatibility because matching was based on pre-computed keys
                 value = values.stream().map(ConfigPath::getValue).collect(Collectors.toSet());
                 bindingKey = Key.get(new ParameterizedTypeImpl(Set.class, first.getDeclaredTypeWithGenerics()),
                         first.getQualifier());
+                provider = reloadable == null ? null : ReloadableValueProvider.paths(reloadable,
+                        values.stream().map(ConfigPath::getPath).collect(Collectors.toList()),
+                        first.getDeclaredType());
             }
-            bindValue(bind(bindingKey), value);
+            bindValue(bind(bindingKey), value, provider);
         }
     }
 
@@ -99,9 +150,9 @@ public class ConfigBindingModule extends AbstractModule {
             // bind root configuration classes both with and without qualifier
             if (!type.isInterface()) {
                 // bind interface as type only when it's allowed
-                bind(type).toInstance(configuration);
+                bindValue(bind(type), configuration, rootProvider());
             }
-            bind(type).annotatedWith(Config.class).toInstance(configuration);
+            bindValue(bind(type).annotatedWith(Config.class), configuration, rootProvider());
         }
     }
 
@@ -115,25 +166,45 @@ public class ConfigBindingModule extends AbstractModule {
             // bind only with annotation to avoid clashes with direct bindings
             bindValue(
                     bind(Key.get(item.getDeclaredTypeWithGenerics(), Config.class)),
-                    item.getValue());
+                    item.getValue(),
+                    pathProvider(item));
         }
     }
 
     /**
      * Bind configuration paths. Available for injection like {@code @Inject @Code("path.sub") Integer conf}.
      * Value may be null because if null values would be avoided, bindings will disappear.
+     * When referenced paths are known, only referenced paths are bound.
      */
     private void bindValuePaths() {
+        skippedPaths = 0;
         for (ConfigPath item : tree.getPaths()) {
+            if (referencedPaths != null && !referencedPaths.contains(item.getPath())) {
+                skippedPaths++;
+                continue;
+            }
             bindValue(
                     bind(Key.get(item.getDeclaredTypeWithGenerics(), new ConfigImpl(item.getPath()))),
-                    item.getValue());
+                    item.getValue(),
+                    pathProvider(item));
         }
     }
 
+    private Provider<?> rootProvider() {
+        return reloadable == null ? null : ReloadableValueProvider.root(reloadable);
+    }
+
+    private Provider<?> pathProvider(final ConfigPath item) {
+        return reloadable == null ? null : ReloadableValueProvider.path(reloadable, item.getPath(),
+                item.getDeclaredType());
+    }
+
     @SuppressWarnings("unchecked")
-    private void bindValue(final LinkedBindingBuilder binding, final Object value) {
-        if (value != null) {
+    private void bindValue(final LinkedBindingBuilder binding, final Object value, final Provider<?> provider) {
+        if (provider != null) {
+            // reloadable value
+            binding.toProvider(provider);
+        } else if (value != null) {
             binding.toInstance(value);
         } else {
             binding.toProvider(Providers.of(null));
@@ -0,0 +1,169 @@
+package ru.vyarus.dropwizard.guice.module.yaml.bind;
+
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.ConstructorBinding;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.ProviderInstanceBinding;
+import com.google.inject.spi.ProviderKeyBinding;
+import com.google.inject.spi.StaticInjectionRequest;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Searches for configuration paths, referenced with {@code @Config("path")} qualifier in injection points.
+ * Injection points of provided classes (extensions, commands) and all classes from modules elements (binding
+ * targets, providers, injection requests) are checked. Injection point dependencies are checked transitively
+ * (for classes which could be instantiated by guice with JIT binding).
+ * <p>
+ * Classes from jdk, guice, dropwizard and jersey packages are not checked.
+ * <p>
+ * Internal api.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public final class ConfigReferencesScanner {
+
+    private static final String[] IGNORED_PACKAGES = {"java.", "javax.", "jakarta.", "com.google.",
+            "io.dropwizard.", "org.glassfish.", "org.eclipse.jetty.", "com.fasterxml.", "com.codahale."};
+
+    private final Set<Class<?>> processed = new HashSet<>();
+    private final Deque<Class<?>> queue = new ArrayDeque<>();
+    private final Set<String> paths = new HashSet<>();
+
+    private ConfigReferencesScanner() {
+    }
+
+    /**
+     * @param types    classes to check (e.g. extensions)
+     * @param elements modules elements
+     * @return all referenced configuration paths
+     */
+    public static Set<String> findReferencedPaths(final Collection<Class<?>> types, final List<Element> elements) {
+        final ConfigReferencesScanner scanner = new ConfigReferencesScanner();
+        types.forEach(scanner::enqueue);
+        scanner.processElements(elements);
+        while (!scanner.queue.isEmpty()) {
+            scanner.processType(scanner.queue.poll());
+        }
+        return scanner.paths;
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private void processElements(final List<Element> elements) {
+        for (Element element : elements) {
+            if (element instanceof Binding) {
+                final Binding<?> binding = (Binding<?>) element;
+                enqueue(binding.getKey().getTypeLiteral().getRawType());
+                if (binding instanceof LinkedKeyBinding) {
+                    enqueue(((LinkedKeyBinding<?>) binding).getLinkedKey().getTypeLiteral().getRawType());
+                } else if (binding instanceof ProviderKeyBinding) {
+                    enqueue(((ProviderKeyBinding<?>) binding).getProviderKey().getTypeLiteral().getRawType());
+                } else if (binding instanceof ProviderInstanceBinding) {
+                    enqueue(((ProviderInstanceBinding<?>) binding).getUserSuppliedProvider().getClass());
+                } else if (binding instanceof InstanceBinding) {
+                    enqueue(((InstanceBinding<?>) binding).getInstance().getClass());
+                } else if (binding instanceof ConstructorBinding) {
+                    enqueue(((ConstructorBinding<?>) binding).getConstructor().getDeclaringType().getRawType());
+                }
+                // provider methods (@Provides) declare dependencies directly
+                processDependencies(binding);
+            } else if (element instanceof InjectionRequest) {
+                enqueue(((InjectionRequest<?>) element).getType().getRawType());
+            } else if (element instanceof StaticInjectionRequest) {
+                try {
+                    ((StaticInjectionRequest) element).getInjectionPoints().forEach(this::processInjectionPoint);
+                } catch (ConfigurationException ex) {
+                    // ignore: guice will report problem on injector creation
+                }
+            } else if (element instanceof PrivateElements) {
+                processElements(((PrivateElements) element).getElements());
+            }
+        }
+    }
+
+    private void processDependencies(final Binding<?> binding) {
+        if (binding instanceof HasDependencies) {
+            for (Dependency<?> dep : ((HasDependencies) binding).getDependencies()) {
+                processKey(dep.getKey());
+            }
+        }
+    }
+
+    private void processType(final Class<?> type) {
+        if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+            try {
+                processInjectionPoint(InjectionPoint.forConstructorOf(type));
+            } catch (ConfigurationException ex) {
+                // no injectable constructor
+            }
+        }
+        Set<InjectionPoint> points;
+        try {
+            points = InjectionPoint.forInstanceMethodsAndFields(type);
+        } catch (ConfigurationException ex) {
+            points = ex.getPartialValue();
+        }
+        if (points != null) {
+            points.forEach(this::processInjectionPoint);
+        }
+    }
+
+    private void processInjectionPoint(final InjectionPoint point) {
+        for (Dependency<?> dep : point.getDependencies()) {
+            processKey(dep.getKey());
+        }
+    }
+
+    private void processKey(final Key<?> key) {
+        final Annotation qualifier = key.getAnnotation();
+        if (qualifier instanceof Config && !((Config) qualifier).value().isEmpty()) {
+            paths.add(((Config) qualifier).value());
+        }
+        final TypeLiteral<?> type = key.getTypeLiteral();
+        enqueue(type.getRawType());
+        // Provider<Type>, List<Type> etc.
+        if (type.getType() instanceof ParameterizedType) {
+            for (Type param : ((ParameterizedType) type.getType()).getActualTypeArguments()) {
+                if (param instanceof Class) {
+                    enqueue((Class<?>) param);
+                }
+            }
+        }
+    }
+
+    private void enqueue(final Class<?> type) {
+        if (!type.isPrimitive() && !type.isArray() && !isIgnored(type) && processed.add(type)) {
+            queue.add(type);
+        }
+    }
+
+    private boolean isIgnored(final Class<?> type) {
+        final String name = type.getName();
+        for (String pkg : IGNORED_PACKAGES) {
+            if (name.startsWith(pkg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
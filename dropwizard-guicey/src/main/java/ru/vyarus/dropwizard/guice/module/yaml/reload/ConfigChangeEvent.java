@@ -0,0 +1,82 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Configuration reload event. Contains changed paths (value paths with changed values, appeared or
+ * disappeared paths and all custom object paths containing changed paths).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class ConfigChangeEvent {
+
+    private final ConfigurationTree oldTree;
+    private final ConfigurationTree newTree;
+    private final Set<String> changedPaths;
+
+    public ConfigChangeEvent(final ConfigurationTree oldTree,
+                             final ConfigurationTree newTree,
+                             final Set<String> changedPaths) {
+        this.oldTree = oldTree;
+        this.newTree = newTree;
+        this.changedPaths = Collections.unmodifiableSet(changedPaths);
+    }
+
+    /**
+     * @return configuration tree before reload
+     */
+    public ConfigurationTree getOldTree() {
+        return oldTree;
+    }
+
+    /**
+     * @return configuration tree after reload
+     */
+    public ConfigurationTree getNewTree() {
+        return newTree;
+    }
+
+    /**
+     * @return changed paths (sorted)
+     */
+    public Set<String> getChangedPaths() {
+        return changedPaths;
+    }
+
+    /**
+     * @return true if any configuration value was changed
+     */
+    public boolean isChanged() {
+        return !changedPaths.isEmpty();
+    }
+
+    /**
+     * @param path configuration path
+     * @return true if path value was changed
+     */
+    public boolean isChanged(final String path) {
+        return changedPaths.contains(path);
+    }
+
+    /**
+     * @param path configuration path
+     * @param <T>  value type
+     * @return value before reload (or null)
+     */
+    public <T> T getOldValue(final String path) {
+        return oldTree.valueByPath(path);
+    }
+
+    /**
+     * @param path configuration path
+     * @param <T>  value type
+     * @return value after reload (or null)
+     */
+    public <T> T getNewValue(final String path) {
+        return newTree.valueByPath(path);
+    }
+}
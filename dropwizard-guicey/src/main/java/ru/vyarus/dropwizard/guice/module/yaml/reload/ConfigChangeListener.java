@@ -0,0 +1,19 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+/**
+ * Configuration changes listener. Called after configuration reload, only when some values were changed.
+ * Register with {@link ReloadableConfiguration#listen(ConfigChangeListener)}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * Called after configuration reload (new values are already available).
+     *
+     * @param event changes event
+     */
+    void onChange(ConfigChangeEvent event);
+}
@@ -0,0 +1,128 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches configuration file changes (with NIO {@link WatchService}) and reloads configuration. Reload is performed
+ * after "quiet period" (no more file modifications) to avoid reading partially written file.
+ * <p>
+ * Symlinked configuration files are also supported: kubernetes ConfigMap volume file is a symlink to
+ * {@code ..data/config.yml}, where {@code ..data} is itself a symlink, atomically replaced on ConfigMap update
+ * (file itself is not modified and so there is no file event). File target (real path) is checked on each
+ * directory event and configuration reloaded when target changes. Note that only the file directory is watched,
+ * so symlinks pointing to other directories are detected only together with events in file directory.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class ConfigFileWatcher implements Managed {
+
+    private final Logger logger = LoggerFactory.getLogger(ConfigFileWatcher.class);
+
+    private final ReloadableConfiguration config;
+    private final Duration delay;
+
+    private WatchService watchService;
+    private Thread thread;
+    private Path target;
+
+    /**
+     * @param config reloadable configuration
+     * @param delay  quiet period before reload
+     */
+    public ConfigFileWatcher(final ReloadableConfiguration config, final Duration delay) {
+        this.config = config;
+        this.delay = delay;
+    }
+
+    @Override
+    public void start() throws Exception {
+        final Path file = Paths.get(config.getConfigPath()).toAbsolutePath();
+        if (!Files.isRegularFile(file)) {
+            logger.warn("Configuration file {} not found: file changes will not be watched", file);
+            return;
+        }
+        target = resolveTarget(file);
+        watchService = file.getFileSystem().newWatchService();
+        file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        thread = new Thread(() -> watch(file), "guicey-config-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.debug("Watching configuration file {} changes", file);
+    }
+
+    @Override
+    public void stop() throws Exception {
+        if (watchService != null) {
+            watchService.close();
+            thread.interrupt();
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void watch(final Path file) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (isChanged(watchService.take(), file)) {
+                    // wait for quiet period
+                    WatchKey next = watchService.poll(delay.toMillis(), TimeUnit.MILLISECONDS);
+                    while (next != null) {
+                        isChanged(next, file);
+                        next = watchService.poll(delay.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                    target = resolveTarget(file);
+                    try {
+                        config.reload();
+                    } catch (Exception ex) {
+                        logger.error("Configuration reload failed (old configuration remains active)", ex);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isChanged(final WatchKey key, final Path file) {
+        boolean res = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (file.getFileName().equals(event.context())) {
+                res = true;
+            }
+        }
+        key.reset();
+        // symlink target change (e.g. kubernetes ConfigMap "..data" symlink swap)
+        if (!res) {
+            final Path current = resolveTarget(file);
+            res = current != null && !current.equals(target);
+        }
+        return res;
+    }
+
+    /**
+     * @param file configuration file
+     * @return real file path (with resolved symlinks) or null if file is not available (e.g. during symlink swap)
+     */
+    private Path resolveTarget(final Path file) {
+        try {
+            return file.toRealPath();
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+}
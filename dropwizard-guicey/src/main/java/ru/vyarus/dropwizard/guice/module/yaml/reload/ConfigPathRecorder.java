@@ -0,0 +1,36 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import io.dropwizard.configuration.ConfigurationSourceProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Configuration source provider wrapper, remembering opened configuration path (dropwizard does not store
+ * configuration file path).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class ConfigPathRecorder implements ConfigurationSourceProvider {
+
+    private final ConfigurationSourceProvider delegate;
+    private volatile String path;
+
+    ConfigPathRecorder(final ConfigurationSourceProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public InputStream open(final String path) throws IOException {
+        this.path = path;
+        return delegate.open(path);
+    }
+
+    /**
+     * @return last opened configuration path or null
+     */
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,116 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import com.google.common.base.Preconditions;
+import io.dropwizard.core.setup.Bootstrap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.GuiceyOptions;
+import ru.vyarus.dropwizard.guice.module.context.unique.item.UniqueGuiceyBundle;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
+
+import java.time.Duration;
+
+/**
+ * Enables configuration reload without application restart. Configuration could be reloaded with admin task
+ * ({@code POST /tasks/reload-config}, enabled by default) or automatically on configuration file change
+ * ({@link #watchFile()}).
+ * <p>
+ * When enabled, configuration bindings (configuration object, unique sub configurations, {@code @Config("path")}
+ * values) are bound with providers returning current values. Inject {@code Provider} to always get actual value:
+ * {@code @Inject @Config("limit") Provider<Integer> limit}. Use {@link ReloadableConfiguration} to access
+ * current configuration, current {@link ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree} and to
+ * subscribe for changes ({@link ReloadableConfiguration#listen(ConfigChangeListener)}).
+ * <p>
+ * Configuration file path is remembered from configuration parsing (using wrapped
+ * {@link io.dropwizard.configuration.ConfigurationSourceProvider}). If configuration source provider is changed
+ * after guice bundle registration, specify configuration path manually with {@link #configFile(String)}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class ConfigReloadBundle extends UniqueGuiceyBundle {
+
+    private final Logger logger = LoggerFactory.getLogger(ConfigReloadBundle.class);
+
+    private String configFile;
+    private boolean task = true;
+    private Duration watchDelay;
+
+    private Bootstrap<?> bootstrap;
+    private ConfigPathRecorder recorder;
+
+    /**
+     * Specify configuration file path manually (by default path is remembered on configuration parsing).
+     *
+     * @param path configuration file path
+     * @return bundle instance for chained calls
+     */
+    public ConfigReloadBundle configFile(final String path) {
+        this.configFile = path;
+        return this;
+    }
+
+    /**
+     * Disable admin task registration (enabled by default).
+     *
+     * @return bundle instance for chained calls
+     */
+    public ConfigReloadBundle noTask() {
+        this.task = false;
+        return this;
+    }
+
+    /**
+     * Reload configuration on configuration file change with 500ms quiet period.
+     *
+     * @return bundle instance for chained calls
+     */
+    public ConfigReloadBundle watchFile() {
+        return watchFile(Duration.ofMillis(500));
+    }
+
+    /**
+     * Reload configuration on configuration file change. Reload is performed after quiet period (when no
+     * file changes appear during delay) to avoid reading partially written file.
+     *
+     * @param delay quiet period before reload
+     * @return bundle instance for chained calls
+     */
+    public ConfigReloadBundle watchFile(final Duration delay) {
+        Preconditions.checkArgument(!delay.isNegative(), "Delay can't be negative");
+        this.watchDelay = delay;
+        return this;
+    }
+
+    @Override
+    public void initialize(final GuiceyBootstrap bootstrap) {
+        this.bootstrap = bootstrap.bootstrap();
+        if (configFile == null) {
+            recorder = new ConfigPathRecorder(this.bootstrap.getConfigurationSourceProvider());
+            this.bootstrap.setConfigurationSourceProvider(recorder);
+        }
+    }
+
+    @Override
+    public void run(final GuiceyEnvironment environment) throws Exception {
+        final String path = configFile != null ? configFile : recorder.getPath();
+        final ReloadableConfiguration config = new ReloadableConfiguration(bootstrap,
+                environment.configuration(), environment.configurationTree(), path,
+                environment.option(GuiceyOptions.BindConfigurationByPath),
+                environment.option(GuiceyOptions.ParallelConfigIntrospection));
+        // configuration bindings module would use it
+        environment.shareState(ReloadableConfiguration.class, config);
+
+        if (path == null) {
+            logger.warn("Configuration can't be reloaded: application started without configuration file");
+            return;
+        }
+        if (task) {
+            environment.environment().admin().addTask(new ConfigReloadTask(config));
+        }
+        if (watchDelay != null) {
+            environment.manage(new ConfigFileWatcher(config, watchDelay));
+        }
+    }
+}
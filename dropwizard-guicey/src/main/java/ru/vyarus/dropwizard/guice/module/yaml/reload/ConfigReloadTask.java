@@ -0,0 +1,40 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import io.dropwizard.servlets.tasks.Task;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin task for configuration reload: {@code POST /tasks/reload-config}. Prints changed paths.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class ConfigReloadTask extends Task {
+
+    /**
+     * Task name.
+     */
+    public static final String NAME = "reload-config";
+
+    private final ReloadableConfiguration config;
+
+    public ConfigReloadTask(final ReloadableConfiguration config) {
+        super(NAME);
+        this.config = config;
+    }
+
+    @Override
+    public void execute(final Map<String, List<String>> parameters, final PrintWriter output) throws Exception {
+        final ConfigChangeEvent event = config.reload();
+        if (event.isChanged()) {
+            output.println("Changed configuration paths:");
+            event.getChangedPaths().forEach(path -> output.println("    " + path));
+        } else {
+            output.println("No configuration changes");
+        }
+        output.flush();
+    }
+}
@@ -0,0 +1,218 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import io.dropwizard.configuration.ConfigurationFactory;
+import io.dropwizard.core.Configuration;
+import io.dropwizard.core.setup.Bootstrap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reloadable configuration holder. Holds current configuration object and {@link ConfigurationTree}. Reload
+ * re-parses configuration file (with the same dropwizard configuration factory, so environment variables
+ * substitution and system properties overrides are also applied), compares old and new trees and notifies
+ * {@link ConfigChangeListener}s (only if some paths were changed).
+ * <p>
+ * When reload enabled (with {@link ConfigReloadBundle}), configuration bindings (including
+ * {@code @Config("path")} values) are bound with providers, returning current values. Use
+ * {@code @Inject @Config("path") Provider<Integer> value} to always get the actual value (direct value injection
+ * would provide value actual at injection time). Reload can't change bindings: new configuration paths (e.g.
+ * appeared due to different type of property value) could be accessed only through {@link #getTree()}.
+ * <p>
+ * Available for injection as {@code @Inject ReloadableConfiguration config} (only when reload is enabled).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class ReloadableConfiguration {
+
+    private final Logger logger = LoggerFactory.getLogger(ReloadableConfiguration.class);
+
+    private final Bootstrap bootstrap;
+    private final String configPath;
+    private final boolean introspect;
+    private final boolean parallel;
+    private final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Configuration configuration;
+    private volatile ConfigurationTree tree;
+    private final AtomicInteger reloads = new AtomicInteger();
+
+    /**
+     * @param bootstrap     bootstrap instance
+     * @param configuration startup configuration instance
+     * @param tree          startup configuration tree
+     * @param configPath    configuration file path (may be null when application started without configuration
+     *                      file)
+     * @param introspect    true to introspect configuration (false when introspection disabled with
+     *                      {@link ru.vyarus.dropwizard.guice.GuiceyOptions#BindConfigurationByPath})
+     * @param parallel      true to introspect reloaded configuration sub-trees in parallel
+     *                      ({@link ru.vyarus.dropwizard.guice.GuiceyOptions#ParallelConfigIntrospection})
+     */
+    public ReloadableConfiguration(final Bootstrap bootstrap,
+                                   final Configuration configuration,
+                                   final ConfigurationTree tree,
+                                   final String configPath,
+                                   final boolean introspect,
+                                   final boolean parallel) {
+        this.bootstrap = bootstrap;
+        this.configuration = configuration;
+        this.tree = tree;
+        this.configPath = configPath;
+        this.introspect = introspect;
+        this.parallel = parallel;
+    }
+
+    /**
+     * @param <T> configuration type
+     * @return current configuration instance
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Configuration> T getConfiguration() {
+        return (T) configuration;
+    }
+
+    /**
+     * @return current configuration tree
+     */
+    public ConfigurationTree getTree() {
+        return tree;
+    }
+
+    /**
+     * @return configuration file path or null if application started without configuration file
+     */
+    public String getConfigPath() {
+        return configPath;
+    }
+
+    /**
+     * @return count of performed reloads (including reloads without changes)
+     */
+    public int getReloadsCount() {
+        return reloads.get();
+    }
+
+    /**
+     * Register configuration changes listener. Listener is called only when configuration values were changed.
+     *
+     * @param listener listener
+     * @return reloadable configuration instance for chained calls
+     */
+    public ReloadableConfiguration listen(final ConfigChangeListener listener) {
+        listeners.add(Preconditions.checkNotNull(listener, "Listener required"));
+        return this;
+    }
+
+    /**
+     * Re-read configuration file. On error (e.g. validation error) old configuration remains active.
+     * Listeners are notified only when some values were changed (listeners errors are logged).
+     *
+     * @return changes event (may contain no changes)
+     * @throws Exception on configuration file parse error
+     */
+    @SuppressWarnings({"unchecked", "PMD.AvoidCatchingGenericException"})
+    public synchronized ConfigChangeEvent reload() throws Exception {
+        Preconditions.checkState(configPath != null,
+                "Configuration can't be reloaded: application started without configuration file");
+        final ConfigurationFactory<? extends Configuration> factory = bootstrap.getConfigurationFactoryFactory()
+                .create(configuration.getClass(), bootstrap.getValidatorFactory().getValidator(),
+                        bootstrap.getObjectMapper(), "dw");
+        final Configuration updated = factory.build(bootstrap.getConfigurationSourceProvider(), configPath);
+        final ConfigurationTree updatedTree = ConfigTreeBuilder.build(bootstrap, updated, introspect, parallel);
+
+        final ConfigChangeEvent event = new ConfigChangeEvent(tree, updatedTree,
+                findChangedPaths(tree, updatedTree, bootstrap.getObjectMapper()));
+        this.configuration = updated;
+        this.tree = updatedTree;
+        reloads.incrementAndGet();
+        if (event.isChanged()) {
+            logger.info("Configuration reloaded from {}. Changed paths: {}", configPath, event.getChangedPaths());
+            for (ConfigChangeListener listener : listeners) {
+                try {
+                    listener.onChange(event);
+                } catch (Exception ex) {
+                    logger.error("Configuration change listener " + listener + " failed", ex);
+                }
+            }
+        } else {
+            logger.info("Configuration reloaded from {} without changes", configPath);
+        }
+        return event;
+    }
+
+    /**
+     * Compare configuration trees. Value paths are compared by values (objects are compared as json, if not
+     * equal). Custom object paths are considered changed if any sub path was changed. Appeared and disappeared
+     * paths are also considered changed.
+     *
+     * @param old     old tree
+     * @param updated new tree
+     * @param mapper  object mapper
+     * @return changed paths (sorted)
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    static Set<String> findChangedPaths(final ConfigurationTree old,
+                                        final ConfigurationTree updated,
+                                        final ObjectMapper mapper) {
+        final Map<String, ConfigPath> before = index(old);
+        final Map<String, ConfigPath> after = index(updated);
+        final Set<String> all = new HashSet<>(before.keySet());
+        all.addAll(after.keySet());
+
+        final Set<String> res = new TreeSet<>();
+        for (String path : all) {
+            final ConfigPath was = before.get(path);
+            final ConfigPath now = after.get(path);
+            if (was == null || now == null
+                    || !was.isCustomType() && !now.isCustomType() && !sameValue(was.getValue(), now.getValue(),
+                    mapper)) {
+                res.add(path);
+            }
+        }
+        // mark containing objects as changed
+        for (String path : new TreeSet<>(res)) {
+            int idx = path.lastIndexOf('.');
+            while (idx > 0) {
+                final String root = path.substring(0, idx);
+                if (before.containsKey(root) || after.containsKey(root)) {
+                    res.add(root);
+                }
+                idx = root.lastIndexOf('.');
+            }
+        }
+        return res;
+    }
+
+    private static Map<String, ConfigPath> index(final ConfigurationTree tree) {
+        final Map<String, ConfigPath> res = new HashMap<>();
+        tree.getPaths().forEach(path -> res.put(path.getPath(), path));
+        return res;
+    }
+
+    private static boolean sameValue(final Object one, final Object two, final ObjectMapper mapper) {
+        if (one == null || two == null || Objects.deepEquals(one, two)) {
+            return Objects.deepEquals(one, two);
+        }
+        try {
+            // objects without equals implementation (e.g. list of connector factories)
+            return mapper.valueToTree(one).equals(mapper.valueToTree(two));
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+}
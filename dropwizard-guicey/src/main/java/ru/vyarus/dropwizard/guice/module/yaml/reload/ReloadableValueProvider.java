@@ -0,0 +1,127 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import com.google.common.primitives.Primitives;
+import com.google.inject.Provider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Provider for configuration bindings (used instead of instance bindings when configuration reload enabled):
+ * always returns value from current configuration.
+ * <p>
+ * Binding type is computed at startup (for properties declared as {@code Object} it is the type of startup value),
+ * so reloaded value may be incompatible with binding. In this case previous value is returned (and warning
+ * is logged).
+ *
+ * @param <T> value type
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public final class ReloadableValueProvider<T> implements Provider<T> {
+
+    private final Logger logger = LoggerFactory.getLogger(ReloadableValueProvider.class);
+
+    private final ReloadableConfiguration config;
+    private final Collection<String> paths;
+    private final boolean aggregate;
+    private final Class<?> type;
+
+    private volatile T last;
+    private volatile ConfigurationTree reported;
+
+    private ReloadableValueProvider(final ReloadableConfiguration config,
+                                    final Collection<String> paths,
+                                    final boolean aggregate,
+                                    final Class<?> type) {
+        this.config = config;
+        this.paths = paths;
+        this.aggregate = aggregate;
+        this.type = Primitives.wrap(type);
+        this.last = compute();
+    }
+
+    /**
+     * @param config reloadable configuration
+     * @param <T>    value type
+     * @return provider of root configuration object
+     */
+    public static <T> ReloadableValueProvider<T> root(final ReloadableConfiguration config) {
+        return new ReloadableValueProvider<>(config, null, false, config.getConfiguration().getClass());
+    }
+
+    /**
+     * @param config reloadable configuration
+     * @param path   configuration path
+     * @param type   declared value type (binding type)
+     * @param <T>    value type
+     * @return provider of configuration path value
+     */
+    public static <T> ReloadableValueProvider<T> path(final ReloadableConfiguration config,
+                                                      final String path,
+                                                      final Class<?> type) {
+        return new ReloadableValueProvider<>(config, Set.of(path), false, type);
+    }
+
+    /**
+     * @param config reloadable configuration
+     * @param paths  configuration paths
+     * @param type   declared values type (type of set elements)
+     * @param <T>    value type
+     * @return provider of configuration paths values aggregated into set
+     */
+    public static <T> ReloadableValueProvider<T> paths(final ReloadableConfiguration config,
+                                                       final Collection<String> paths,
+                                                       final Class<?> type) {
+        return new ReloadableValueProvider<>(config, paths, true, type);
+    }
+
+    @Override
+    public T get() {
+        final ConfigurationTree tree = config.getTree();
+        final T res = compute();
+        if (isCompatible(res)) {
+            last = res;
+            return res;
+        }
+        // warn once per configuration
+        if (reported != tree) {
+            reported = tree;
+            logger.warn("Reloaded configuration value of {} is not compatible with declared type {}: {}. Previous "
+                    + "value used instead.", this, type.getName(), res);
+        }
+        return last;
+    }
+
+    @Override
+    public String toString() {
+        return "reloadable " + (paths == null ? "configuration" : String.join(", ", paths));
+    }
+
+    @SuppressWarnings("unchecked")
+    private T compute() {
+        final T res;
+        if (paths == null) {
+            res = (T) config.getConfiguration();
+        } else if (aggregate) {
+            res = (T) paths.stream().map(path -> config.getTree().valueByPath(path)).collect(Collectors.toSet());
+        } else {
+            res = config.getTree().valueByPath(paths.iterator().next());
+        }
+        return res;
+    }
+
+    private boolean isCompatible(final T value) {
+        final boolean res;
+        if (aggregate) {
+            res = ((Set<?>) value).stream().allMatch(item -> item == null || type.isInstance(item));
+        } else {
+            res = value == null || type.isInstance(value);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,147 @@
+package ru.vyarus.dropwizard.guice
+
+import com.google.inject.AbstractModule
+import com.google.inject.Injector
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import org.eclipse.jetty.util.component.LifeCycle
+import ru.vyarus.dropwizard.guice.injector.LazySingletonsInjectorFactory
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.test.TestSupport
+
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class LazySingletonsTest extends AbstractTest {
+
+    static List<String> created = new CopyOnWriteArrayList<>()
+    static List<String> createdBeforeStart = new CopyOnWriteArrayList<>()
+    static CountDownLatch latch
+    static LazySingletonsInjectorFactory factory
+
+    void setup() {
+        created.clear()
+        createdBeforeStart.clear()
+        latch = new CountDownLatch(1)
+    }
+
+    def "Check singletons warm up after startup"() {
+
+        when: "starting app"
+        Map<String, Boolean> health = [:]
+        TestSupport.runCoreApp(App, null, { Injector injector ->
+            Environment environment = injector.getInstance(Environment)
+            health.inProgress = environment.healthChecks()
+                    .runHealthCheck(LazySingletonsInjectorFactory.HEALTH_CHECK).healthy
+            latch.countDown()
+            factory.warmUp.get(5, TimeUnit.SECONDS)
+            health.completed = environment.healthChecks()
+                    .runHealthCheck(LazySingletonsInjectorFactory.HEALTH_CHECK).healthy
+            injector.getInstance(Slow)
+        })
+
+        then: "only critical singletons created before startup"
+        createdBeforeStart as Set == ['Eager', 'Ext', 'Critical'] as Set
+
+        and: "all singletons created once"
+        created.count { it == 'Eager' } == 1
+        created.count { it == 'Ext' } == 1
+        created.count { it == 'Critical' } == 1
+        created.count { it == 'Slow' } == 1
+        created.count { it == 'Dependant' } == 1
+        created.indexOf('Slow') < created.indexOf('Dependant')
+
+        and: "health check reflects warm-up state"
+        !health.inProgress
+        health.completed
+        factory.singletonsCount >= 2
+        factory.warmedUpCount == factory.singletonsCount
+    }
+
+    def "Check warm up cancelled on shutdown"() {
+
+        when: "stopping app before warm-up completion"
+        TestSupport.runCoreApp(App, null, { Injector injector ->
+            assert !factory.warmUp.done
+        })
+
+        then: "warm-up cancelled"
+        factory.warmUp.completedExceptionally
+        !created.contains('Slow')
+        !created.contains('Dependant')
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            factory = new LazySingletonsInjectorFactory(2).critical(Critical)
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(Ext)
+                    .modules(new Module())
+                    .injectorFactory(factory)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+            environment.lifecycle().addEventListener(new LifeCycle.Listener() {
+                @Override
+                void lifeCycleStarting(LifeCycle event) {
+                    createdBeforeStart.addAll(created)
+                }
+            })
+        }
+    }
+
+    static class Module extends AbstractModule {
+        @Override
+        protected void configure() {
+            bind(Eager).asEagerSingleton()
+            bind(Slow).in(Singleton)
+            bind(Dependant).in(Singleton)
+            bind(Critical).in(Singleton)
+        }
+    }
+
+    static class Eager {
+        Eager() {
+            created.add('Eager')
+        }
+    }
+
+    @EagerSingleton
+    static class Ext {
+        Ext() {
+            created.add('Ext')
+        }
+    }
+
+    static class Critical {
+        Critical() {
+            created.add('Critical')
+        }
+    }
+
+    static class Slow {
+        Slow() {
+            latch.await(5, TimeUnit.SECONDS)
+            created.add('Slow')
+        }
+    }
+
+    static class Dependant {
+        @Inject
+        Dependant(Slow slow) {
+            created.add('Dependant')
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package ru.vyarus.dropwizard.guice
+
+import com.google.inject.AbstractModule
+import com.google.inject.Injector
+import com.google.inject.Stage
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.injector.ParallelEagerSingletonsInjectorFactory
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.test.TestSupport
+
+import jakarta.inject.Inject
+import jakarta.inject.Provider
+import jakarta.inject.Singleton
+import java.util.concurrent.CopyOnWriteArrayList
+
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.*
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class ParallelEagerSingletonsTest extends AbstractTest {
+
+    static List<String> created = new CopyOnWriteArrayList<>()
+
+    void setup() {
+        created.clear()
+    }
+
+    def "Check singletons created in parallel in production stage"() {
+
+        when: "starting app"
+        GuiceyConfigurationInfo info = TestSupport.runCoreApp(ProductionApp, null, { Injector injector ->
+            // beans are not created twice
+            injector.getInstance(Eager)
+            injector.getInstance(Prototype)
+            injector.getInstance(GuiceyConfigurationInfo)
+        })
+
+        then: "all singletons created once"
+        created.count { it == 'Base' } == 1
+        created.count { it == 'Eager' } == 1
+        created.count { it == 'Ext' } == 1
+        created.count { it == 'Singleton' } == 1
+        created.count { it == 'Cycle' } == 1
+
+        and: "dependencies created first"
+        created.indexOf('Base') < created.indexOf('Eager')
+        created.indexOf('Base') < created.indexOf('Ext')
+        created.indexOf('Eager') < created.indexOf('Singleton')
+
+        and: "stats collected"
+        info.stats.count(ParallelSingletonsCount) >= 5
+        info.stats.time(ParallelSingletonsTime) >= 50
+        info.stats.time(ParallelSingletonsCumulativeTime) >= 50
+        info.stats.humanTime(ParallelSingletonsTime) ==~ /[\d.]+ ms/
+        info.stats.humanTime(ParallelSingletonsCumulativeTime) ==~ /[\d.]+ ms/
+    }
+
+    def "Check only eager singletons created in development stage"() {
+
+        when: "starting app"
+        GuiceyConfigurationInfo info = TestSupport.runCoreApp(DevelopmentApp, null, { Injector injector ->
+            assert injector.getInstance(Stage) == Stage.DEVELOPMENT
+            injector.getInstance(GuiceyConfigurationInfo)
+        })
+
+        then: "only eager singletons created"
+        created.count { it == 'Base' } == 1
+        created.count { it == 'Eager' } == 1
+        created.count { it == 'Ext' } == 1
+        !created.contains('Singleton')
+        !created.contains('Cycle')
+        created.indexOf('Base') < created.indexOf('Eager')
+
+        and: "stats collected"
+        info.stats.count(ParallelSingletonsCount) >= 3
+    }
+
+    static class ProductionApp extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(Ext)
+                    .modules(new Module())
+                    .injectorFactory(new ParallelEagerSingletonsInjectorFactory(4))
+                    .printDiagnosticInfo()
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class DevelopmentApp extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(Ext)
+                    .modules(new Module())
+                    .injectorFactory(new ParallelEagerSingletonsInjectorFactory(4))
+                    .build(Stage.DEVELOPMENT))
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Module extends AbstractModule {
+        @Override
+        protected void configure() {
+            bind(Base).asEagerSingleton()
+            bind(Eager).asEagerSingleton()
+            bind(SingletonBean).in(Singleton)
+            bind(Cycle).in(Singleton)
+        }
+    }
+
+    static class Base {
+        Base() {
+            sleep(50)
+            created.add('Base')
+        }
+    }
+
+    static class Eager {
+        @Inject
+        Eager(Prototype prototype) {
+            created.add('Eager')
+        }
+    }
+
+    // dependency through prototype
+    static class Prototype {
+        @Inject
+        Prototype(Base base) {
+        }
+    }
+
+    @EagerSingleton
+    static class Ext {
+        @Inject
+        Ext(Base base) {
+            created.add('Ext')
+        }
+    }
+
+    static class SingletonBean {
+        @Inject
+        SingletonBean(Eager eager, Provider<Cycle> cycle) {
+            created.add('Singleton')
+        }
+    }
+
+    static class Cycle {
+        @Inject
+        Cycle(SingletonBean bean) {
+            created.add('Cycle')
+        }
+    }
+}
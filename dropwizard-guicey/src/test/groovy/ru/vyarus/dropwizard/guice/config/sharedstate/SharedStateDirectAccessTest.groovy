@@ -86,7 +86,7 @@ class SharedStateDirectAccessTest extends Specification {
             assert state
             assert state.bootstrap.get()
             assert state.environment.get()
-            noInjector(state)
+            assert state.injector.get()
         }
 
         @Override
@@ -0,0 +1,91 @@
+package ru.vyarus.dropwizard.guice.debug
+
+import com.codahale.metrics.Gauge
+import com.codahale.metrics.MetricRegistry
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.google.inject.AbstractModule
+import com.google.inject.Injector
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import io.dropwizard.lifecycle.Managed
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.debug.report.stat.StartupMetrics
+import ru.vyarus.dropwizard.guice.test.TestSupport
+import spock.lang.TempDir
+
+import java.nio.file.Path
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class StartupMetricsTest extends AbstractTest {
+
+    static Path file
+
+    @TempDir
+    Path tempDir
+
+    void setup() {
+        file = tempDir.resolve('metrics/startup.json')
+    }
+
+    def "Check startup metrics export"() {
+
+        when: "starting app with metrics export"
+        MetricRegistry registry = TestSupport.runCoreApp(App, null, { Injector injector ->
+            injector.getInstance(Environment).metrics()
+        })
+
+        then: "gauges registered"
+        gauge(registry, 'timers.GuiceyTime') > 0
+        gauge(registry, 'timers.RunTime') >= 0
+        gauge(registry, 'counters.BindingsCount') > 0
+        gauge(registry, 'items.extensions') == 1
+        gauge(registry, 'items.modules') > 0
+        gauge(registry, 'items.bindings') > 0
+        registry.getGauges().keySet().any { it.startsWith('guicey.startup.guice.') }
+
+        and: "json written"
+        Map<String, Map<String, Integer>> json = new ObjectMapper().readValue(file.toFile(), Map)
+        json.keySet() == [StartupMetrics.TIMERS, StartupMetrics.COUNTERS,
+                          StartupMetrics.GUICE, StartupMetrics.ITEMS] as Set
+        json.timers.GuiceyTime == gauge(registry, 'timers.GuiceyTime')
+        json.items.extensions == 1
+    }
+
+    private static long gauge(MetricRegistry registry, String name) {
+        (registry.getGauges().get(StartupMetrics.PREFIX + '.' + name) as Gauge<Long>).value
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .modules(new Module())
+                    .extensions(Ext)
+                    .exportStartupMetrics(file.toString())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Module extends AbstractModule {
+        @Override
+        protected void configure() {
+            bind(Service)
+        }
+    }
+
+    static class Service {
+    }
+
+    static class Ext implements Managed {
+    }
+}
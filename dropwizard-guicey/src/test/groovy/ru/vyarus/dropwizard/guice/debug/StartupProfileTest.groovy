@@ -0,0 +1,173 @@
+package ru.vyarus.dropwizard.guice.debug
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.google.inject.AbstractModule
+import com.google.inject.Injector
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.ConfiguredBundle
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import io.dropwizard.lifecycle.Managed
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.debug.report.stat.StatsRenderer
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.ProfileSpan
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupProfiler
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment
+import ru.vyarus.dropwizard.guice.test.TestSupport
+import spock.lang.TempDir
+
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import java.nio.file.Path
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class StartupProfileTest extends AbstractTest {
+
+    static Path dir
+
+    @TempDir
+    Path tempDir
+
+    void setup() {
+        dir = tempDir
+    }
+
+    def "Check startup profile"() {
+
+        when: "starting app with profiler"
+        Map<String, Object> res = [:]
+        GuiceyConfigurationInfo info = TestSupport.runCoreApp(App, null, { Injector injector ->
+            res.info = injector.getInstance(GuiceyConfigurationInfo)
+            // spans are not recorded after startup
+            res.count = res.info.stats.profileSpans.size()
+            injector.getInstance(Service)
+            res.after = res.info.stats.profileSpans.size()
+            return res.info
+        })
+        List<ProfileSpan> spans = info.stats.profileSpans
+
+        then: "spans recorded"
+        find(spans, StartupProfiler.PHASE, 'configuration')
+        find(spans, StartupProfiler.PHASE, 'run')
+        find(spans, StartupProfiler.PHASE, 'injector creation')
+        find(spans, StartupProfiler.BUNDLE, 'Bundle.initialize')
+        find(spans, StartupProfiler.BUNDLE, 'Bundle.run')
+        find(spans, StartupProfiler.DROPWIZARD_BUNDLE, 'DwBundle.initialize')
+        find(spans, StartupProfiler.DROPWIZARD_BUNDLE, 'DwBundle.run')
+        find(spans, StartupProfiler.MODULE, 'Module.configure')
+        find(spans, StartupProfiler.MODULE, 'GuiceBootstrapModule.configure')
+        find(spans, StartupProfiler.INSTALLER, 'ManagedInstaller.install')
+        find(spans, StartupProfiler.EXTENSION, 'Ext.install')
+        find(spans, StartupProfiler.SINGLETON, 'Ext')
+        find(spans, StartupProfiler.SINGLETON, 'Dep')
+        res.count == res.after
+
+        and: "spans are hierarchical"
+        find(spans, StartupProfiler.BUNDLE, 'Bundle.initialize').parent.name == 'configuration'
+        find(spans, StartupProfiler.SINGLETON, 'Dep').parent.name == 'Ext'
+        find(spans, StartupProfiler.EXTENSION, 'Ext.install').parent.name == 'ManagedInstaller.install'
+        find(spans, StartupProfiler.EXTENSION, 'Ext.install').stack ==
+                'run;ManagedInstaller.install;Ext.install'
+        spans.every { it.stopped && it.selfTime <= it.duration }
+
+        and: "summary rendered"
+        String report = new StatsRenderer(info).renderReport(false)
+        report.contains('PROFILE recorded')
+
+        and: "profile exported"
+        File trace = dir.resolve(StartupProfileDiagnostic.TRACE_FILE).toFile()
+        List<Map> events = new ObjectMapper().readValue(trace, List)
+        events.find { it.name == 'Bundle.initialize' && it.ph == 'X' && it.cat == 'bundle' }
+        events.find { it.ph == 'M' }
+        File stacks = dir.resolve(StartupProfileDiagnostic.STACKS_FILE).toFile()
+        stacks.readLines().find { it.startsWith('configuration;Bundle.initialize ') }
+    }
+
+    def "Check profiler disabled by default"() {
+
+        when: "starting app without profiler"
+        GuiceyConfigurationInfo info = TestSupport.runCoreApp(NoProfileApp, null, { Injector injector ->
+            injector.getInstance(GuiceyConfigurationInfo)
+        })
+
+        then: "no spans"
+        info.stats.profileSpans.isEmpty()
+        !new StatsRenderer(info).renderReport(false).contains('PROFILE')
+    }
+
+    private static ProfileSpan find(List<ProfileSpan> spans, String category, String name) {
+        spans.find { it.category == category && it.name == name }
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new Bundle())
+                    .dropwizardBundles(new DwBundle())
+                    .modules(new Module())
+                    .extensions(Ext)
+                    .exportStartupProfile(dir.toString())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class NoProfileApp extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new Bundle())
+                    .extensions(Ext)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Bundle implements GuiceyBundle {
+        @Override
+        void initialize(GuiceyBootstrap bootstrap) {
+        }
+
+        @Override
+        void run(GuiceyEnvironment environment) throws Exception {
+        }
+    }
+
+    static class DwBundle implements ConfiguredBundle<Configuration> {
+    }
+
+    static class Module extends AbstractModule {
+        @Override
+        protected void configure() {
+            bind(Service)
+        }
+    }
+
+    static class Service {
+    }
+
+    @Singleton
+    static class Dep {
+    }
+
+    @Singleton
+    static class Ext implements Managed {
+        @Inject
+        Dep dep
+    }
+}
@@ -51,9 +51,12 @@ class OptionsRendererTest extends Specification {
         SearchCommands                 = false
         UseCoreInstallers              = true
         BindConfigurationByPath        = true
+        BindOnlyReferencedConfigPaths  = false
+        ParallelConfigIntrospection    = false
         AnalyzeGuiceModules            = true
         InjectorStage                  = PRODUCTION
         GuiceFilterRegistration        = [REQUEST]
+        ProfileStartup                 = false
         UseHkBridge                    = false
 
 
@@ -85,9 +88,12 @@ class OptionsRendererTest extends Specification {
         SearchCommands                 = false
         UseCoreInstallers              = true
         BindConfigurationByPath        = true
+        BindOnlyReferencedConfigPaths  = false
+        ParallelConfigIntrospection    = false
         AnalyzeGuiceModules            = true
         InjectorStage                  = PRODUCTION
         GuiceFilterRegistration        = [REQUEST]
+        ProfileStartup                 = false
         UseHkBridge                    = false
 
 
@@ -138,8 +144,11 @@ class OptionsRendererTest extends Specification {
         SearchCommands                 = false
         UseCoreInstallers              = true
         BindConfigurationByPath        = true
+        BindOnlyReferencedConfigPaths  = false
+        ParallelConfigIntrospection    = false
         AnalyzeGuiceModules            = true
         InjectorStage                  = PRODUCTION
+        ProfileStartup                 = false
         UseHkBridge                    = false
 
 
@@ -47,6 +47,10 @@ class StatRendererFullTest extends BaseDiagnosticTest {
     ├── [3.4%] COMMANDS processed in 12.48 ms
     │   └── registered 2 commands
     │
+    ├── [4.1%] CONFIGURATION introspected in 14.32 ms
+    │   ├── 37 paths resolved
+    │   └── ~10.7 KB retained by tree
+    │
     ├── [11%] MODULES processed in 37.23 ms
     │   ├── 5 modules autowired
     │   ├── 7 elements found in 4 user modules in 33.00 ms
@@ -73,7 +77,10 @@ class StatRendererFullTest extends BaseDiagnosticTest {
     │
     ├── [0.85%] EXTENSIONS installed in 3.616 ms
     │   ├── 3 extensions installed
-    │   └── declared as: 2 manual, 1 scan, 0 binding
+    │   ├── declared as: 2 manual, 1 scan, 0 binding
+    │   └── slowest extensions:
+    │       ├── FooResource in 0.412 ms (0.000 ms instance, 0.000 ms install, 0.412 ms jersey)
+    │       ├── ...
     │
     ├── [0.28%] JERSEY bridged in 1.176 ms
     │   ├── using 2 jersey installers
@@ -100,6 +107,10 @@ class StatRendererFullTest extends BaseDiagnosticTest {
         render.contains("] COMMANDS")
         render.contains("registered 2 commands")
 
+        render.contains("] CONFIGURATION introspected in")
+        render.contains("paths resolved")
+        render.contains("KB retained by tree")
+
         render.contains("] MODULES")
         render.contains("5 modules autowired")
         render.contains("7 elements found in 4 user modules in")
@@ -115,6 +126,7 @@ class StatRendererFullTest extends BaseDiagnosticTest {
         render.contains("] EXTENSIONS")
         render.contains("3 extensions installed")
         render.contains("declared as: 2 manual, 1 scan, 0 binding")
+        render.contains("slowest extensions:")
 
         render.contains("] JERSEY bridged in ")
         render.contains("using 2 jersey installers")
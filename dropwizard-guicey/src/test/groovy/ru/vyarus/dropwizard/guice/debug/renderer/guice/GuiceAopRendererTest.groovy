@@ -85,6 +85,7 @@ class GuiceAopRendererTest extends Specification {
     │   ├── getOverridingModuleIds()                                          Interceptor1
     │   ├── getOverridingModules()                                            Interceptor1
     │   ├── getRelativelyInstalledBundles(Class<? extends Object>)            Interceptor1
+    │   ├── getSlowestExtensions(int)                                         Interceptor1
     │   └── getStats()                                                        Interceptor1
     │
     ├── Service    (r.v.d.g.d.r.g.s.AopModule)
@@ -161,7 +162,8 @@ class GuiceAopRendererTest extends Specification {
     │   ├── getNormalModules()                                                Interceptor1
     │   ├── getOverridingModuleIds()                                          Interceptor1
     │   ├── getOverridingModules()                                            Interceptor1
-    │   └── getRelativelyInstalledBundles(Class<? extends Object>)            Interceptor1
+    │   ├── getRelativelyInstalledBundles(Class<? extends Object>)            Interceptor1
+    │   └── getSlowestExtensions(int)                                         Interceptor1
     │
     ├── Service    (r.v.d.g.d.r.g.s.AopModule)
     │   └── somethingElse(List)                                               Interceptor1
@@ -0,0 +1,111 @@
+package ru.vyarus.dropwizard.guice.diagnostic
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import io.dropwizard.lifecycle.Managed
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.debug.report.stat.StatsRenderer
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.info.ExtensionItemInfo
+import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycleAdapter
+import ru.vyarus.dropwizard.guice.module.lifecycle.event.jersey.JerseyExtensionsInstalledEvent
+import ru.vyarus.dropwizard.guice.module.lifecycle.event.run.ExtensionsInstalledEvent
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+
+import jakarta.inject.Inject
+import jakarta.ws.rs.GET
+import jakarta.ws.rs.Path
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestDropwizardApp(App)
+class ExtensionTimingsTest extends AbstractTest {
+
+    static List<ExtensionItemInfo> guiceSlowest
+    static List<ExtensionItemInfo> jerseySlowest
+
+    @Inject
+    GuiceyConfigurationInfo info
+
+    def "Check extension timings"() {
+
+        when: "checking extension timings"
+        ExtensionItemInfo slow = info.getInfo(SlowManaged)
+        ExtensionItemInfo fast = info.getInfo(FastManaged)
+        ExtensionItemInfo res = info.getInfo(Resource)
+
+        then: "instance and install times recorded"
+        slow.instanceTime >= TimeUnit.MILLISECONDS.toNanos(50)
+        slow.installTime > 0
+        slow.jerseyInstallTime == 0
+        slow.totalTime == slow.instanceTime + slow.installTime
+        fast.instanceTime < slow.instanceTime
+
+        and: "jersey install time recorded"
+        res.instanceTime == 0
+        res.jerseyInstallTime > 0
+
+        and: "slowest extensions available"
+        info.getSlowestExtensions(1)*.type == [SlowManaged]
+        info.getSlowestExtensions(2).size() == 2
+
+        and: "event payloads"
+        guiceSlowest[0].type == SlowManaged
+        jerseySlowest[0].type == SlowManaged
+        jerseySlowest.find { it.type == Resource }.jerseyInstallTime > 0
+
+        and: "slowest shown in report"
+        String report = new StatsRenderer(info).renderReport(false)
+        report.contains('slowest extensions:')
+        report.contains('SlowManaged in')
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(SlowManaged, FastManaged, Resource)
+                    .listen(new GuiceyLifecycleAdapter() {
+                        @Override
+                        protected void extensionsInstalled(ExtensionsInstalledEvent event) {
+                            guiceSlowest = event.getSlowestExtensions(10)
+                        }
+
+                        @Override
+                        protected void jerseyExtensionsInstalled(JerseyExtensionsInstalledEvent event) {
+                            jerseySlowest = event.getSlowestExtensions(10)
+                        }
+                    })
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class SlowManaged implements Managed {
+        SlowManaged() {
+            sleep(50)
+        }
+    }
+
+    static class FastManaged implements Managed {
+    }
+
+    @Path("/timings")
+    static class Resource {
+        @GET
+        @Path("/")
+        String get() {
+            return 'ok'
+        }
+    }
+}
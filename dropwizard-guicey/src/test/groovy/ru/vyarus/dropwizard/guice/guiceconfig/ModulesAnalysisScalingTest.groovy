@@ -0,0 +1,179 @@
+package ru.vyarus.dropwizard.guice.guiceconfig
+
+import com.google.inject.AbstractModule
+import com.google.inject.Inject
+import com.google.inject.Injector
+import com.google.inject.Key
+import com.google.inject.name.Names
+import com.google.inject.spi.Element
+import com.google.inject.spi.Elements
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.installer.internal.ModulesSupport
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+
+import jakarta.ws.rs.Path
+import java.util.function.Predicate
+
+/**
+ * Guards guice modules analysis scaling on large synthetic modules graph.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(App)
+class ModulesAnalysisScalingTest extends AbstractTest {
+
+    static final int BINDINGS = 20_000
+
+    @Inject
+    GuiceyConfigurationInfo info
+    @Inject
+    Injector injector
+
+    def "Check large modules analysis"() {
+
+        expect: "all bindings analyzed"
+        info.stats.count(Stat.BindingsCount) > BINDINGS * 3
+
+        and: "disabled module bindings and disabled extension chains removed"
+        // inner module bindings + link to each disabled extension
+        info.stats.count(Stat.RemovedBindingsCount) == BINDINGS + 3
+        injector.getExistingBinding(Key.get(Integer, Names.named('removed1'))) == null
+        injector.getExistingBinding(Key.get(Integer, Names.named('kept1'))) != null
+        injector.getExistingBinding(Key.get(Base1)) == null
+
+        and: "modules configured once (elements resolved once and re-used for injector creation)"
+        LargeModule.calls == 1
+        DisabledModule.calls == 1
+    }
+
+    def "Check removed elements filtered in single pass"() {
+
+        setup: "elements of large module with disabled inner module"
+        // deterministic guard (instead of time check): one by one removal from array list is quadratic
+        // analysis is called directly (private method) with started application context
+        ConfigurationContext context = App.bundle.@context
+        ProbeList elements = new ProbeList(Elements.getElements(new ProbeModule()))
+
+        when: "analyzing elements"
+        ModulesSupport.analyzeAndFilterBindings(context, [], elements)
+        // counts copied to avoid huge list rendering in assertion errors
+        int left = elements.size()
+        int passes = elements.removeIfCalls
+        int removals = elements.removeCalls
+        then: "disabled module elements removed with one pass (not one by one)"
+        left == BINDINGS
+        passes == 1
+        removals == 0
+    }
+
+    static class App extends Application<Configuration> {
+        static GuiceBundle bundle
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bundle = GuiceBundle.builder()
+                    .modules(new LargeModule())
+                    .disableModules(DisabledModule)
+                    .disableExtensions(Ext1, Ext2, Ext3)
+                    .build()
+            bootstrap.addBundle(bundle)
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class LargeModule extends AbstractModule {
+        static int calls
+
+        @Override
+        protected void configure() {
+            calls++
+            install(new DisabledModule())
+            for (int i = 0; i < BINDINGS; i++) {
+                bind(Key.get(Integer, Names.named('kept' + i))).toInstance(i)
+                // linked bindings (not extensions)
+                bind(Key.get(Number, Names.named('link' + i))).to(Key.get(Integer, Names.named('kept' + i)))
+            }
+            bind(Base1).to(Ext1)
+            bind(Base2).to(Ext2)
+            bind(Base3).to(Ext3)
+        }
+    }
+
+    static class DisabledModule extends AbstractModule {
+        static int calls
+
+        @Override
+        protected void configure() {
+            calls++
+            for (int i = 0; i < BINDINGS; i++) {
+                bind(Key.get(Integer, Names.named('removed' + i))).toInstance(i)
+            }
+        }
+    }
+
+    static class ProbeModule extends AbstractModule {
+
+        @Override
+        protected void configure() {
+            install(new DisabledModule())
+            for (int i = 0; i < BINDINGS; i++) {
+                bind(Key.get(Long, Names.named('probe' + i))).toInstance((long) i)
+            }
+        }
+    }
+
+    // counts removals from analyzed elements list
+    static class ProbeList extends ArrayList<Element> {
+        int removeCalls
+        int removeIfCalls
+
+        ProbeList(Collection<Element> elements) {
+            super(elements)
+        }
+
+        @Override
+        Element remove(int index) {
+            removeCalls++
+            return super.remove(index)
+        }
+
+        @Override
+        boolean remove(Object o) {
+            removeCalls++
+            return super.remove(o)
+        }
+
+        @Override
+        boolean removeIf(Predicate<? super Element> filter) {
+            removeIfCalls++
+            return super.removeIf(filter)
+        }
+    }
+
+    static interface Base1 {}
+
+    static interface Base2 {}
+
+    static interface Base3 {}
+
+    @Path('/1')
+    static class Ext1 implements Base1 {}
+
+    @Path('/2')
+    static class Ext2 implements Base2 {}
+
+    @Path('/3')
+    static class Ext3 implements Base3 {}
+}
@@ -0,0 +1,77 @@
+package ru.vyarus.dropwizard.guice.guiceconfig
+
+import com.google.inject.AbstractModule
+import com.google.inject.Inject
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(App)
+class ModulesConfiguredOnceTest extends AbstractTest {
+
+    @Inject
+    GuiceyConfigurationInfo info
+
+    def "Check modules configured once with enabled guice reports"() {
+
+        expect: "modules configured once"
+        NormalModule.calls == 1
+        OverridingModule.calls == 1
+
+        and: "captured elements released after startup"
+        !info.data.modulesElements.captured
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .modules(new NormalModule())
+                    .modulesOverride(new OverridingModule())
+                    .printGuiceBindings()
+                    .printAllGuiceBindings()
+                    .printGuiceAopMap()
+                    .printWebMappings()
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class NormalModule extends AbstractModule {
+        static int calls
+
+        @Override
+        protected void configure() {
+            calls++
+            bind(Service).to(ServiceImpl)
+        }
+    }
+
+    static class OverridingModule extends AbstractModule {
+        static int calls
+
+        @Override
+        protected void configure() {
+            calls++
+            bind(Service).to(ServiceImpl2)
+        }
+    }
+
+    static interface Service {}
+
+    static class ServiceImpl implements Service {}
+
+    static class ServiceImpl2 implements Service {}
+}
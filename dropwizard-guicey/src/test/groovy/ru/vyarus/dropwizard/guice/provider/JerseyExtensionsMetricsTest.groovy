@@ -0,0 +1,127 @@
+package ru.vyarus.dropwizard.guice.provider
+
+import com.codahale.metrics.MetricRegistry
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import jakarta.ws.rs.GET
+import jakarta.ws.rs.Path
+import jakarta.ws.rs.container.ContainerRequestContext
+import jakarta.ws.rs.container.ContainerRequestFilter
+import jakarta.ws.rs.container.ContainerResponseContext
+import jakarta.ws.rs.container.ContainerResponseFilter
+import jakarta.ws.rs.core.Response
+import jakarta.ws.rs.ext.ExceptionMapper
+import jakarta.ws.rs.ext.Provider
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.JerseyManaged
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.JerseyExtensionsMetricsBundle
+import ru.vyarus.dropwizard.guice.test.ClientSupport
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestDropwizardApp(App)
+class JerseyExtensionsMetricsTest extends AbstractTest {
+
+    @Inject
+    Environment environment
+
+    def "Check jersey extensions metrics"(ClientSupport client) {
+
+        when: "calling resources"
+        client.targetMain('/metrics/ok').request().get()
+        client.targetMain('/metrics/ok').request().get()
+        def res = client.targetMain('/metrics/fail').request().get()
+        MetricRegistry metrics = environment.metrics()
+
+        then: "mapper applied"
+        res.status == 409
+
+        and: "filters measured"
+        metrics.timer(name('ContainerRequestFilter', ReqFilter, 'filter')).count == 3
+        metrics.timer(name('ContainerResponseFilter', RespFilter, 'filter')).count == 3
+
+        and: "resource methods measured"
+        metrics.timer(name('Resource', Res, 'ok')).count == 2
+        metrics.timer(name('Resource', Res, 'fail')).count == 1
+
+        and: "mapper hits counted"
+        metrics.timer(name('ExceptionMapper', Mapper, 'toResponse')).count == 1
+
+        and: "jersey managed extensions not measured"
+        !metrics.names.any { it.contains(HkFilter.simpleName) }
+    }
+
+    private static String name(String group, Class type, String method) {
+        MetricRegistry.name(JerseyExtensionsMetricsBundle.PREFIX, group, type.name, method)
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(Res, ReqFilter, RespFilter, Mapper, HkFilter)
+                    .bundles(new JerseyExtensionsMetricsBundle())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @Path('/metrics')
+    static class Res {
+
+        @GET
+        @Path('/ok')
+        String ok() {
+            return 'ok'
+        }
+
+        @GET
+        @Path('/fail')
+        String fail() {
+            throw new IllegalStateException('fail')
+        }
+    }
+
+    @Provider
+    static class ReqFilter implements ContainerRequestFilter {
+        @Override
+        void filter(ContainerRequestContext requestContext) throws IOException {
+        }
+    }
+
+    @Provider
+    static class RespFilter implements ContainerResponseFilter {
+        @Override
+        void filter(ContainerRequestContext requestContext,
+                    ContainerResponseContext responseContext) throws IOException {
+        }
+    }
+
+    @Provider
+    static class Mapper implements ExceptionMapper<IllegalStateException> {
+        @Override
+        Response toResponse(IllegalStateException exception) {
+            return Response.status(409).build()
+        }
+    }
+
+    @Provider
+    @JerseyManaged
+    static class HkFilter implements ContainerRequestFilter {
+        @Override
+        void filter(ContainerRequestContext requestContext) throws IOException {
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package ru.vyarus.dropwizard.guice.unit
 
+import com.google.inject.Injector
+import com.google.inject.Module
 import io.dropwizard.core.Application
 import io.dropwizard.core.Configuration
 import io.dropwizard.core.ConfiguredBundle
@@ -8,6 +10,7 @@ import io.dropwizard.core.setup.Environment
 import ru.vyarus.dropwizard.guice.AbstractTest
 import ru.vyarus.dropwizard.guice.GuiceBundle
 import ru.vyarus.dropwizard.guice.injector.lookup.InjectorLookup
+import ru.vyarus.dropwizard.guice.module.context.SharedConfigurationState
 import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
 
 import jakarta.inject.Inject
@@ -33,6 +36,24 @@ class InjectorLookupInstanceTest extends AbstractTest {
         InjectorLookup.getInstance(environment, Configuration.class).get() != null
     }
 
+    def "Check cached providers"() {
+
+        when: "obtaining providers"
+        def provider = InjectorLookup.getProvider(bootstrap.getApplication(), Service).get()
+
+        then: "providers cached"
+        InjectorLookup.getProvider(bootstrap.getApplication(), Service).get().is(provider)
+        InjectorLookup.getProvider(environment, Service).get().is(provider)
+
+        and: "provider scope preserved"
+        provider.get() != provider.get()
+        InjectorLookup.getInstance(environment, Service).get() != null
+
+        and: "injector available from shared state"
+        Injector injector = SharedConfigurationState.get(environment).get().getInjector().get()
+        injector.is(InjectorLookup.getInjector(environment).get())
+    }
+
     static class App extends Application<Configuration> {
 
         @Override
@@ -44,11 +65,16 @@ class InjectorLookupInstanceTest extends AbstractTest {
                     assert !InjectorLookup.getInjector(environment).isPresent()
                 }
             })
-            bootstrap.addBundle(GuiceBundle.builder().build())
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .modules({ binder -> binder.bind(Service) } as Module)
+                    .build())
         }
 
         @Override
         void run(Configuration configuration, Environment environment) throws Exception {
         }
     }
+
+    static class Service {
+    }
 }
@@ -0,0 +1,121 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigIntrospectionCache
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.dropwizard.guice.yaml.support.ComplexGenericCase
+import ru.vyarus.dropwizard.guice.yaml.support.FailedGetterConfig
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(App)
+class CachedIntrospectionTest extends Specification {
+
+    @Inject
+    Bootstrap bootstrap
+    @Inject
+    GuiceyConfigurationInfo info
+
+    def "Check tree build time recorded"() {
+
+        expect: "configuration tree stat"
+        info.stats.time(Stat.ConfigurationTreeTime) > 0
+    }
+
+    def "Check cached introspection with different mappers"() {
+
+        when: "building tree with different mapper instances"
+        ConfigurationTree tree = ConfigTreeBuilder.build(bootstrap, create(bootstrap, ComplexGenericCase))
+        Bootstrap other = new Bootstrap(new App())
+        ConfigurationTree tree2 = ConfigTreeBuilder.build(other, create(other, ComplexGenericCase))
+
+        then: "trees are the same"
+        fingerprint(bootstrap) != null
+        fingerprint(bootstrap) == fingerprint(other)
+        describe(tree) == describe(tree2)
+        tree.paths*.path.contains('server.applicationConnectors')
+
+        when: "mapper configured differently"
+        Bootstrap snake = new Bootstrap(new App())
+        snake.objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+        ConfigurationTree tree3 = ConfigTreeBuilder.build(snake, create(snake, ComplexGenericCase))
+
+        then: "introspection performed again"
+        fingerprint(snake) != fingerprint(bootstrap)
+        tree3.paths*.path.contains('server.application_connectors')
+        tree3.paths.size() == tree.paths.size()
+    }
+
+    def "Check sub-trees order preserved with parallel introspection"() {
+
+        when: "building tree in parallel"
+        ConfigurationTree tree = ConfigTreeBuilder.build(bootstrap, create(bootstrap, ComplexGenericCase),
+                true, true)
+
+        then: "same as sequential"
+        describe(tree) == describe(ConfigTreeBuilder.build(bootstrap, create(bootstrap, ComplexGenericCase)))
+
+        and: "each sub-tree goes right after its root"
+        tree.paths.each { ConfigPath path ->
+            if (path.root != null) {
+                int rootIdx = tree.paths.indexOf(path.root)
+                assert rootIdx < tree.paths.indexOf(path)
+                assert tree.paths.subList(rootIdx + 1, tree.paths.indexOf(path))
+                        .every { it.path.startsWith(path.root.path + '.') }
+            }
+        }
+    }
+
+    def "Check failed getter with cached introspection"() {
+
+        when: "building tree twice for config with failing getter"
+        ConfigurationTree tree = ConfigTreeBuilder.build(bootstrap, new FailedGetterConfig())
+        ConfigurationTree tree2 = ConfigTreeBuilder.build(bootstrap, new FailedGetterConfig())
+
+        then: "failed path ignored"
+        describe(tree) == describe(tree2)
+        tree.findByPath('sample') == null
+        tree.findByPath('sub.sample') == null
+        tree.findByPath('sub') != null
+    }
+
+    private static String fingerprint(Bootstrap bootstrap) {
+        ConfigIntrospectionCache.fingerprint(bootstrap.objectMapper.serializationConfig)
+    }
+
+    private static List<String> describe(ConfigurationTree tree) {
+        tree.paths.collect { "$it.path $it.declaredType.name $it.valueType.name $it.customType" as String }
+    }
+
+    private static <T extends Configuration> T create(Bootstrap bootstrap, Class<T> type) {
+        bootstrap.configurationFactoryFactory
+                .create(type, bootstrap.validatorFactory.validator, bootstrap.objectMapper, "dw").build()
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder().build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
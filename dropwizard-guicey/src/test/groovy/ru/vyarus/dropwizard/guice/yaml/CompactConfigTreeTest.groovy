@@ -0,0 +1,90 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeSizeEstimator
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.dropwizard.guice.yaml.support.ComplexGenericCase
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(App)
+class CompactConfigTreeTest extends Specification {
+
+    @Inject
+    Bootstrap bootstrap
+    @Inject
+    GuiceyConfigurationInfo info
+
+    def "Check tree size recorded"() {
+
+        expect: "configuration tree size stat"
+        info.stats.count(Stat.ConfigurationTreeSize) == ConfigTreeSizeEstimator.estimate(info.configurationTree)
+        info.stats.count(Stat.ConfigurationTreeSize) > 0
+    }
+
+    def "Check generics interned"() {
+
+        when: "building tree"
+        ConfigurationTree tree = ConfigTreeBuilder.build(bootstrap, create(bootstrap, Configuration))
+        ConfigurationTree tree2 = ConfigTreeBuilder.build(bootstrap, create(bootstrap, Configuration))
+
+        then: "same generics shared"
+        tree.findByPath('server.applicationConnectors').declaredTypeGenerics
+                .is(tree.findByPath('server.adminConnectors').declaredTypeGenerics)
+        tree.findByPath('server.applicationConnectors').declaredTypeGenerics
+                .is(tree2.findByPath('server.applicationConnectors').declaredTypeGenerics)
+        tree.findByPath('server').declaredTypeGenerics.is(Collections.emptyList())
+
+        when: "modifying generics"
+        tree.findByPath('server.applicationConnectors').declaredTypeGenerics.clear()
+
+        then: "generics immutable"
+        thrown(UnsupportedOperationException)
+    }
+
+    def "Check size estimation"() {
+
+        when: "estimating trees"
+        long empty = ConfigTreeSizeEstimator.estimate(new ConfigurationTree([Configuration]))
+        long simple = ConfigTreeSizeEstimator.estimate(
+                ConfigTreeBuilder.build(bootstrap, create(bootstrap, Configuration)))
+        long complex = ConfigTreeSizeEstimator.estimate(
+                ConfigTreeBuilder.build(bootstrap, create(bootstrap, ComplexGenericCase)))
+
+        then: "size grows with paths"
+        empty > 0
+        simple > empty
+        complex > simple
+        simple % 8 == 0
+    }
+
+    private static <T extends Configuration> T create(Bootstrap bootstrap, Class<T> type) {
+        bootstrap.configurationFactoryFactory
+                .create(type, bootstrap.validatorFactory.validator, bootstrap.objectMapper, "dw").build()
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder().build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
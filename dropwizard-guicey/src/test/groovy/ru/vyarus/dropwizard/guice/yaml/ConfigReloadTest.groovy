@@ -0,0 +1,247 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.google.inject.Injector
+import com.google.inject.Key
+import com.google.inject.TypeLiteral
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.module.yaml.bind.Config
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigImpl
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigChangeEvent
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloadBundle
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloadTask
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ReloadableConfiguration
+import ru.vyarus.dropwizard.guice.test.TestSupport
+import spock.lang.TempDir
+
+import jakarta.inject.Inject
+import jakarta.inject.Provider
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.nio.file.StandardCopyOption
+import java.time.Duration
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class ConfigReloadTest extends AbstractTest {
+
+    @TempDir
+    Path dir
+
+    def "Check configuration reload"() {
+
+        setup:
+        File file = dir.resolve('config.yml').toFile()
+        file.text = config(10, 'foo')
+
+        when: "reloading configuration"
+        List<ConfigChangeEvent> events = []
+        Map<String, Object> res = [:]
+        TestSupport.runCoreApp(App, file.absolutePath, { Injector injector ->
+            ReloadableConfiguration reloadable = injector.getInstance(ReloadableConfiguration)
+            reloadable.listen { events.add(it) }
+            Service service = injector.getInstance(Service)
+            res.before = service.limit.get()
+
+            file.text = config(20, 'foo')
+            res.event = reloadable.reload()
+            res.after = service.limit.get()
+            res.sub = injector.getInstance(Key.get(Sub, Config)).name
+            res.config = injector.getInstance(Cfg).limit
+            res.tree = injector.getInstance(ConfigurationTree).valueByPath('limit')
+            res.listType = injector.getInstance(Key.get(new TypeLiteral<List<String>>() {}, new ConfigImpl('list')))
+
+            // no changes
+            res.noChanges = reloadable.reload()
+
+            file.text = config(20, 'bar')
+            StringWriter out = new StringWriter()
+            new ConfigReloadTask(reloadable).execute([:], new PrintWriter(out))
+            res.taskOut = out.toString()
+            res.subAfter = injector.getInstance(Key.get(Sub, Config)).name
+            res.reloads = reloadable.reloadsCount
+            return null
+        })
+
+        then: "values reloaded"
+        res.before == 10
+        res.after == 20
+        res.sub == 'foo'
+        res.config == 20
+        res.tree == 20
+        res.listType == ['a', 'b']
+        res.event.changedPaths == ['limit'] as Set
+        !res.noChanges.changed
+        res.taskOut.contains('sub.name')
+        res.subAfter == 'bar'
+        res.reloads == 3
+
+        and: "listener called only for changes"
+        events.size() == 2
+        events[0].isChanged('limit')
+        events[0].getOldValue('limit') == 10
+        events[0].getNewValue('limit') == 20
+        events[1].changedPaths == ['sub', 'sub.name'] as Set
+    }
+
+    def "Check failed reload"() {
+
+        setup:
+        File file = dir.resolve('config.yml').toFile()
+        file.text = config(10, 'foo')
+
+        when: "reloading invalid configuration"
+        Map<String, Object> res = [:]
+        TestSupport.runCoreApp(App, file.absolutePath, { Injector injector ->
+            ReloadableConfiguration reloadable = injector.getInstance(ReloadableConfiguration)
+            file.text = 'limit: abc'
+            try {
+                reloadable.reload()
+            } catch (Exception ex) {
+                res.error = ex
+            }
+            res.value = injector.getInstance(Service).limit.get()
+            return null
+        })
+
+        then: "old configuration remains"
+        res.error != null
+        res.value == 10
+    }
+
+    def "Check file watch"() {
+
+        setup:
+        File file = dir.resolve('config.yml').toFile()
+        file.text = config(10, 'foo')
+
+        when: "changing configuration file"
+        Map<String, Object> res = [:]
+        TestSupport.runCoreApp(WatchApp, file.absolutePath, { Injector injector ->
+            ReloadableConfiguration reloadable = injector.getInstance(ReloadableConfiguration)
+            file.text = config(30, 'foo')
+            long end = System.currentTimeMillis() + 10000
+            while (reloadable.reloadsCount == 0 && System.currentTimeMillis() < end) {
+                sleep(50)
+            }
+            res.value = injector.getInstance(Service).limit.get()
+            return null
+        })
+
+        then: "configuration reloaded"
+        res.value == 30
+    }
+
+    def "Check symlink swap watch"() {
+
+        setup: "kubernetes ConfigMap like layout"
+        Path v1 = Files.createDirectory(dir.resolve('..v1'))
+        v1.resolve('config.yml').toFile().text = config(10, 'foo')
+        Files.createSymbolicLink(dir.resolve('..data'), Paths.get('..v1'))
+        Path file = Files.createSymbolicLink(dir.resolve('config.yml'), Paths.get('..data/config.yml'))
+
+        when: "swapping data symlink"
+        Map<String, Object> res = [:]
+        TestSupport.runCoreApp(WatchApp, file.toAbsolutePath().toString(), { Injector injector ->
+            ReloadableConfiguration reloadable = injector.getInstance(ReloadableConfiguration)
+            Path v2 = Files.createDirectory(dir.resolve('..v2'))
+            v2.resolve('config.yml').toFile().text = config(40, 'foo')
+            Path tmp = Files.createSymbolicLink(dir.resolve('..data_tmp'), Paths.get('..v2'))
+            Files.move(tmp, dir.resolve('..data'), StandardCopyOption.ATOMIC_MOVE)
+            long end = System.currentTimeMillis() + 10000
+            while (reloadable.reloadsCount == 0 && System.currentTimeMillis() < end) {
+                sleep(50)
+            }
+            res.value = injector.getInstance(Service).limit.get()
+            return null
+        })
+
+        then: "configuration reloaded"
+        res.value == 40
+    }
+
+    def "Check incompatible reloaded value"() {
+
+        setup:
+        File file = dir.resolve('config.yml').toFile()
+        file.text = config(10, 'foo') + 'obj: foo\n'
+
+        when: "reloading value of different type"
+        Map<String, Object> res = [:]
+        TestSupport.runCoreApp(App, file.absolutePath, { Injector injector ->
+            ReloadableConfiguration reloadable = injector.getInstance(ReloadableConfiguration)
+            Provider<String> obj = injector.getProvider(Key.get(String, new ConfigImpl('obj')))
+            res.before = obj.get()
+            file.text = config(10, 'foo') + 'obj: 12\n'
+            reloadable.reload()
+            res.tree = reloadable.tree.valueByPath('obj')
+            res.after = obj.get()
+            return null
+        })
+
+        then: "previous value used"
+        res.before == 'foo'
+        res.tree == 12
+        res.after == 'foo'
+    }
+
+    private static String config(int limit, String name) {
+        """
+limit: $limit
+list: [a, b]
+sub:
+  name: $name
+"""
+    }
+
+    static class App extends Application<Cfg> {
+        @Override
+        void initialize(Bootstrap<Cfg> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new ConfigReloadBundle())
+                    .build())
+        }
+
+        @Override
+        void run(Cfg configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class WatchApp extends Application<Cfg> {
+        @Override
+        void initialize(Bootstrap<Cfg> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new ConfigReloadBundle().watchFile(Duration.ofMillis(100)))
+                    .build())
+        }
+
+        @Override
+        void run(Cfg configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Cfg extends Configuration {
+        Integer limit
+        List<String> list
+        Sub sub
+        Object obj
+    }
+
+    static class Sub {
+        String name
+    }
+
+    static class Service {
+        @Inject
+        @Config('limit')
+        Provider<Integer> limit
+    }
+}
@@ -0,0 +1,142 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.google.inject.AbstractModule
+import com.google.inject.Injector
+import com.google.inject.Key
+import com.google.inject.Provider
+import com.google.inject.Provides
+import com.google.inject.name.Named
+import com.google.inject.name.Names
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.GuiceyOptions
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.module.yaml.bind.Config
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigImpl
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.SkippedConfigPathsCount
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(value = App, configOverride = ["foo:1", "bar:2", "baz:3", "sub.val:4", "prov:5", "other:6"])
+class ReferencedPathsBindingTest extends Specification {
+
+    @Inject
+    Injector injector
+    @Inject
+    GuiceyConfigurationInfo info
+    @Inject
+    ConfigurationTree tree
+
+    def "Check only referenced paths bound"() {
+
+        expect: "referenced paths bound"
+        bound('foo', String)
+        bound('bar', String)
+        bound('baz', String)
+        bound('sub.val', String)
+        bound('prov', String)
+
+        and: "not referenced paths not bound"
+        !bound('other', String)
+        !bound('sub', AppConfig.Sub)
+        !bound('server.registerDefaultExceptionMappers', Boolean)
+        tree.valueByPath('other') == '6'
+
+        and: "unique sub configuration bound"
+        injector.getExistingBinding(Key.get(AppConfig.Sub, Config)) != null
+
+        and: "skipped paths counted"
+        info.stats.count(SkippedConfigPathsCount) == tree.paths.size() - 5
+
+        and: "values injected"
+        injector.getInstance(Ext).foo == '1'
+        injector.getInstance(Ext).service.dep.baz == '3'
+        injector.getInstance(Ext).service.val == '4'
+        injector.getInstance(Key.get(String, Names.named('prov'))) == '5'
+    }
+
+    private boolean bound(String path, Class type) {
+        injector.getExistingBinding(Key.get(type, new ConfigImpl(path))) != null
+    }
+
+    static class App extends Application<AppConfig> {
+
+        @Override
+        void initialize(Bootstrap<AppConfig> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(Ext)
+                    .modules(new Module())
+                    .option(GuiceyOptions.BindOnlyReferencedConfigPaths, true)
+                    .build())
+        }
+
+        @Override
+        void run(AppConfig configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class AppConfig extends Configuration {
+        String foo
+        String bar
+        String baz
+        String prov
+        String other
+        Sub sub = new Sub()
+
+        static class Sub {
+            String val
+        }
+    }
+
+    static class Module extends AbstractModule {
+        @Override
+        protected void configure() {
+            bind(Service)
+        }
+
+        @Provides
+        @Named("prov")
+        String prov(@Config("prov") String prov) {
+            return prov
+        }
+    }
+
+    @EagerSingleton
+    static class Ext {
+        @Inject
+        @Config("foo")
+        String foo
+        @Inject
+        Service service
+    }
+
+    static class Service {
+        @Inject
+        @Config("sub.val")
+        String val
+        @Inject
+        @Config("bar")
+        Provider<String> bar
+        @Inject
+        JitDep dep
+    }
+
+    // dependency, created with JIT binding
+    static class JitDep {
+        @Inject
+        @Config("baz")
+        String baz
+    }
+}
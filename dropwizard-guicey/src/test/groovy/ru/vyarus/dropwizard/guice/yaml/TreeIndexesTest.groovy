@@ -0,0 +1,94 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.google.inject.name.Named
+import com.google.inject.name.Names
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.server.ServerFactory
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.dropwizard.guice.yaml.support.AnnotatedConfig
+import ru.vyarus.dropwizard.guice.yaml.support.ComplexGenericCase
+import ru.vyarus.dropwizard.guice.yaml.support.CustQualifier
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(App)
+class TreeIndexesTest extends Specification {
+
+    @Inject
+    Bootstrap bootstrap
+
+    def "Check indexed path search"() {
+
+        when: "searching paths"
+        ConfigurationTree tree = ConfigTreeBuilder.build(bootstrap, create(ComplexGenericCase))
+
+        then: "all paths found case-insensitive"
+        tree.paths.every {
+            tree.findByPath(it.path).is(it) && tree.findByPath(it.path.toUpperCase()).is(it)
+        }
+        tree.findByPath('server.applicationConnectors') != null
+        tree.findByPath('SERVER.APPLICATIONCONNECTORS').path == 'server.applicationConnectors'
+        tree.findByPath('unknown') == null
+        tree.findByPath(null) == null
+        tree.valueByPath('server') == tree.findByPath('server').value
+    }
+
+    def "Check indexed type search"() {
+
+        when: "searching by type"
+        ConfigurationTree tree = ConfigTreeBuilder.build(bootstrap, create(ComplexGenericCase))
+
+        then: "the same as linear search"
+        [ServerFactory, Object, ComplexGenericCase.Sub].each { type ->
+            assert tree.findAllByType(type) == tree.paths
+                    .findAll { it.customType && type.isAssignableFrom(it.declaredType) }
+            // cached result is not affected by result modification
+            tree.findAllByType(type).clear()
+            assert tree.findAllByType(type) == tree.paths
+                    .findAll { it.customType && type.isAssignableFrom(it.declaredType) }
+        }
+        tree.findAllByType(String).isEmpty()
+    }
+
+    def "Check indexed qualifier search"() {
+
+        when: "searching by qualifier"
+        ConfigurationTree tree = ConfigTreeBuilder.build(bootstrap, create(AnnotatedConfig))
+
+        then: "qualified paths found"
+        tree.findAllByAnnotation(Names.named('test'))*.path == ['prop']
+        tree.findAllByAnnotation(Names.named('test2'))*.path == ['prop2', 'prop3']
+        tree.findAllByAnnotation(Named)*.path == ['prop', 'prop2', 'prop3']
+        tree.findAllByAnnotation(CustQualifier)*.path == ['custom']
+        tree.findAllByAnnotation(Names.named('unknown')).isEmpty()
+        tree.findAllByAnnotation(jakarta.inject.Named).isEmpty()
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder().build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    private <T extends Configuration> T create(Class<T> type) {
+        bootstrap.configurationFactoryFactory
+                .create(type, bootstrap.validatorFactory.validator, bootstrap.objectMapper, "dw").build()
+    }
+}
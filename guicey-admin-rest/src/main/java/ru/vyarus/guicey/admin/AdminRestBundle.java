@@ -2,12 +2,19 @@ package ru.vyarus.guicey.admin;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.inject.Injector;
 import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.core.server.ServerFactory;
 import io.dropwizard.core.setup.Environment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo;
 import ru.vyarus.dropwizard.guice.module.context.unique.item.UniqueGuiceyBundle;
+import ru.vyarus.dropwizard.guice.module.installer.InstallersOptions;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller;
+import ru.vyarus.guicey.admin.rest.AdminJerseyServlet;
+import ru.vyarus.guicey.admin.rest.AdminResourceConfig;
 import ru.vyarus.guicey.admin.rest.AdminResourceFilter;
 import ru.vyarus.guicey.admin.rest.AdminRestServlet;
 
@@ -24,6 +31,9 @@ import ru.vyarus.guicey.admin.rest.AdminRestServlet;
  * In order to hide admin specific rest methods or entire resources
  * {@link ru.vyarus.guicey.admin.rest.AdminResource} annotation may be used.
  * If some security solution is used within application, rest could be hidden with security framework permissions.
+ * <p>
+ * Alternatively, admin rest could be served by separate minimal jersey context (see {@link #separateContext()}),
+ * containing only admin resources.
  *
  * @author Vyacheslav Rusakov
  * @since 05.08.2015
@@ -33,6 +43,10 @@ public class AdminRestBundle extends UniqueGuiceyBundle {
     private final Logger logger = LoggerFactory.getLogger(AdminRestBundle.class);
 
     private final String path;
+    private boolean separateContext;
+    private boolean guiceFirstMode;
+    private ServerFactory serverFactory;
+    private Injector injector;
 
     /**
      * Admin rest will be mapped on the same path as main rest if rest mapping is different from '/*'.
@@ -52,17 +66,49 @@ public class AdminRestBundle extends UniqueGuiceyBundle {
         this.path = path;
     }
 
+    /**
+     * Serve admin rest with separate minimal jersey context instead of forwarding admin requests into main
+     * jersey context. Admin context would contain only admin resources: annotated with
+     * {@link ru.vyarus.guicey.admin.rest.AdminResource} (or with annotated methods). Resource instances are
+     * obtained from guice (same injector as in main context).
+     * <p>
+     * Application jersey extensions (filters, exception mappers etc.) are not applied to admin calls, so admin
+     * polling (health checks, metrics scraping) is not affected by main context. Non-admin resources are not
+     * available in admin context. Validation and default dropwizard exception mappers work the same as in main
+     * context.
+     *
+     * @return bundle instance
+     */
+    public AdminRestBundle separateContext() {
+        this.separateContext = true;
+        return this;
+    }
+
     @Override
     public void run(final GuiceyEnvironment environment) throws Exception {
+        if (separateContext) {
+            guiceFirstMode = environment.option(InstallersOptions.JerseyExtensionsManagedByGuice);
+            serverFactory = environment.configuration().getServerFactory();
+            environment.onGuiceyStartup((config, env, injector) -> this.injector = injector);
+        }
         environment.manage(new ServletRegistration(environment.environment()));
     }
 
     private void registerServlet(final String path, final Environment environment) {
-        environment.admin()
-                .addServlet("adminRest", new AdminRestServlet(environment.getJerseyServletContainer()))
-                .addMapping(path);
+        if (separateContext) {
+            final AdminResourceConfig config = new AdminResourceConfig(environment, serverFactory, injector,
+                    injector.getInstance(GuiceyConfigurationInfo.class).getExtensions(ResourceInstaller.class),
+                    guiceFirstMode);
+            config.setUrlPattern(path);
+            environment.admin().addServlet("adminRest", new AdminJerseyServlet(config)).addMapping(path);
+        } else {
+            environment.admin()
+                    .addServlet("adminRest", new AdminRestServlet(environment.getJerseyServletContainer()))
+                    .addMapping(path);
+        }
+        // hide admin resources in main context
         environment.jersey().register(AdminResourceFilter.class);
-        logger.info("Admin REST registered on path: {}", path);
+        logger.info("Admin REST registered on path: {}{}", path, separateContext ? " (separate context)" : "");
     }
 
     /**
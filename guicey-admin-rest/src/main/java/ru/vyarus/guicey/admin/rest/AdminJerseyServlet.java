@@ -0,0 +1,31 @@
+package ru.vyarus.guicey.admin.rest;
+
+import io.dropwizard.jersey.setup.JerseyServletContainer;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import java.io.IOException;
+
+/**
+ * Separate jersey servlet for admin rest (alternative to {@link AdminRestServlet}, forwarding requests into main
+ * jersey context). Marks request with {@link AdminRestServlet#ADMIN_PROPERTY} attribute, as forwarding servlet.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class AdminJerseyServlet extends JerseyServletContainer {
+
+    /**
+     * @param config admin rest configuration
+     */
+    public AdminJerseyServlet(final AdminResourceConfig config) {
+        super(config);
+    }
+
+    @Override
+    public void service(final ServletRequest req, final ServletResponse res) throws ServletException, IOException {
+        req.setAttribute(AdminRestServlet.ADMIN_PROPERTY, true);
+        super.service(req, res);
+    }
+}
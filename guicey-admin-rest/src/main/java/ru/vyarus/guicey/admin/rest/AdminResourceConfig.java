@@ -0,0 +1,91 @@
+package ru.vyarus.guicey.admin.rest;
+
+import com.google.inject.Injector;
+import io.dropwizard.core.server.AbstractServerFactory;
+import io.dropwizard.core.server.ServerFactory;
+import io.dropwizard.core.setup.Environment;
+import io.dropwizard.core.setup.ExceptionMapperBinder;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.jersey.jackson.JacksonFeature;
+import io.dropwizard.jersey.validation.HibernateValidationBinder;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import ru.vyarus.dropwizard.guice.module.installer.util.JerseyBinding;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Minimal jersey configuration for separate admin rest context: contains only admin resources (annotated with
+ * {@link AdminResource} or with annotated methods), jackson support, validation and default dropwizard exception
+ * mappers (as in main context: not registered when disabled with server factory
+ * {@code registerDefaultExceptionMappers} option). Resource instances are obtained from
+ * guice injector (the same injector as in main context). Jersey-managed resources (see
+ * {@link ru.vyarus.dropwizard.guice.module.installer.feature.jersey.JerseyManaged}) are created by jersey.
+ * <p>
+ * Application jersey extensions (filters, exception mappers etc.) are not registered, so admin calls are not
+ * affected by them. Resources metrics (e.g. {@link com.codahale.metrics.annotation.Timed}) are registered in
+ * application metrics registry (metrics of resources, available in both contexts, are shared).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class AdminResourceConfig extends DropwizardResourceConfig {
+
+    /**
+     * @param environment    dropwizard environment
+     * @param serverFactory  server factory from configuration
+     * @param injector       guice injector
+     * @param resources      all installed resources
+     * @param guiceFirstMode true when jersey extensions managed by guice by default
+     */
+    public AdminResourceConfig(final Environment environment,
+                               final ServerFactory serverFactory,
+                               final Injector injector,
+                               final Collection<Class<Object>> resources,
+                               final boolean guiceFirstMode) {
+        super(environment.metrics());
+        // same as in main context
+        final AbstractServerFactory server = serverFactory instanceof AbstractServerFactory
+                ? (AbstractServerFactory) serverFactory : null;
+        if (server == null || !Boolean.FALSE.equals(server.getRegisterDefaultExceptionMappers())) {
+            register(new ExceptionMapperBinder(server != null
+                    && Boolean.TRUE.equals(server.getDetailedJsonProcessingExceptionMapper())));
+        }
+        register(new JacksonFeature(environment.getObjectMapper()));
+        register(new HibernateValidationBinder(environment.getValidator()));
+        final List<Class<?>> adminResources = new ArrayList<>();
+        for (Class<?> type : resources) {
+            if (isAdminResource(type)) {
+                adminResources.add(type);
+                register(type);
+            }
+        }
+        register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                for (Class<?> type : adminResources) {
+                    JerseyBinding.bindComponent(this, injector, type,
+                            JerseyBinding.isJerseyManaged(type, guiceFirstMode), false);
+                }
+            }
+        });
+    }
+
+    /**
+     * @param type resource type
+     * @return true if resource is annotated with {@link AdminResource} or contains annotated methods
+     */
+    public static boolean isAdminResource(final Class<?> type) {
+        if (type.isAnnotationPresent(AdminResource.class)) {
+            return true;
+        }
+        for (Method method : type.getMethods()) {
+            if (method.isAnnotationPresent(AdminResource.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
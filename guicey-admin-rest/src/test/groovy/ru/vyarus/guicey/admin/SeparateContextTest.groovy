@@ -0,0 +1,76 @@
+package ru.vyarus.guicey.admin
+
+import jakarta.ws.rs.client.Entity
+import jakarta.ws.rs.client.WebTarget
+import jakarta.ws.rs.core.MediaType
+import jakarta.ws.rs.core.Response
+import ru.vyarus.dropwizard.guice.test.ClientSupport
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.admin.support.SeparateContextApplication
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestDropwizardApp(value = SeparateContextApplication, randomPorts = true)
+class SeparateContextTest extends AbstractTest {
+
+    def "Check res access from user context"(ClientSupport client) {
+
+        when: "opened rest"
+        def res = new URL(client.basePathMain() + "hybrid/hello").getText()
+        then: "ok"
+        res == "hello"
+
+        when: "admin only rest"
+        new URL(client.basePathMain() + "hybrid/admin").getText()
+        then: "not accessible"
+        thrown(FileNotFoundException)
+
+        when: "admin only rest (by class)"
+        new URL(client.basePathMain() + "admin/").getText()
+        then: "not accessible"
+        thrown(FileNotFoundException)
+    }
+
+    def "Check access from admin context"(ClientSupport client) {
+
+        when: "admin rest"
+        def res = new URL(client.basePathAdmin() + "api/hybrid/admin").getText()
+        then: "ok"
+        res == "admin"
+
+        when: "hybrid resource public method"
+        res = new URL(client.basePathAdmin() + "api/hybrid/hello").getText()
+        then: "ok"
+        res == "hello"
+
+        when: "admin rest (by class annotation)"
+        res = new URL(client.basePathAdmin() + "api/admin/").getText()
+        then: "ok"
+        res == "hello"
+
+        when: "not admin resource"
+        new URL(client.basePathAdmin() + "api/request/").getText()
+        then: "not available in admin context"
+        thrown(FileNotFoundException)
+    }
+
+    def "Check validation in admin context"(ClientSupport client) {
+
+        setup:
+        WebTarget target = client.targetAdmin("api/admin/validate")
+
+        when: "valid body"
+        Response res = target.request(MediaType.APPLICATION_JSON).post(Entity.json([name: 'foo']))
+        then: "ok"
+        res.status == 200
+        res.readEntity(String) == 'foo'
+
+        when: "invalid body"
+        res = target.request(MediaType.APPLICATION_JSON).post(Entity.json([:]))
+        then: "validation error rendered by dropwizard exception mapper"
+        res.status == 422
+        res.readEntity(String).contains('"errors":["name must not be empty"]')
+    }
+}
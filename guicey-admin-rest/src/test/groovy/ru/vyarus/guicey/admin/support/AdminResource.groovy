@@ -1,7 +1,13 @@
 package ru.vyarus.guicey.admin.support
 
+import jakarta.validation.Valid
+import jakarta.validation.constraints.NotEmpty
+import jakarta.validation.constraints.NotNull
+import jakarta.ws.rs.Consumes
 import jakarta.ws.rs.GET
+import jakarta.ws.rs.POST
 import jakarta.ws.rs.Path
+import jakarta.ws.rs.core.MediaType
 
 /**
  * @author Vyacheslav Rusakov 
@@ -17,4 +23,16 @@ class AdminResource {
         return "hello"
     }
 
+    @POST
+    @Path("/validate")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public String validate(@NotNull @Valid Bean bean) {
+        return bean.name
+    }
+
+    static class Bean {
+        @NotEmpty
+        String name
+    }
+
 }
@@ -0,0 +1,28 @@
+package ru.vyarus.guicey.admin.support
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.guicey.admin.AdminRestBundle
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class SeparateContextApplication extends Application<Configuration> {
+
+    @Override
+    void initialize(Bootstrap<Configuration> bootstrap) {
+        bootstrap.addBundle(GuiceBundle.builder()
+                .enableAutoConfig(getClass().package.name)
+                .bundles(new AdminRestBundle().separateContext())
+                .build()
+        );
+    }
+
+    @Override
+    void run(Configuration configuration, Environment environment) throws Exception {
+    }
+}
@@ -0,0 +1,177 @@
+package com.google.common.eventbus;
+
+import ru.vyarus.guicey.eventbus.metrics.EventBusMetrics;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
+
+/**
+ * Events dispatcher, processing selected subscribers asynchronously (with provided executor) and all other
+ * subscribers synchronously (in publishing thread). Dispatcher preserves default eventbus behaviour: events,
+ * published from the same thread are dispatched in publication order (including events published from
+ * subscribers).
+ * <p>
+ * Used with {@link ru.vyarus.guicey.eventbus.EventBusBundle#withAsyncDispatch(
+ * ru.vyarus.guicey.eventbus.async.AsyncDispatchConfig)}.
+ * <p>
+ * When {@link EventBusMetrics} provided, dispatcher records events dispatch time and subscribers execution time
+ * (used with {@link ru.vyarus.guicey.eventbus.EventBusBundle#withMetrics()}).
+ * <p>
+ * Weak subscribers (see {@link WeakSubscribersRegistry}) are processed as usual subscribers (actual subscriber
+ * method is used for async selection and metrics).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class AsyncAwareDispatcher extends Dispatcher {
+
+    private static final String METHOD_FIELD = "method";
+
+    private final Executor executor;
+    private final BiPredicate<Class<?>, Method> asyncSelector;
+    private final EventBusMetrics metrics;
+    private final Field methodField;
+
+    private final ThreadLocal<Queue<Event>> queue = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> dispatching = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * @param executor      executor for asynchronous subscribers
+     * @param asyncSelector predicate, receiving event type and subscriber method and deciding if subscriber must be
+     *                      called asynchronously
+     */
+    public AsyncAwareDispatcher(final Executor executor, final BiPredicate<Class<?>, Method> asyncSelector) {
+        this(executor, asyncSelector, null);
+    }
+
+    /**
+     * @param executor      executor for asynchronous subscribers (may be null if selector never selects async
+     *                      subscribers)
+     * @param asyncSelector predicate, receiving event type and subscriber method and deciding if subscriber must be
+     *                      called asynchronously
+     * @param metrics       dispatch metrics or null to disable metrics
+     */
+    public AsyncAwareDispatcher(final Executor executor,
+                                final BiPredicate<Class<?>, Method> asyncSelector,
+                                final EventBusMetrics metrics) {
+        this.executor = executor;
+        this.asyncSelector = asyncSelector;
+        this.metrics = metrics;
+        try {
+            methodField = Subscriber.class.getDeclaredField(METHOD_FIELD);
+            methodField.setAccessible(true);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to access subscriber method field", e);
+        }
+    }
+
+    /**
+     * Creates default event bus with custom dispatcher. Subscribers exceptions are logged as in the default
+     * event bus (and counted, if metrics enabled).
+     *
+     * @param identifier event bus identifier
+     * @param dispatcher dispatcher instance
+     * @return event bus instance
+     */
+    public static GuiceyEventBus createEventBus(final String identifier, final AsyncAwareDispatcher dispatcher) {
+        return createEventBus(identifier, dispatcher, false);
+    }
+
+    /**
+     * Creates default event bus with custom dispatcher. Subscribers exceptions are logged as in the default
+     * event bus (and counted, if metrics enabled).
+     *
+     * @param identifier      event bus identifier
+     * @param dispatcher      dispatcher instance
+     * @param weakSubscribers true to enable weak subscribers
+     * @return event bus instance
+     */
+    public static GuiceyEventBus createEventBus(final String identifier,
+                                                final AsyncAwareDispatcher dispatcher,
+                                                final boolean weakSubscribers) {
+        final EventBusMetrics metrics = dispatcher.metrics;
+        final SubscriberExceptionHandler handler = metrics == null ? EventBus.LoggingHandler.INSTANCE
+                : (exception, context) -> {
+            metrics.subscriberFailed(context.getSubscriberMethod());
+            EventBus.LoggingHandler.INSTANCE.handleException(exception, context);
+        };
+        return new GuiceyEventBus(identifier, dispatcher, handler, metrics, weakSubscribers);
+    }
+
+    @Override
+    void dispatch(final Object event, final Iterator<Subscriber> subscribers) {
+        final Queue<Event> queueForThread = queue.get();
+        queueForThread.offer(new Event(event, subscribers));
+
+        // nested publication (from subscriber) is processed after current event
+        if (!dispatching.get()) {
+            dispatching.set(true);
+            try {
+                Event next = queueForThread.poll();
+                while (next != null) {
+                    while (next.subscribers.hasNext()) {
+                        dispatchEvent(next.event, next.subscribers.next());
+                    }
+                    if (metrics != null) {
+                        metrics.eventDispatched(next.event.getClass(), System.nanoTime() - next.posted);
+                    }
+                    next = queueForThread.poll();
+                }
+            } finally {
+                dispatching.remove();
+                queue.remove();
+            }
+        }
+    }
+
+    private void dispatchEvent(final Object event, final Subscriber subscriber) {
+        final Method method = getMethod(subscriber);
+        if (asyncSelector.test(event.getClass(), method)) {
+            executor.execute(() -> callSubscriber(event, subscriber, method));
+        } else {
+            callSubscriber(event, subscriber, method);
+        }
+    }
+
+    private void callSubscriber(final Object event, final Subscriber subscriber, final Method method) {
+        if (metrics == null) {
+            subscriber.dispatchEvent(event);
+        } else {
+            final long start = System.nanoTime();
+            // subscriber exceptions are handled inside (event bus executor is direct)
+            subscriber.dispatchEvent(event);
+            metrics.subscriberCalled(method, System.nanoTime() - start);
+        }
+    }
+
+    private Method getMethod(final Subscriber subscriber) {
+        if (subscriber.target instanceof WeakSubscribersRegistry.WeakSubscriber) {
+            // actual method of weak subscriber
+            return ((WeakSubscribersRegistry.WeakSubscriber) subscriber.target).getMethod();
+        }
+        try {
+            return (Method) methodField.get(subscriber);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to access subscriber method", e);
+        }
+    }
+
+    /**
+     * Queued event.
+     */
+    private static final class Event {
+        private final Object event;
+        private final Iterator<Subscriber> subscribers;
+        private final long posted = System.nanoTime();
+
+        private Event(final Object event, final Iterator<Subscriber> subscribers) {
+            this.event = event;
+            this.subscribers = subscribers;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.google.common.eventbus;
+
+import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.MoreExecutors;
+import ru.vyarus.guicey.eventbus.metrics.EventBusMetrics;
+
+import java.lang.reflect.Field;
+import java.util.Iterator;
+
+/**
+ * Event bus, created by {@link ru.vyarus.guicey.eventbus.EventBusBundle} when async dispatch, metrics or weak
+ * subscribers are enabled. Behaves exactly as default event bus, except that weak subscribers (when enabled) are
+ * dispatched together with usual subscribers: with the same dispatcher (so async dispatch and metrics are
+ * applied to them) and {@link DeadEvent} is posted only when event has no subscribers at all.
+ * <p>
+ * When metrics enabled, events without subscribers are also counted (dispatcher is not called for such events).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class GuiceyEventBus extends EventBus {
+
+    private static final String SUBSCRIBERS_FIELD = "subscribers";
+
+    private final Dispatcher dispatcher;
+    private final SubscriberRegistry registry;
+    private final EventBusMetrics metrics;
+    private final WeakSubscribersRegistry weakSubscribers;
+
+    /**
+     * @param identifier      event bus identifier
+     * @param dispatcher      events dispatcher
+     * @param handler         subscribers exception handler
+     * @param metrics         dispatch metrics or null
+     * @param weakSubscribers true to enable weak subscribers registry
+     */
+    public GuiceyEventBus(final String identifier,
+                          final Dispatcher dispatcher,
+                          final SubscriberExceptionHandler handler,
+                          final EventBusMetrics metrics,
+                          final boolean weakSubscribers) {
+        super(identifier, MoreExecutors.directExecutor(), dispatcher, handler);
+        this.dispatcher = dispatcher;
+        this.metrics = metrics;
+        this.registry = weakSubscribers || metrics != null ? resolveRegistry() : null;
+        this.weakSubscribers = weakSubscribers ? new WeakSubscribersRegistry(this) : null;
+    }
+
+    /**
+     * @return weak subscribers registry or null if weak subscribers are not enabled
+     */
+    public WeakSubscribersRegistry getWeakSubscribers() {
+        return weakSubscribers;
+    }
+
+    @Override
+    public void post(final Object event) {
+        if (registry == null) {
+            super.post(event);
+            return;
+        }
+        final long start = System.nanoTime();
+        // same as in event bus, but with weak subscribers
+        final Iterator<Subscriber> subscribers = weakSubscribers == null ? registry.getSubscribers(event)
+                : Iterators.concat(registry.getSubscribers(event), weakSubscribers.getEventSubscribers(event));
+        if (subscribers.hasNext()) {
+            dispatcher.dispatch(event, subscribers);
+        } else {
+            if (metrics != null) {
+                metrics.eventDispatched(event.getClass(), System.nanoTime() - start);
+            }
+            if (!(event instanceof DeadEvent)) {
+                post(new DeadEvent(this, event));
+            }
+        }
+    }
+
+    private SubscriberRegistry resolveRegistry() {
+        try {
+            final Field field = EventBus.class.getDeclaredField(SUBSCRIBERS_FIELD);
+            field.setAccessible(true);
+            return (SubscriberRegistry) field.get(this);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to access event bus subscribers registry", e);
+        }
+    }
+}
@@ -20,14 +20,25 @@ public class SubscriptionIntrospector {
     private static final String SUBSCRIBERS_FIELD = "subscribers";
 
     private final EventBus eventbus;
+    private final WeakSubscribersRegistry weakSubscribers;
     private Map<Class, Set<Subscriber>> subscribers;
 
     public SubscriptionIntrospector(final EventBus eventbus) {
+        this(eventbus, null);
+    }
+
+    public SubscriptionIntrospector(final EventBus eventbus, final WeakSubscribersRegistry weakSubscribers) {
         this.eventbus = eventbus;
+        this.weakSubscribers = weakSubscribers;
     }
 
     public Set<Class> getListenedEvents() {
-        return extractSubscribers().keySet();
+        if (weakSubscribers == null) {
+            return extractSubscribers().keySet();
+        }
+        final Set<Class> res = new HashSet<>(weakSubscribers.getListenedEvents());
+        res.addAll(extractSubscribers().keySet());
+        return res;
     }
 
     public Set<Object> getSubscribers(final Class event) {
@@ -38,9 +49,25 @@ public class SubscriptionIntrospector {
                 res.add(subs.target);
             }
         }
+        if (weakSubscribers != null) {
+            res.addAll(weakSubscribers.getSubscribers(event));
+        }
+        return res;
+    }
+
+    public int getSubscriptionsCount(final Class event) {
+        final Set<Subscriber> subscribers = extractSubscribers().get(event);
+        int res = subscribers == null ? 0 : subscribers.size();
+        if (weakSubscribers != null) {
+            res += weakSubscribers.getSubscriptionsCount(event);
+        }
         return res;
     }
 
+    public int getWeakSubscriptionsCount(final Class event) {
+        return weakSubscribers == null ? 0 : weakSubscribers.getSubscriptionsCount(event);
+    }
+
     public Set<Class> getSubscriberTypes(final Class event) {
         final Set<Class> res = new HashSet<>();
         for (Object obj : getSubscribers(event)) {
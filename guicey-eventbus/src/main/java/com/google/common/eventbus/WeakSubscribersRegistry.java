@@ -0,0 +1,225 @@
+package com.google.common.eventbus;
+
+import com.google.common.reflect.TypeToken;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry for weakly referenced subscribers. Event bus holds registered subscribers forever, so non singleton
+ * subscriber instances could never be garbage collected. Weak registry holds subscribers with weak references:
+ * subscriber stays registered only while it is referenced from somewhere else (e.g. from request scope).
+ * Garbage collected subscribers are removed automatically.
+ * <p>
+ * Each weak subscription is represented with usual event bus {@link Subscriber}, targeting weak reference (which
+ * calls actual subscriber method, if subscriber is still alive). {@link GuiceyEventBus} dispatches these
+ * subscribers together with usual subscribers, so all event bus features (including custom dispatcher,
+ * {@link DeadEvent}) work the same way for weak subscribers. Exceptions are handled with event bus exception
+ * handler (with actual subscriber in context). Subscriber methods without {@link AllowConcurrentEvents} are
+ * synchronized, as in event bus.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class WeakSubscribersRegistry {
+
+    private final EventBus eventbus;
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    // concurrent sets: constant time removal of collected subscribers (without copying)
+    private final Map<Class<?>, Set<WeakSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<Method>> methodsCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Set<Class<?>>> hierarchyCache = new ConcurrentHashMap<>();
+
+    public WeakSubscribersRegistry(final EventBus eventbus) {
+        this.eventbus = eventbus;
+    }
+
+    /**
+     * Registers all subscriber methods of provided instance. Instance is referenced weakly.
+     *
+     * @param listener subscriber instance
+     */
+    public void register(final Object listener) {
+        expungeCollected();
+        for (Method method : methodsCache.computeIfAbsent(listener.getClass(), this::findSubscriberMethods)) {
+            subscribers.computeIfAbsent(method.getParameterTypes()[0], key -> ConcurrentHashMap.newKeySet())
+                    .add(new WeakSubscriber(eventbus, listener, method, collected));
+        }
+    }
+
+    /**
+     * @return event types with registered weak subscribers
+     */
+    public Set<Class> getListenedEvents() {
+        expungeCollected();
+        final Set<Class> res = new HashSet<>();
+        subscribers.forEach((event, subs) -> {
+            if (!subs.isEmpty()) {
+                res.add(event);
+            }
+        });
+        return res;
+    }
+
+    /**
+     * @param event event type
+     * @return alive subscriber instances of exact event type (not including subscribers of super types)
+     */
+    public Set<Object> getSubscribers(final Class<?> event) {
+        final Set<Object> res = new HashSet<>();
+        final Set<WeakSubscriber> subs = subscribers.get(event);
+        if (subs != null) {
+            for (WeakSubscriber subscriber : subs) {
+                final Object target = subscriber.get();
+                if (target != null) {
+                    res.add(target);
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @param event event type
+     * @return alive subscriptions count of exact event type (one instance may contain multiple subscriptions)
+     */
+    public int getSubscriptionsCount(final Class<?> event) {
+        expungeCollected();
+        final Set<WeakSubscriber> subs = subscribers.get(event);
+        return subs == null ? 0 : subs.size();
+    }
+
+    /**
+     * Weak subscribers for posted event (including subscribers of event super types), as in event bus
+     * subscribers registry.
+     *
+     * @param event posted event
+     * @return event bus subscribers for weak subscriptions
+     */
+    Iterator<Subscriber> getEventSubscribers(final Object event) {
+        expungeCollected();
+        final List<Subscriber> res = new ArrayList<>();
+        for (Class<?> type : hierarchyCache.computeIfAbsent(event.getClass(),
+                key -> new HashSet<>(TypeToken.of(key).getTypes().rawTypes()))) {
+            final Set<WeakSubscriber> subs = subscribers.get(type);
+            if (subs != null) {
+                for (WeakSubscriber subscriber : subs) {
+                    res.add(subscriber.subscriber);
+                }
+            }
+        }
+        return res.isEmpty() ? Collections.emptyIterator() : res.iterator();
+    }
+
+    private void expungeCollected() {
+        Reference<?> ref = collected.poll();
+        while (ref != null) {
+            final WeakSubscriber subscriber = (WeakSubscriber) ref;
+            final Set<WeakSubscriber> subs = subscribers.get(subscriber.method.getParameterTypes()[0]);
+            if (subs != null) {
+                subs.remove(subscriber);
+            }
+            ref = collected.poll();
+        }
+    }
+
+    private List<Method> findSubscriberMethods(final Class<?> type) {
+        final Map<String, Method> res = new HashMap<>();
+        for (Class<?> cls : TypeToken.of(type).getTypes().rawTypes()) {
+            for (Method method : cls.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && !method.isSynthetic()) {
+                    if (method.getParameterCount() != 1) {
+                        throw new IllegalArgumentException(String.format(
+                                "Method %s has @Subscribe annotation but has %s parameters. Subscriber methods "
+                                        + "must have exactly 1 parameter.", method, method.getParameterCount()));
+                    }
+                    // method overridden in subclass must be registered just once (as in event bus)
+                    res.putIfAbsent(method.getName() + method.getParameterTypes()[0].getName(), method);
+                }
+            }
+        }
+        final List<Method> methods = new ArrayList<>(res.values());
+        methods.forEach(method -> method.setAccessible(true));
+        return methods;
+    }
+
+    /**
+     * Weakly referenced subscriber method. Event bus {@link Subscriber} targets this object (strongly) and
+     * calls {@link #invoke(Object)}, which calls actual subscriber method (if subscriber is still alive).
+     * Reference equality is identity.
+     */
+    static final class WeakSubscriber extends WeakReference<Object> {
+        private static final Method INVOKE;
+
+        static {
+            try {
+                INVOKE = WeakSubscriber.class.getDeclaredMethod("invoke", Object.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Failed to resolve weak subscriber method", e);
+            }
+        }
+
+        private final EventBus eventbus;
+        private final Method method;
+        private final boolean concurrent;
+        private final Subscriber subscriber;
+
+        WeakSubscriber(final EventBus eventbus,
+                       final Object target,
+                       final Method method,
+                       final ReferenceQueue<Object> queue) {
+            super(target, queue);
+            this.eventbus = eventbus;
+            this.method = method;
+            this.concurrent = method.isAnnotationPresent(AllowConcurrentEvents.class);
+            this.subscriber = Subscriber.create(eventbus, this, INVOKE);
+        }
+
+        /**
+         * @return actual subscriber method
+         */
+        Method getMethod() {
+            return method;
+        }
+
+        /**
+         * Calls subscriber method. Declared as concurrent to avoid subscriber synchronization in event bus:
+         * synchronization is applied here (on actual subscriber instance, if required).
+         *
+         * @param event event
+         */
+        @AllowConcurrentEvents
+        void invoke(final Object event) {
+            final Object target = get();
+            if (target == null) {
+                return;
+            }
+            try {
+                if (concurrent) {
+                    method.invoke(target, event);
+                } else {
+                    synchronized (target) {
+                        method.invoke(target, event);
+                    }
+                }
+            } catch (InvocationTargetException e) {
+                eventbus.handleSubscriberException(e.getCause(),
+                        new SubscriberExceptionContext(eventbus, event, target, method));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Failed to call subscriber method " + method, e);
+            }
+        }
+    }
+}
@@ -1,16 +1,30 @@
 package ru.vyarus.guicey.eventbus;
 
+import com.google.common.base.Preconditions;
+import com.google.common.eventbus.AsyncAwareDispatcher;
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.GuiceyEventBus;
+import com.google.common.eventbus.WeakSubscribersRegistry;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matcher;
 import com.google.inject.matcher.Matchers;
 import ru.vyarus.dropwizard.guice.module.context.unique.item.UniqueGuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
+import ru.vyarus.guicey.eventbus.async.AsyncDispatchConfig;
+import ru.vyarus.guicey.eventbus.async.AsyncEventsExecutor;
+import ru.vyarus.guicey.eventbus.async.AsyncSubscribersSelector;
+import ru.vyarus.guicey.eventbus.metrics.EventBusMetrics;
+import ru.vyarus.guicey.eventbus.metrics.EventBusStatsServlet;
 import ru.vyarus.guicey.eventbus.module.EventBusModule;
 import ru.vyarus.guicey.eventbus.module.TypeLiteralAdapterMatcher;
 import ru.vyarus.guicey.eventbus.report.EventSubscribersReporter;
+import ru.vyarus.guicey.eventbus.report.SubscriptionsCountReporter;
 import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.function.BiPredicate;
+
 /**
  * Binds support for single (!) event bus. {@link EventBus} available for injection (to publish events).
  * All guice beans with methods annotated with {@link com.google.common.eventbus.Subscribe} are
@@ -21,6 +35,17 @@ import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
  *     new EventBusBundle(myCustomBus)
  * </code></pre>
  * <p>
+ * Default event bus could call selected subscribers asynchronously (with bounded executor):
+ * <pre><code>
+ *     new EventBusBundle()
+ *          .withAsyncDispatch(new AsyncDispatchConfig().events(MyEvent.class))
+ * </code></pre>
+ * <p>
+ * Dispatch metrics (events and subscribers timers) could be enabled with {@link #withMetrics()}.
+ * <p>
+ * Non singleton subscribers could be held with weak references (to avoid memory leaks) with
+ * {@link #withWeakSubscribers()}.
+ * <p>
  * You can reduce amount of classes checked for listener methods by providing custom types matcher. For example,
  * <pre><code>
  *     new EventBusBundle()
@@ -39,15 +64,22 @@ import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
  */
 public class EventBusBundle extends UniqueGuiceyBundle {
 
+    private static final String BUS_NAME = "bus";
+
     private final EventBus eventbus;
     private Matcher<? super TypeLiteral<?>> typeMatcher = Matchers.any();
     private boolean report = true;
+    private AsyncDispatchConfig asyncConfig;
+    private boolean weakSubscribers;
+    private boolean metrics;
+    private Duration countReportPeriod;
 
     /**
-     * Register default event bus. Events processing is synchronous.
+     * Register default event bus. Events processing is synchronous (unless async dispatch enabled with
+     * {@link #withAsyncDispatch(AsyncDispatchConfig)}).
      */
     public EventBusBundle() {
-        this(new EventBus("bus"));
+        this.eventbus = null;
     }
 
     /**
@@ -57,7 +89,7 @@ public class EventBusBundle extends UniqueGuiceyBundle {
      * @param eventbus event bus instance
      */
     public EventBusBundle(final EventBus eventbus) {
-        this.eventbus = eventbus;
+        this.eventbus = Preconditions.checkNotNull(eventbus, "Event bus required");
     }
 
     /**
@@ -90,9 +122,91 @@ public class EventBusBundle extends UniqueGuiceyBundle {
         return this;
     }
 
+    /**
+     * Enables asynchronous processing for selected subscribers: all subscribers of configured event types
+     * ({@link AsyncDispatchConfig#events(Class[])}) and subscribers annotated with
+     * {@link ru.vyarus.guicey.eventbus.async.AsyncSubscriber}. All other subscribers are processed synchronously.
+     * <p>
+     * Async subscribers are executed with bounded executor (see {@link AsyncDispatchConfig} for configuration).
+     * Executor queue metrics are published into dropwizard metrics registry (see {@link AsyncEventsExecutor}).
+     * <p>
+     * Could be used only with default event bus (not applicable for custom event bus instance).
+     *
+     * @param config async dispatch configuration
+     * @return bundle instance for chained calls
+     */
+    public EventBusBundle withAsyncDispatch(final AsyncDispatchConfig config) {
+        Preconditions.checkState(eventbus == null,
+                "Async dispatch can't be used with custom event bus instance");
+        this.asyncConfig = Preconditions.checkNotNull(config, "Async dispatch configuration required");
+        return this;
+    }
+
+    /**
+     * Enables event bus dispatch metrics: posted events count and dispatch time per event type, execution time and
+     * failures count per subscriber method (see {@link EventBusMetrics} for metric names). {@link EventBusMetrics}
+     * is available for injection. Statistics report
+     * (with the most time-consuming subscribers first) is available in admin context on
+     * {@link EventBusStatsServlet#PATH} path.
+     * <p>
+     * Could be used only with default event bus (not applicable for custom event bus instance).
+     *
+     * @return bundle instance for chained calls
+     */
+    public EventBusBundle withMetrics() {
+        Preconditions.checkState(eventbus == null,
+                "Metrics can't be used with custom event bus instance");
+        this.metrics = true;
+        return this;
+    }
+
+    /**
+     * Event bus holds all registered subscribers forever, so non singleton subscriber instances (e.g. prototypes or
+     * request scoped beans) would never be garbage collected, and each new instance would slow down events
+     * publication. With weak subscribers, non singleton subscribers are registered in
+     * {@link WeakSubscribersRegistry} with weak references and removed automatically after garbage collection.
+     * Singleton subscribers are still registered in event bus directly. Weak subscribers are dispatched
+     * together with usual subscribers (async dispatch and metrics are applied to them too).
+     * <p>
+     * Could be used only with default event bus (not applicable for custom event bus instance).
+     *
+     * @return bundle instance for chained calls
+     */
+    public EventBusBundle withWeakSubscribers() {
+        Preconditions.checkState(eventbus == null,
+                "Weak subscribers can't be used with custom event bus instance");
+        this.weakSubscribers = true;
+        return this;
+    }
+
+    /**
+     * Periodically logs subscriptions count for each event type (including alive weak subscriptions) to
+     * make subscribers leaks visible.
+     *
+     * @param period report period
+     * @return bundle instance for chained calls
+     * @see SubscriptionsCountReporter
+     */
+    public EventBusBundle withSubscriptionsCountReport(final Duration period) {
+        Preconditions.checkArgument(period != null && !period.isNegative() && !period.isZero(),
+                "Positive report period required");
+        this.countReportPeriod = period;
+        return this;
+    }
+
     @Override
     public void run(final GuiceyEnvironment environment) {
-        environment.modules(new EventBusModule(eventbus, typeMatcher));
+        final EventBus bus = createEventBus(environment);
+        // weak subscribers could be enabled only for default bus
+        final WeakSubscribersRegistry weak = weakSubscribers ? ((GuiceyEventBus) bus).getWeakSubscribers() : null;
+        environment.modules(new EventBusModule(bus, typeMatcher, weak));
+
+        if (countReportPeriod != null) {
+            final SubscriptionsCountReporter countReporter = new SubscriptionsCountReporter(countReportPeriod);
+            environment.manage(countReporter)
+                    .onGuiceyStartup((config, env, injector) ->
+                            countReporter.init(injector.getInstance(EventSubscribersInfo.class)));
+        }
 
         if (report) {
             // report after application startup to count events, resolved from JIT-created services (not declared)
@@ -103,4 +217,30 @@ public class EventBusBundle extends UniqueGuiceyBundle {
             });
         }
     }
+
+    private EventBus createEventBus(final GuiceyEnvironment environment) {
+        if (eventbus != null) {
+            return eventbus;
+        }
+        if (asyncConfig == null && !metrics && !weakSubscribers) {
+            return new EventBus(BUS_NAME);
+        }
+        EventBusMetrics busMetrics = null;
+        if (metrics) {
+            final EventBusMetrics busMetricsInstance = new EventBusMetrics(environment.environment().metrics());
+            busMetrics = busMetricsInstance;
+            environment.modules(binder -> binder.bind(EventBusMetrics.class).toInstance(busMetricsInstance));
+            environment.environment().admin().addServlet("eventbus-stats", new EventBusStatsServlet(busMetrics))
+                    .addMapping(EventBusStatsServlet.PATH);
+        }
+        AsyncEventsExecutor executor = null;
+        BiPredicate<Class<?>, Method> asyncSelector = (event, method) -> false;
+        if (asyncConfig != null) {
+            executor = new AsyncEventsExecutor(asyncConfig, environment.environment().metrics());
+            environment.manage(executor);
+            asyncSelector = new AsyncSubscribersSelector(asyncConfig.getEvents());
+        }
+        return AsyncAwareDispatcher.createEventBus(BUS_NAME,
+                new AsyncAwareDispatcher(executor, asyncSelector, busMetrics), weakSubscribers);
+    }
 }
@@ -0,0 +1,123 @@
+package ru.vyarus.guicey.eventbus.async;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Asynchronous events dispatch configuration. Only subscribers, annotated with {@link AsyncSubscriber} and
+ * subscribers of events, configured with {@link #events(Class[])}, are processed asynchronously. All other
+ * subscribers are called synchronously (as usual).
+ * <p>
+ * Async subscribers are called with bounded executor: fixed threads count and bounded queue. Queue overflow
+ * behaviour is configured with {@link OverflowPolicy}.
+ * <p>
+ * Example: {@code new AsyncDispatchConfig().threads(4).queueSize(500).events(AuditEvent.class)}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class AsyncDispatchConfig {
+
+    private int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private int queueSize = 1000;
+    private OverflowPolicy overflow = OverflowPolicy.CALLER_RUNS;
+    private boolean virtualThreads;
+    private final List<Class<?>> events = new ArrayList<>();
+
+    /**
+     * By default, threads count is equal to available processors (but not less than 2).
+     *
+     * @param threads async subscribers execution threads count
+     * @return config instance for chained calls
+     */
+    public AsyncDispatchConfig threads(final int threads) {
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive");
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * By default, queue size is 1000.
+     *
+     * @param queueSize max queued subscriber calls
+     * @return config instance for chained calls
+     */
+    public AsyncDispatchConfig queueSize(final int queueSize) {
+        Preconditions.checkArgument(queueSize > 0, "Queue size must be positive");
+        this.queueSize = queueSize;
+        return this;
+    }
+
+    /**
+     * By default, {@link OverflowPolicy#CALLER_RUNS} used.
+     *
+     * @param overflow policy for the case when queue is full
+     * @return config instance for chained calls
+     */
+    public AsyncDispatchConfig overflow(final OverflowPolicy overflow) {
+        this.overflow = Preconditions.checkNotNull(overflow, "Overflow policy required");
+        return this;
+    }
+
+    /**
+     * Use virtual threads instead of platform threads (threads count still limits concurrent subscribers
+     * execution). Requires java 21 or above.
+     *
+     * @return config instance for chained calls
+     */
+    public AsyncDispatchConfig virtualThreads() {
+        this.virtualThreads = true;
+        return this;
+    }
+
+    /**
+     * All subscribers of specified events (and subtypes) would be called asynchronously. Use {@code Object.class}
+     * to process all events asynchronously.
+     *
+     * @param events event types to dispatch asynchronously
+     * @return config instance for chained calls
+     */
+    public AsyncDispatchConfig events(final Class<?>... events) {
+        this.events.addAll(Arrays.asList(events));
+        return this;
+    }
+
+    /**
+     * @return threads count
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return queue size
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * @return queue overflow policy
+     */
+    public OverflowPolicy getOverflow() {
+        return overflow;
+    }
+
+    /**
+     * @return true to use virtual threads
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @return event types to dispatch asynchronously
+     */
+    public List<Class<?>> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+}
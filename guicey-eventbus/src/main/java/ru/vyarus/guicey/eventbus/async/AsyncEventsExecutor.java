@@ -0,0 +1,124 @@
+package ru.vyarus.guicey.eventbus.async;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded executor for asynchronous subscribers. Executor is managed: it would be shut down on application
+ * shutdown (waiting for queued subscribers).
+ * <p>
+ * Registered metrics:
+ * <ul>
+ * <li>{@code eventbus.async.queue} - queued subscriber calls count</li>
+ * <li>{@code eventbus.async.active} - currently executing subscribers count</li>
+ * <li>{@code eventbus.async.latency} - time between event publication and subscriber execution start</li>
+ * <li>{@code eventbus.async.dropped} - dropped subscriber calls (only with {@link OverflowPolicy#DROP})</li>
+ * </ul>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class AsyncEventsExecutor implements Executor, Managed {
+
+    /**
+     * Async dispatch metrics prefix.
+     */
+    public static final String METRICS_PREFIX = "eventbus.async";
+    private static final String THREAD_NAME = "eventbus-async-";
+    private static final int SHUTDOWN_TIMEOUT = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(AsyncEventsExecutor.class);
+
+    private final ThreadPoolExecutor pool;
+    private final Timer latency;
+    private final Meter dropped;
+
+    public AsyncEventsExecutor(final AsyncDispatchConfig config, final MetricRegistry metrics) {
+        final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(config.getQueueSize());
+        this.pool = new ThreadPoolExecutor(config.getThreads(), config.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                queue, createThreadFactory(config.isVirtualThreads()), createRejectionHandler(config));
+
+        metrics.gauge(MetricRegistry.name(METRICS_PREFIX, "queue"), () -> (Gauge<Integer>) queue::size);
+        metrics.gauge(MetricRegistry.name(METRICS_PREFIX, "active"), () -> (Gauge<Integer>) pool::getActiveCount);
+        this.latency = metrics.timer(MetricRegistry.name(METRICS_PREFIX, "latency"));
+        this.dropped = metrics.meter(MetricRegistry.name(METRICS_PREFIX, "dropped"));
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        final long published = System.nanoTime();
+        pool.execute(() -> {
+            latency.update(System.nanoTime() - published, TimeUnit.NANOSECONDS);
+            command.run();
+        });
+    }
+
+    @Override
+    public void stop() throws Exception {
+        pool.shutdown();
+        if (!pool.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+            logger.warn("Async event subscribers were not completed in {} seconds: {} queued calls dropped",
+                    SHUTDOWN_TIMEOUT, pool.shutdownNow().size());
+        }
+    }
+
+    private RejectedExecutionHandler createRejectionHandler(final AsyncDispatchConfig config) {
+        final RejectedExecutionHandler res;
+        switch (config.getOverflow()) {
+            case BLOCK:
+                res = (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Async events executor is shut down");
+                    }
+                    try {
+                        executor.getQueue().put(task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for async events queue", e);
+                    }
+                };
+                break;
+            case DROP:
+                res = (task, executor) -> {
+                    dropped.mark();
+                    logger.warn("Async event subscriber call dropped: queue is full ({} calls)",
+                            config.getQueueSize());
+                };
+                break;
+            default:
+                res = new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+        return res;
+    }
+
+    private ThreadFactory createThreadFactory(final boolean virtual) {
+        if (virtual) {
+            // reflection used to stay compatible with java 11
+            try {
+                final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                builder = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME, 0L);
+                return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Virtual threads are not supported by current JVM "
+                        + "(java 21 or above required)", e);
+            }
+        }
+        return new ThreadFactoryBuilder().setNameFormat(THREAD_NAME + "%d").setDaemon(true).build();
+    }
+}
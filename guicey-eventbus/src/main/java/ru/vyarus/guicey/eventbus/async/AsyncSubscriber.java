@@ -0,0 +1,24 @@
+package ru.vyarus.guicey.eventbus.async;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks {@link com.google.common.eventbus.Subscribe} method (or entire listener class) to be called asynchronously.
+ * Works only when async dispatch is enabled with
+ * {@link ru.vyarus.guicey.eventbus.EventBusBundle#withAsyncDispatch(AsyncDispatchConfig)} (otherwise
+ * annotation is ignored).
+ * <p>
+ * All other subscribers of the same event would be still called synchronously (if event type itself is not
+ * configured as asynchronous).
+ *
+ * @author Vyacheslav Rusakov
+ * @see AsyncDispatchConfig#events(Class[]) for event types async dispatch
+ * @since 19.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface AsyncSubscriber {
+}
@@ -0,0 +1,46 @@
+package ru.vyarus.guicey.eventbus.async;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+
+/**
+ * Decides if subscriber must be called asynchronously: when event type is configured as async
+ * (with {@link AsyncDispatchConfig#events(Class[])}) or subscriber method (or declaring class) is annotated with
+ * {@link AsyncSubscriber}. Decisions are cached to avoid reflection on each dispatch.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class AsyncSubscribersSelector implements BiPredicate<Class<?>, Method> {
+
+    private final List<Class<?>> asyncEvents;
+    private final Map<Class<?>, Boolean> eventsCache = new ConcurrentHashMap<>();
+    private final Map<Method, Boolean> subscribersCache = new ConcurrentHashMap<>();
+
+    public AsyncSubscribersSelector(final List<Class<?>> asyncEvents) {
+        this.asyncEvents = asyncEvents;
+    }
+
+    @Override
+    public boolean test(final Class<?> event, final Method subscriber) {
+        return eventsCache.computeIfAbsent(event, this::isAsyncEvent)
+                || subscribersCache.computeIfAbsent(subscriber, this::isAsyncSubscriber);
+    }
+
+    private boolean isAsyncEvent(final Class<?> event) {
+        for (Class<?> type : asyncEvents) {
+            if (type.isAssignableFrom(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAsyncSubscriber(final Method method) {
+        return method.isAnnotationPresent(AsyncSubscriber.class)
+                || method.getDeclaringClass().isAnnotationPresent(AsyncSubscriber.class);
+    }
+}
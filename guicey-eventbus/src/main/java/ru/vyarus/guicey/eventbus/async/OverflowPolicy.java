@@ -0,0 +1,23 @@
+package ru.vyarus.guicey.eventbus.async;
+
+/**
+ * Async dispatch behaviour when executor queue is full.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Publishing thread waits until queue would have free space.
+     */
+    BLOCK,
+    /**
+     * Subscriber call is dropped (with warning in log and "eventbus.async.dropped" meter increment).
+     */
+    DROP,
+    /**
+     * Subscriber is called synchronously in publishing thread.
+     */
+    CALLER_RUNS
+}
@@ -0,0 +1,101 @@
+package ru.vyarus.guicey.eventbus.metrics;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event bus dispatch metrics. Registered metrics:
+ * <ul>
+ * <li>{@code eventbus.events.[event class]} - timer for each posted event type: time from event publication
+ * until all synchronous subscribers are called (timer count is posted events count, including events without
+ * subscribers)</li>
+ * <li>{@code eventbus.subscribers.[subscriber class].[method]} - subscriber method execution time</li>
+ * <li>{@code eventbus.subscribers.[subscriber class].[method].errors} - subscriber method failures</li>
+ * </ul>
+ * Metrics are created lazily (on first event publication).
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.guicey.eventbus.EventBusBundle#withMetrics()
+ * @since 19.10.2026
+ */
+public class EventBusMetrics {
+
+    /**
+     * Events metrics prefix.
+     */
+    public static final String EVENTS_PREFIX = "eventbus.events";
+    /**
+     * Subscribers metrics prefix.
+     */
+    public static final String SUBSCRIBERS_PREFIX = "eventbus.subscribers";
+    private static final String ERRORS = "errors";
+
+    private final MetricRegistry metrics;
+    private final Map<Class<?>, Timer> events = new ConcurrentHashMap<>();
+    private final Map<Method, Timer> subscribers = new ConcurrentHashMap<>();
+    private final Map<Method, Meter> errors = new ConcurrentHashMap<>();
+
+    public EventBusMetrics(final MetricRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param event    event type
+     * @param duration event dispatch time in nanoseconds
+     */
+    public void eventDispatched(final Class<?> event, final long duration) {
+        events.computeIfAbsent(event, type -> metrics.timer(MetricRegistry.name(EVENTS_PREFIX, type.getName())))
+                .update(duration, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param subscriber subscriber method
+     * @param duration   subscriber execution time in nanoseconds
+     */
+    public void subscriberCalled(final Method subscriber, final long duration) {
+        subscribers.computeIfAbsent(subscriber, method -> metrics.timer(subscriberMetricName(method)))
+                .update(duration, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param subscriber failed subscriber method
+     */
+    public void subscriberFailed(final Method subscriber) {
+        errors.computeIfAbsent(subscriber, method -> metrics.meter(
+                MetricRegistry.name(subscriberMetricName(method), ERRORS))).mark();
+    }
+
+    /**
+     * @return timers for posted events
+     */
+    public Map<Class<?>, Timer> getEventTimers() {
+        return Collections.unmodifiableMap(events);
+    }
+
+    /**
+     * @return timers for called subscribers
+     */
+    public Map<Method, Timer> getSubscriberTimers() {
+        return Collections.unmodifiableMap(subscribers);
+    }
+
+    /**
+     * @param subscriber subscriber method
+     * @return subscriber failures count
+     */
+    public long getSubscriberErrors(final Method subscriber) {
+        final Meter meter = errors.get(subscriber);
+        return meter == null ? 0 : meter.getCount();
+    }
+
+    private String subscriberMetricName(final Method method) {
+        return MetricRegistry.name(SUBSCRIBERS_PREFIX, method.getDeclaringClass().getName(), method.getName());
+    }
+}
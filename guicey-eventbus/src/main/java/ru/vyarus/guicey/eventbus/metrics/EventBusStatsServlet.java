@@ -0,0 +1,92 @@
+package ru.vyarus.guicey.eventbus.metrics;
+
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admin servlet rendering event bus dispatch statistics: posted events with dispatch time and subscribers,
+ * sorted by total execution time (the most time-consuming subscribers first). Registered on
+ * {@link #PATH} path.
+ *
+ * @author Vyacheslav Rusakov
+ * @see EventBusMetrics
+ * @since 19.10.2026
+ */
+public class EventBusStatsServlet extends HttpServlet {
+
+    /**
+     * Servlet mapping path in admin context.
+     */
+    public static final String PATH = "/eventbus";
+    private static final long serialVersionUID = 1L;
+    private static final String ROW = "    %-60s %10s %10s %10s %10s %10s%n";
+    private static final String NUMBERS_ROW = "    %-60s %10d %10.3f %10.3f %10.3f %10s%n";
+
+    private final transient EventBusMetrics metrics;
+
+    public EventBusStatsServlet(final EventBusMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doGet(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+        resp.setContentType("text/plain");
+        resp.setCharacterEncoding("UTF-8");
+        resp.setHeader("Cache-Control", "must-revalidate,no-cache,no-store");
+        try (PrintWriter writer = resp.getWriter()) {
+            writer.print(renderReport());
+        }
+    }
+
+    /**
+     * @return rendered statistics report
+     */
+    @SuppressWarnings("PMD.ConsecutiveLiteralAppends")
+    public String renderReport() {
+        final StringBuilder res = new StringBuilder(200);
+        res.append("Events").append(System.lineSeparator()).append(System.lineSeparator())
+                .append(String.format(ROW, "event", "posted", "mean ms", "p99 ms", "max ms", ""));
+        final List<Map.Entry<Class<?>, Timer>> events = new ArrayList<>(metrics.getEventTimers().entrySet());
+        events.sort(Comparator.comparing(entry -> entry.getKey().getName()));
+        for (Map.Entry<Class<?>, Timer> entry : events) {
+            res.append(renderTimer(entry.getKey().getName(), entry.getValue(), ""));
+        }
+
+        res.append(System.lineSeparator()).append("Subscribers").append(System.lineSeparator())
+                .append(System.lineSeparator())
+                .append(String.format(ROW, "subscriber", "calls", "mean ms", "p99 ms", "max ms", "errors"));
+        final List<Map.Entry<Method, Timer>> subscribers =
+                new ArrayList<>(metrics.getSubscriberTimers().entrySet());
+        // the most time-consuming subscribers first
+        subscribers.sort(Comparator.comparingDouble((Map.Entry<Method, Timer> entry) ->
+                entry.getValue().getCount() * entry.getValue().getSnapshot().getMean()).reversed());
+        for (Map.Entry<Method, Timer> entry : subscribers) {
+            final Method method = entry.getKey();
+            res.append(renderTimer(method.getDeclaringClass().getName() + "." + method.getName(),
+                    entry.getValue(), String.valueOf(metrics.getSubscriberErrors(method))));
+        }
+        return res.toString();
+    }
+
+    private String renderTimer(final String name, final Timer timer, final String errors) {
+        final Snapshot snapshot = timer.getSnapshot();
+        return String.format(NUMBERS_ROW, name, timer.getCount(), toMs(snapshot.getMean()),
+                toMs(snapshot.get99thPercentile()), toMs(snapshot.getMax()), errors);
+    }
+
+    private double toMs(final double nanos) {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
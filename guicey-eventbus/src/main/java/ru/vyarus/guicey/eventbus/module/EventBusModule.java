@@ -1,21 +1,48 @@
 package ru.vyarus.guicey.eventbus.module;
 
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.WeakSubscribersRegistry;
 import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
 import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Scopes;
 import com.google.inject.TypeLiteral;
+import com.google.inject.matcher.AbstractMatcher;
 import com.google.inject.matcher.Matcher;
 import com.google.inject.spi.InjectionListener;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.ProvisionListener;
 import com.google.inject.spi.TypeEncounter;
 import com.google.inject.spi.TypeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
 
 import jakarta.inject.Singleton;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Module binds provided {@link EventBus} instance. Publishers should inject event bus for posting events.
  * Listeners must only define method with event as argument and annotated with {@link Subscribe}. All guice beans
  * with annotated methods registered automatically.
+ * <p>
+ * Bean types are checked for subscriber methods once (when guice encounters type), so instances of types without
+ * subscriber methods are never passed to event bus.
+ * <p>
+ * When {@link WeakSubscribersRegistry} provided, non singleton subscribers are registered there (and not in event
+ * bus) to be able to be garbage collected. Scope is resolved from the binding used for subscriber provision. When
+ * scope can't be resolved (e.g. instance injected with {@code requestInjection()}) subscriber is registered in event
+ * bus.
  *
  * @author Vyacheslav Rusakov
  * @see EventSubscribersInfo guice bean registered for programmatic subscribers info access
@@ -25,30 +52,213 @@ public class EventBusModule extends AbstractModule {
 
     private final EventBus eventbus;
     private final Matcher<? super TypeLiteral<?>> typeMatcher;
+    private final WeakSubscribersRegistry weakSubscribers;
 
     public EventBusModule(final EventBus eventbus,
                           final Matcher<? super TypeLiteral<?>> typeMatcher) {
+        this(eventbus, typeMatcher, null);
+    }
+
+    /**
+     * @param eventbus        event bus
+     * @param typeMatcher     matcher for checked bean types
+     * @param weakSubscribers registry for non singleton subscribers or null to register all subscribers in event bus
+     */
+    public EventBusModule(final EventBus eventbus,
+                          final Matcher<? super TypeLiteral<?>> typeMatcher,
+                          final WeakSubscribersRegistry weakSubscribers) {
         this.eventbus = eventbus;
         this.typeMatcher = typeMatcher;
+        this.weakSubscribers = weakSubscribers;
     }
 
     @Override
     protected void configure() {
         bind(EventBus.class).toInstance(eventbus);
-        bind(EventSubscribersInfo.class).in(Singleton.class);
+        if (weakSubscribers == null) {
+            bind(EventSubscribersInfo.class).in(Singleton.class);
+        } else {
+            bind(WeakSubscribersRegistry.class).toInstance(weakSubscribers);
+            bind(EventSubscribersInfo.class).toInstance(new EventSubscribersInfo(eventbus, weakSubscribers));
+        }
 
         bindListener();
     }
 
-    @SuppressWarnings("unchecked")
     private void bindListener() {
+        final ProvisionScopeTracker scopes = weakSubscribers == null
+                ? null : new ProvisionScopeTracker(getProvider(Injector.class));
+        if (scopes != null) {
+            // track only bindings which could provide subscribers to avoid overhead for all other beans
+            bindListener(new AbstractMatcher<Binding<?>>() {
+                @Override
+                public boolean matches(final Binding<?> binding) {
+                    final TypeLiteral<?> type = binding.getKey().getTypeLiteral();
+                    return typeMatcher.matches(type) && hasSubscriberMethods(type.getRawType());
+                }
+            }, scopes);
+        }
         bindListener(typeMatcher, new TypeListener() {
             @Override
             public <I> void hear(final TypeLiteral<I> type, final TypeEncounter<I> encounter) {
-                // register all beans: event bus will introspect each class and register found listeners
+                // register only beans with listener methods: otherwise event bus would introspect each created
+                // instance (including prototypes) just to find nothing
                 // duplicate registrations are valid (internal event bus cache will handle it)
-                encounter.register((InjectionListener) eventbus::register);
+                if (hasSubscriberMethods(type.getRawType())) {
+                    encounter.register(scopes == null
+                            ? new SubscriberRegistrationListener<>(eventbus, type.getRawType())
+                            : new ScopeAwareRegistrationListener<>(eventbus, weakSubscribers, scopes));
+                }
             }
         });
     }
+
+    /**
+     * Searches for {@link Subscribe} annotated methods the same way as event bus do (in all classes and interfaces
+     * of hierarchy).
+     *
+     * @param type bean type
+     * @return true if type contains subscriber methods, false otherwise
+     */
+    public static boolean hasSubscriberMethods(final Class<?> type) {
+        for (Class<?> cls : TypeToken.of(type).getTypes().rawTypes()) {
+            for (Method method : cls.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && !method.isSynthetic()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registers subscriber instances in event bus. Event bus holds registered instances forever, so non singleton
+     * subscriber instances would never be garbage collected (memory leak). Warning is logged when second instance of
+     * the same type is registered.
+     *
+     * @param <I> subscriber type
+     */
+    private static class SubscriberRegistrationListener<I> implements InjectionListener<I> {
+        private final Logger logger = LoggerFactory.getLogger(EventBusModule.class);
+
+        private final EventBus eventbus;
+        private final Class<?> type;
+        private final AtomicInteger instances = new AtomicInteger();
+
+        SubscriberRegistrationListener(final EventBus eventbus, final Class<?> type) {
+            this.eventbus = eventbus;
+            this.type = type;
+        }
+
+        @Override
+        public void afterInjection(final I injectee) {
+            if (instances.incrementAndGet() == 2) {
+                logger.warn("Multiple instances of event subscriber {} registered in event bus: event bus holds "
+                        + "all registered instances, so non singleton subscribers will never be garbage "
+                        + "collected. Use singleton scope for subscribers.", type.getName());
+            }
+            eventbus.register(injectee);
+        }
+    }
+
+    /**
+     * Registers singleton subscribers in event bus and non singleton subscribers in weak subscribers registry
+     * (so they could be garbage collected). Scope is resolved for each instance from the binding used for its
+     * provision.
+     *
+     * @param <I> subscriber type
+     */
+    private static class ScopeAwareRegistrationListener<I> implements InjectionListener<I> {
+
+        private final EventBus eventbus;
+        private final WeakSubscribersRegistry weakSubscribers;
+        private final ProvisionScopeTracker scopes;
+
+        ScopeAwareRegistrationListener(final EventBus eventbus,
+                                       final WeakSubscribersRegistry weakSubscribers,
+                                       final ProvisionScopeTracker scopes) {
+            this.eventbus = eventbus;
+            this.weakSubscribers = weakSubscribers;
+            this.scopes = scopes;
+        }
+
+        @Override
+        public void afterInjection(final I injectee) {
+            if (scopes.isSingleton(injectee)) {
+                eventbus.register(injectee);
+            } else {
+                weakSubscribers.register(injectee);
+            }
+        }
+    }
+
+    /**
+     * Tracks bindings under provision (guice notifies injection listeners inside provision) in order to resolve
+     * scope of injected subscriber. Guice provisions linked bindings ({@code bind(Iface).to(Impl).in(Singleton)})
+     * with target (not scoped) constructor binding, so targets of singleton linked bindings are also considered as
+     * singletons.
+     * <p>
+     * Existing bindings are only inspected (no JIT bindings created). Instances without provision binding
+     * (e.g. injected with {@code requestInjection()}) are treated as singletons.
+     */
+    private static class ProvisionScopeTracker implements ProvisionListener {
+
+        private final ThreadLocal<Deque<Binding<?>>> provisioned = ThreadLocal.withInitial(ArrayDeque::new);
+        private final Provider<Injector> injector;
+        private volatile Set<Key<?>> singletonTargets;
+
+        ProvisionScopeTracker(final Provider<Injector> injector) {
+            this.injector = injector;
+        }
+
+        @Override
+        public <T> void onProvision(final ProvisionInvocation<T> provision) {
+            final Deque<Binding<?>> stack = provisioned.get();
+            stack.push(provision.getBinding());
+            try {
+                provision.provision();
+            } finally {
+                stack.pop();
+                if (stack.isEmpty()) {
+                    provisioned.remove();
+                }
+            }
+        }
+
+        /**
+         * @param instance injected subscriber instance
+         * @return true if instance is a singleton or its scope can't be resolved, false for non singleton instance
+         */
+        boolean isSingleton(final Object instance) {
+            final Binding<?> binding = provisioned.get().peek();
+            if (binding == null) {
+                provisioned.remove();
+                return true;
+            }
+            // instance not provided by this binding (e.g. requestInjection() called inside provision)
+            if (!binding.getKey().getTypeLiteral().getRawType().isInstance(instance)) {
+                return true;
+            }
+            return Scopes.isSingleton(binding) || getSingletonTargets().contains(binding.getKey());
+        }
+
+        private Set<Key<?>> getSingletonTargets() {
+            if (singletonTargets == null) {
+                final Map<Key<?>, Binding<?>> bindings = injector.get().getBindings();
+                final Set<Key<?>> res = new HashSet<>();
+                for (Binding<?> binding : bindings.values()) {
+                    if (binding instanceof LinkedKeyBinding && Scopes.isSingleton(binding)) {
+                        Binding<?> target = binding;
+                        // follow links chain (Iface -> Impl -> SubImpl)
+                        while (target instanceof LinkedKeyBinding
+                                && res.add(((LinkedKeyBinding<?>) target).getLinkedKey())) {
+                            target = bindings.get(((LinkedKeyBinding<?>) target).getLinkedKey());
+                        }
+                    }
+                }
+                singletonTargets = res;
+            }
+            return singletonTargets;
+        }
+    }
 }
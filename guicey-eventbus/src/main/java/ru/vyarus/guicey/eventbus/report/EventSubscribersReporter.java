@@ -48,6 +48,33 @@ public class EventSubscribersReporter {
         return res.toString();
     }
 
+    /**
+     * Renders subscriptions count for each listened event (only alive instances counted for weak subscribers).
+     *
+     * @return rendered report or null if no known listeners
+     */
+    public String renderCountReport() {
+        final Set<Class> events = info.getListenedEvents();
+        if (events.isEmpty()) {
+            return null;
+        }
+
+        final List<Class> sortedEvents = new ArrayList<>(events);
+        sortedEvents.sort(Comparator.comparing(Class::getSimpleName));
+        final StringBuilder res = new StringBuilder("EventBus subscriptions count = ")
+                .append(NEWLINE).append(NEWLINE);
+        for (Class event : sortedEvents) {
+            res.append(TAB).append(String.format("%-40s %s", event.getSimpleName(),
+                    info.getSubscriptionsCount(event)));
+            final int weak = info.getWeakSubscriptionsCount(event);
+            if (weak > 0) {
+                res.append(" (").append(weak).append(" weak)");
+            }
+            res.append(NEWLINE);
+        }
+        return res.toString();
+    }
+
     /**
      * Print registered listeners to console. Do nothing if no known listeners.
      */
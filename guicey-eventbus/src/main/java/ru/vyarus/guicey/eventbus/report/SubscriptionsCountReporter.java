@@ -0,0 +1,72 @@
+package ru.vyarus.guicey.eventbus.report;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically logs subscriptions count for each event type. Growing counts indicate subscribers leak
+ * (non singleton subscribers registered in event bus). Reporting starts with application.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.guicey.eventbus.EventBusBundle#withSubscriptionsCountReport(Duration)
+ * @since 19.10.2026
+ */
+public class SubscriptionsCountReporter implements Managed {
+    private final Logger logger = LoggerFactory.getLogger(SubscriptionsCountReporter.class);
+
+    private final Duration period;
+    private EventSubscribersReporter reporter;
+    private ScheduledExecutorService scheduler;
+
+    public SubscriptionsCountReporter(final Duration period) {
+        this.period = period;
+    }
+
+    /**
+     * Called after injector creation.
+     *
+     * @param info subscribers info bean
+     */
+    public void init(final EventSubscribersInfo info) {
+        this.reporter = new EventSubscribersReporter(info);
+    }
+
+    @Override
+    public void start() throws Exception {
+        Preconditions.checkState(reporter != null, "Subscribers info is not initialized");
+        scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("eventbus-subscriptions-report").setDaemon(true).build());
+        scheduler.scheduleAtFixedRate(this::report, period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() throws Exception {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Log current subscriptions count. Do nothing if no known listeners.
+     */
+    public void report() {
+        try {
+            final String report = reporter.renderCountReport();
+            if (report != null) {
+                logger.info(report);
+            }
+        } catch (Exception ex) {
+            // scheduled task would be cancelled on exception
+            logger.warn("Failed to render event bus subscriptions report", ex);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package ru.vyarus.guicey.eventbus.service;
 
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.SubscriptionIntrospector;
+import com.google.common.eventbus.WeakSubscribersRegistry;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -20,9 +21,12 @@ public class EventSubscribersInfo {
 
     @Inject
     public EventSubscribersInfo(final EventBus eventbus) {
-        this.introspector = new SubscriptionIntrospector(eventbus);
+        this(eventbus, null);
     }
 
+    public EventSubscribersInfo(final EventBus eventbus, final WeakSubscribersRegistry weakSubscribers) {
+        this.introspector = new SubscriptionIntrospector(eventbus, weakSubscribers);
+    }
 
     /**
      * May return not just event types, because method could listen for events abstract type or
@@ -55,4 +59,26 @@ public class EventSubscribersInfo {
     public Set<Object> getListeners(final Class<?> event) {
         return introspector.getSubscribers(event);
     }
+
+    /**
+     * Counts all subscriptions, including weak subscriptions (only alive instances). One listener instance may
+     * contain multiple subscriptions (methods) for the same event.
+     * <p>
+     * NOTE: only direct subscriptions are counted (subscriptions to event super types are not counted).
+     *
+     * @param event event class to get subscriptions count for
+     * @return subscriptions count
+     */
+    public int getSubscriptionsCount(final Class<?> event) {
+        return introspector.getSubscriptionsCount(event);
+    }
+
+    /**
+     * @param event event class to get subscriptions count for
+     * @return weak subscriptions count (always 0 if weak subscriptions are not enabled)
+     * @see ru.vyarus.guicey.eventbus.EventBusBundle#withWeakSubscribers()
+     */
+    public int getWeakSubscriptionsCount(final Class<?> event) {
+        return introspector.getWeakSubscriptionsCount(event);
+    }
 }
@@ -0,0 +1,122 @@
+package ru.vyarus.guicey.eventbus
+
+import com.codahale.metrics.MetricRegistry
+import com.google.common.eventbus.EventBus
+import com.google.common.eventbus.Subscribe
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.eventbus.async.AsyncDispatchConfig
+import ru.vyarus.guicey.eventbus.async.AsyncSubscriber
+import ru.vyarus.guicey.eventbus.async.OverflowPolicy
+import ru.vyarus.guicey.eventbus.support.Event1
+import ru.vyarus.guicey.eventbus.support.Event2
+import ru.vyarus.guicey.eventbus.support.Event3
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(App)
+class AsyncDispatchTest extends Specification {
+
+    @Inject
+    EventBus bus
+    @Inject
+    Service service // trigger JIT binding
+    @Inject
+    Environment environment
+
+    def "Check selective async dispatch"() {
+
+        when: "publish sync event with async subscriber"
+        service.latch = new CountDownLatch(1)
+        bus.post(new Event1())
+        service.latch.await(1, TimeUnit.SECONDS)
+        then: "only annotated subscriber called async"
+        service.threads['sync1'] == Thread.currentThread().name
+        service.threads['async1'].startsWith('eventbus-async-')
+
+        when: "publish async event"
+        service.latch = new CountDownLatch(1)
+        bus.post(new Event2())
+        service.latch.await(1, TimeUnit.SECONDS)
+        then: "called async"
+        service.threads['event2'].startsWith('eventbus-async-')
+
+        when: "publish not configured event"
+        bus.post(new Event3())
+        then: "called sync"
+        service.threads['event3'] == Thread.currentThread().name
+
+        and: "metrics registered"
+        MetricRegistry metrics = environment.metrics()
+        metrics.timer('eventbus.async.latency').count == 2
+        metrics.gauges.containsKey('eventbus.async.queue')
+    }
+
+    def "Check custom bus incompatibility"() {
+
+        when: "configuring async for custom bus"
+        new EventBusBundle(new EventBus()).withAsyncDispatch(new AsyncDispatchConfig())
+        then: "error"
+        thrown(IllegalStateException)
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new EventBusBundle()
+                            .withAsyncDispatch(new AsyncDispatchConfig()
+                                    .threads(2)
+                                    .queueSize(10)
+                                    .overflow(OverflowPolicy.BLOCK)
+                                    .events(Event2)))
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Service {
+
+        Map<String, String> threads = new ConcurrentHashMap<>()
+        CountDownLatch latch
+
+        @Subscribe
+        void onEvent1(Event1 event) {
+            threads['sync1'] = Thread.currentThread().name
+        }
+
+        @Subscribe
+        @AsyncSubscriber
+        void onEvent1Async(Event1 event) {
+            threads['async1'] = Thread.currentThread().name
+            latch.countDown()
+        }
+
+        @Subscribe
+        void onEvent2(Event2 event) {
+            threads['event2'] = Thread.currentThread().name
+            latch.countDown()
+        }
+
+        @Subscribe
+        void onEvent3(Event3 event) {
+            threads['event3'] = Thread.currentThread().name
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package ru.vyarus.guicey.eventbus
+
+import com.codahale.metrics.MetricRegistry
+import com.google.common.eventbus.DeadEvent
+import com.google.common.eventbus.EventBus
+import com.google.common.eventbus.Subscribe
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.eventbus.async.AsyncDispatchConfig
+import ru.vyarus.guicey.eventbus.metrics.EventBusMetrics
+import ru.vyarus.guicey.eventbus.metrics.EventBusStatsServlet
+import ru.vyarus.guicey.eventbus.support.Event1
+import ru.vyarus.guicey.eventbus.support.Event2
+import ru.vyarus.guicey.eventbus.support.Event3
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(App)
+class DispatchMetricsTest extends Specification {
+
+    @Inject
+    EventBus bus
+    @Inject
+    Service service // trigger JIT binding
+    @Inject
+    Environment environment
+    @Inject
+    EventBusMetrics busMetrics
+
+    def "Check dispatch metrics"() {
+
+        when: "publish events"
+        service.latch = new CountDownLatch(1)
+        bus.post(new Event1())
+        bus.post(new Event1())
+        bus.post(new Event2())
+        bus.post(new Event3())
+        service.latch.await(1, TimeUnit.SECONDS)
+        sleep(50)
+        MetricRegistry metrics = environment.metrics()
+        String prefix = Service.name
+        then: "events tracked"
+        metrics.timer('eventbus.events.' + Event1.name).count == 2
+        metrics.timer('eventbus.events.' + Event2.name).count == 1
+
+        and: "event without subscribers tracked"
+        metrics.timer('eventbus.events.' + Event3.name).count == 1
+        metrics.timer('eventbus.events.' + DeadEvent.name).count == 1
+
+        and: "subscribers tracked"
+        metrics.timer("eventbus.subscribers.${prefix}.onEvent1").count == 2
+        metrics.timer("eventbus.subscribers.${prefix}.onEvent1Fail").count == 2
+        metrics.meter("eventbus.subscribers.${prefix}.onEvent1Fail.errors").count == 2
+        !metrics.meters.containsKey("eventbus.subscribers.${prefix}.onEvent1.errors".toString())
+
+        and: "async subscriber tracked"
+        metrics.timer("eventbus.subscribers.${prefix}.onEvent2").count == 1
+
+        when: "render stats"
+        String report = new EventBusStatsServlet(busMetrics).renderReport()
+        then: "rendered"
+        report.contains(Event1.name)
+        report.contains("${prefix}.onEvent1Fail".toString())
+    }
+
+    def "Check custom bus incompatibility"() {
+
+        when: "configuring metrics for custom bus"
+        new EventBusBundle(new EventBus()).withMetrics()
+        then: "error"
+        thrown(IllegalStateException)
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new EventBusBundle()
+                            .withMetrics()
+                            .withAsyncDispatch(new AsyncDispatchConfig().events(Event2)))
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Service {
+
+        CountDownLatch latch
+
+        @Subscribe
+        void onEvent1(Event1 event) {
+        }
+
+        @Subscribe
+        void onEvent1Fail(Event1 event) {
+            throw new IllegalStateException("error")
+        }
+
+        @Subscribe
+        void onEvent2(Event2 event) {
+            latch.countDown()
+        }
+    }
+}
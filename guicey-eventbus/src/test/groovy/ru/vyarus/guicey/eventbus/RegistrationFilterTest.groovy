@@ -0,0 +1,89 @@
+package ru.vyarus.guicey.eventbus
+
+import com.google.common.eventbus.EventBus
+import com.google.common.eventbus.Subscribe
+import com.google.inject.Guice
+import com.google.inject.Injector
+import com.google.inject.matcher.Matchers
+import ru.vyarus.guicey.eventbus.module.EventBusModule
+import ru.vyarus.guicey.eventbus.support.Event1
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class RegistrationFilterTest extends Specification {
+
+    def "Check only subscribers registered"() {
+
+        setup:
+        CountingBus bus = new CountingBus()
+        Injector injector = Guice.createInjector(new EventBusModule(bus, Matchers.any()))
+
+        when: "creating bean without subscribers"
+        injector.getInstance(NoSubscribers)
+        injector.getInstance(NoSubscribers)
+        then: "not registered"
+        bus.registered.isEmpty()
+
+        when: "creating subscriber"
+        injector.getInstance(Subscriber)
+        then: "registered"
+        bus.registered == [Subscriber]
+
+        when: "creating subscriber with inherited method"
+        injector.getInstance(InheritedSubscriber)
+        then: "registered"
+        bus.registered == [Subscriber, InheritedSubscriber]
+
+        when: "creating subscriber with method from interface"
+        injector.getInstance(InterfaceSubscriber)
+        then: "registered"
+        bus.registered == [Subscriber, InheritedSubscriber, InterfaceSubscriber]
+    }
+
+    def "Check subscriber methods detection"() {
+
+        expect:
+        !EventBusModule.hasSubscriberMethods(NoSubscribers)
+        EventBusModule.hasSubscriberMethods(Subscriber)
+        EventBusModule.hasSubscriberMethods(InheritedSubscriber)
+        EventBusModule.hasSubscriberMethods(InterfaceSubscriber)
+    }
+
+    static class CountingBus extends EventBus {
+        List<Class> registered = []
+
+        @Override
+        void register(Object object) {
+            registered << object.class
+            super.register(object)
+        }
+    }
+
+    static class NoSubscribers {
+        void onEvent(Event1 event) {
+        }
+    }
+
+    static class Subscriber {
+        @Subscribe
+        void onEvent(Event1 event) {
+        }
+    }
+
+    static class InheritedSubscriber extends Subscriber {
+    }
+
+    static interface SubscriberContract {
+        @Subscribe
+        void onEvent(Event1 event)
+    }
+
+    static class InterfaceSubscriber implements SubscriberContract {
+        @Override
+        void onEvent(Event1 event) {
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package ru.vyarus.guicey.eventbus
+
+import com.codahale.metrics.MetricRegistry
+import com.google.common.eventbus.AsyncAwareDispatcher
+import com.google.common.eventbus.DeadEvent
+import com.google.common.eventbus.EventBus
+import com.google.common.eventbus.GuiceyEventBus
+import com.google.common.eventbus.Subscribe
+import com.google.common.eventbus.WeakSubscribersRegistry
+import com.google.inject.AbstractModule
+import com.google.inject.Injector
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.eventbus.async.AsyncSubscriber
+import ru.vyarus.guicey.eventbus.async.AsyncSubscribersSelector
+import ru.vyarus.guicey.eventbus.metrics.EventBusMetrics
+import ru.vyarus.guicey.eventbus.report.EventSubscribersReporter
+import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo
+import ru.vyarus.guicey.eventbus.support.Event1
+import ru.vyarus.guicey.eventbus.support.Event2
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import java.lang.reflect.Method
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.function.BiPredicate
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(App)
+class WeakSubscribersTest extends Specification {
+
+    @Inject
+    EventBus bus
+    @Inject
+    Injector injector
+    @Inject
+    EventSubscribersInfo info
+
+    def "Check weak subscribers"() {
+
+        when: "creating subscribers"
+        SingletonSubscriber singleton = injector.getInstance(SingletonSubscriber)
+        PrototypeSubscriber prototype = injector.getInstance(PrototypeSubscriber)
+        bus.post(new Event1())
+        then: "both subscribers called"
+        singleton.calls == 1
+        prototype.calls == 1
+        info.getSubscriptionsCount(Event1) == 2
+        info.getWeakSubscriptionsCount(Event1) == 1
+        info.getListenerTypes(Event1) == [SingletonSubscriber, PrototypeSubscriber] as Set
+        new EventSubscribersReporter(info).renderCountReport().contains('2 (1 weak)')
+
+        when: "prototype instance is garbage collected"
+        prototype = null
+        int i = 0
+        while (info.getWeakSubscriptionsCount(Event1) > 0 && i++ < 50) {
+            System.gc()
+            sleep(20)
+        }
+        bus.post(new Event1())
+        then: "prototype unregistered"
+        info.getWeakSubscriptionsCount(Event1) == 0
+        info.getSubscriptionsCount(Event1) == 1
+        info.getListenerTypes(Event1) == [SingletonSubscriber] as Set
+        singleton.calls == 2
+    }
+
+    def "Check instance and linked singleton subscribers"() {
+
+        when: "resolving subscribers"
+        LinkedSubscriber linked = injector.getInstance(LinkedSubscriber)
+        Listener instance = injector.getInstance(Listener)
+        bus.post(new Event2())
+        then: "both registered in event bus"
+        injector.getInstance(LinkedSubscriber).is(linked)
+        linked.calls == 1
+        instance.calls == 1
+        info.getSubscriptionsCount(Event2) == 2
+        info.getWeakSubscriptionsCount(Event2) == 0
+        info.getListenerTypes(Event2) == [LinkedSubscriberImpl, InstanceSubscriber] as Set
+    }
+
+    def "Check weak subscriber error handling"() {
+
+        setup:
+        GuiceyEventBus bus = createBus(null, { event, method -> false }, null)
+        WeakSubscribersRegistry registry = bus.getWeakSubscribers()
+        FailingSubscriber subscriber = new FailingSubscriber()
+        registry.register(subscriber)
+
+        when: "posting event"
+        bus.post(new Event1())
+        then: "error handled"
+        subscriber.calls == 1
+        registry.getListenedEvents() == [Event1] as Set
+    }
+
+    def "Check dead events with weak subscribers"() {
+
+        setup:
+        GuiceyEventBus bus = createBus(null, { event, method -> false }, null)
+        DeadEventsSubscriber dead = new DeadEventsSubscriber()
+        bus.register(dead)
+        PrototypeSubscriber subscriber = new PrototypeSubscriber()
+        bus.getWeakSubscribers().register(subscriber)
+
+        when: "posting event with weak subscriber"
+        bus.post(new Event1())
+        then: "not dead"
+        subscriber.calls == 1
+        dead.events.isEmpty()
+
+        when: "posting event without subscribers"
+        bus.post(new Event2())
+        then: "dead event posted"
+        dead.events.size() == 1
+        dead.events[0].event instanceof Event2
+    }
+
+    def "Check weak subscribers async dispatch and metrics"() {
+
+        setup:
+        MetricRegistry registry = new MetricRegistry()
+        EventBusMetrics metrics = new EventBusMetrics(registry)
+        GuiceyEventBus bus = createBus(Executors.newSingleThreadExecutor(),
+                new AsyncSubscribersSelector([]), metrics)
+        AsyncWeakSubscriber subscriber = new AsyncWeakSubscriber()
+        bus.getWeakSubscribers().register(subscriber)
+
+        when: "posting event"
+        bus.post(new Event1())
+        subscriber.latch.await(1, TimeUnit.SECONDS)
+        sleep(50)
+        then: "async subscriber called in executor thread"
+        subscriber.thread != Thread.currentThread()
+
+        and: "metrics tracked for actual subscriber method"
+        registry.timer('eventbus.events.' + Event1.name).count == 1
+        registry.timer("eventbus.subscribers.${AsyncWeakSubscriber.name}.onEvent").count == 1
+    }
+
+    def "Check custom bus incompatibility"() {
+
+        when: "configuring weak subscribers for custom bus"
+        new EventBusBundle(new EventBus()).withWeakSubscribers()
+        then: "error"
+        thrown(IllegalStateException)
+    }
+
+    private GuiceyEventBus createBus(Executor executor, BiPredicate<Class<?>, Method> selector,
+                                     EventBusMetrics metrics) {
+        return AsyncAwareDispatcher.createEventBus('test',
+                new AsyncAwareDispatcher(executor, selector, metrics), true)
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new EventBusBundle().withWeakSubscribers())
+                    .modules(new AbstractModule() {
+                        @Override
+                        protected void configure() {
+                            // subscriber without injectable constructor
+                            bind(Listener).toInstance(new InstanceSubscriber('arg'))
+                            bind(LinkedSubscriber).to(LinkedSubscriberImpl).in(Singleton)
+                        }
+                    })
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @Singleton
+    static class SingletonSubscriber {
+        int calls
+
+        @Subscribe
+        void onEvent(Event1 event) {
+            calls++
+        }
+    }
+
+    static class PrototypeSubscriber {
+        int calls
+
+        @Subscribe
+        void onEvent(Event1 event) {
+            calls++
+        }
+    }
+
+    static interface Listener {
+        int getCalls()
+    }
+
+    static class InstanceSubscriber implements Listener {
+        String arg
+        int calls
+
+        InstanceSubscriber(String arg) {
+            this.arg = arg
+        }
+
+        @Subscribe
+        void onEvent(Event2 event) {
+            calls++
+        }
+    }
+
+    static interface LinkedSubscriber {
+        int getCalls()
+    }
+
+    static class LinkedSubscriberImpl implements LinkedSubscriber {
+        int calls
+
+        @Subscribe
+        void onEvent(Event2 event) {
+            calls++
+        }
+    }
+
+    static class FailingSubscriber {
+        int calls
+
+        @Subscribe
+        void onEvent(Event1 event) {
+            calls++
+            throw new IllegalStateException("error")
+        }
+    }
+
+    static class DeadEventsSubscriber {
+        List<DeadEvent> events = []
+
+        @Subscribe
+        void onEvent(DeadEvent event) {
+            events << event
+        }
+    }
+
+    static class AsyncWeakSubscriber {
+        CountDownLatch latch = new CountDownLatch(1)
+        Thread thread
+
+        @Subscribe
+        @AsyncSubscriber
+        void onEvent(Event1 event) {
+            thread = Thread.currentThread()
+            latch.countDown()
+        }
+    }
+}
@@ -10,6 +10,7 @@ import io.dropwizard.core.Configuration;
 import io.dropwizard.db.PooledDataSourceFactory;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.core.statement.SqlStatements;
 import ru.vyarus.dropwizard.guice.module.context.unique.item.UniqueGuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
@@ -19,6 +20,8 @@ import ru.vyarus.guicey.jdbi3.installer.MapperInstaller;
 import ru.vyarus.guicey.jdbi3.installer.repository.JdbiRepository;
 import ru.vyarus.guicey.jdbi3.installer.repository.RepositoryInstaller;
 import ru.vyarus.guicey.jdbi3.installer.repository.sql.SqlObjectProvider;
+import ru.vyarus.guicey.jdbi3.metrics.MetricsSqlLogger;
+import ru.vyarus.guicey.jdbi3.metrics.RepositoryMetrics;
 import ru.vyarus.guicey.jdbi3.module.JdbiModule;
 import ru.vyarus.guicey.jdbi3.tx.InTransaction;
 import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
@@ -26,6 +29,7 @@ import ru.vyarus.guicey.jdbi3.unit.UnitManager;
 
 import jakarta.inject.Provider;
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -52,6 +56,9 @@ import java.util.function.Consumer;
  * automatically.</li>
  * </ul>
  * <p>
+ * Repository methods and statements timing (with slow queries log) could be enabled with
+ * {@link #withQueryMetrics(Duration)}.
+ * <p>
  *  Only one bundle instance will be actually used (in case of multiple registrations).
  *
  * @author Vyacheslav Rusakov
@@ -72,6 +79,7 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
     private List<JdbiPlugin> plugins = Collections.emptyList();
     private Consumer<Jdbi> configurer;
     private boolean eagerInit;
+    private Duration slowQueryThreshold;
 
     private JdbiBundle(final ConfigAwareProvider<Jdbi, ?> jdbi) {
         this.jdbi = jdbi;
@@ -129,6 +137,21 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
         return this;
     }
 
+    /**
+     * Enables repository metrics: timers for each repository method call and for each repository sql statement
+     * execution (names are based on registered repository class, see {@link RepositoryMetrics}). Also, all
+     * queries with execution time over threshold would be logged (with sql parameters count).
+     * <p>
+     * Existing jdbi {@link org.jdbi.v3.core.statement.SqlLogger} is preserved (metrics logger would delegate to it).
+     *
+     * @param slowQueryThreshold queries with greater execution time would be logged as slow
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withQueryMetrics(final Duration slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+        return this;
+    }
+
     @Override
     public void initialize(final GuiceyBootstrap bootstrap) {
         bootstrap.installers(
@@ -144,8 +167,14 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
         if (configurer != null) {
             configurer.accept(jdbi);
         }
+        RepositoryMetrics metrics = null;
+        if (slowQueryThreshold != null) {
+            metrics = new RepositoryMetrics(environment.environment().metrics(), slowQueryThreshold);
+            // wrap existing logger (dropwizard registers metrics logger)
+            jdbi.setSqlLogger(new MetricsSqlLogger(metrics, jdbi.getConfig(SqlStatements.class).getSqlLogger()));
+        }
 
-        environment.modules(new JdbiModule(jdbi, txAnnotations));
+        environment.modules(new JdbiModule(jdbi, txAnnotations, metrics));
         if (eagerInit) {
             // eager repository proxies creation
             environment.onApplicationStartup(this::performEagerInitialization);
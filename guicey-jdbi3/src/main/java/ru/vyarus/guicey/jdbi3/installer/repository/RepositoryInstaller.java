@@ -1,5 +1,6 @@
 package ru.vyarus.guicey.jdbi3.installer.repository;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import com.google.inject.Binder;
 import com.google.inject.Binding;
@@ -15,6 +16,7 @@ import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstal
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
 import ru.vyarus.guicey.jdbi3.installer.repository.sql.SqlObjectProvider;
+import ru.vyarus.guicey.jdbi3.metrics.RepositoryMetrics;
 import ru.vyarus.guicey.jdbi3.module.NoSyntheticMatcher;
 import ru.vyarus.guicey.jdbi3.tx.InTransaction;
 import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
@@ -24,10 +26,13 @@ import ru.vyarus.java.generics.resolver.GenericsResolver;
 import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Recognize classes annotated with {@link JdbiRepository} and register them. Such classes may be then
@@ -125,9 +130,11 @@ public class RepositoryInstaller implements FeatureInstaller, BindingInstaller {
 
         // interceptor registered for each dao and redirect calls to actual jdbi proxy
         // (at this point all guice interceptors are already involved)
-        binder.bindInterceptor(Matchers.subclassesOf(type), NoSyntheticMatcher.instance(),
-                // exact class instead of compact lambda to make AOP report more informative
-                new JdbiProxyRedirect(jdbiProxy));
+        // exact class instead of compact lambda to make AOP report more informative
+        final JdbiProxyRedirect redirect = new JdbiProxyRedirect(type, jdbiProxy);
+        // metrics would be injected, if enabled
+        binder.requestInjection(redirect);
+        binder.bindInterceptor(Matchers.subclassesOf(type), NoSyntheticMatcher.instance(), redirect);
 
         // without it, on reporting phase binding would be cached and not generated on real run
         if (binder.currentStage() != Stage.TOOL) {
@@ -153,17 +160,40 @@ public class RepositoryInstaller implements FeatureInstaller, BindingInstaller {
 
     /**
      * Guice interceptor redirects calls from guice repository bean into jdbi proxy instance.
+     * When repository metrics enabled ({@link ru.vyarus.guicey.jdbi3.JdbiBundle#withQueryMetrics(
+     * java.time.Duration)}), also measures method execution time.
      */
     public static class JdbiProxyRedirect implements MethodInterceptor {
 
+        private final Class<?> repository;
         private final Provider<Object> jdbiProxy;
+        // timers cache to avoid metric name building on each call
+        private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
 
-        public JdbiProxyRedirect(final Provider<Object> jdbiProxy) {
+        @com.google.inject.Inject(optional = true)
+        private RepositoryMetrics metrics;
+
+        public JdbiProxyRedirect(final Class<?> repository, final Provider<Object> jdbiProxy) {
+            this.repository = repository;
             this.jdbiProxy = jdbiProxy;
         }
 
         @Override
         public Object invoke(final MethodInvocation invocation) throws Throwable {
+            if (metrics == null) {
+                return redirect(invocation);
+            }
+            final Method method = invocation.getMethod();
+            final Timer.Context timer = timers
+                    .computeIfAbsent(method, m -> metrics.repositoryTimer(repository, m)).time();
+            try {
+                return redirect(invocation);
+            } finally {
+                timer.stop();
+            }
+        }
+
+        private Object redirect(final MethodInvocation invocation) throws Throwable {
             try {
                 return invocation.getMethod().invoke(jdbiProxy.get(), invocation.getArguments());
             } catch (InvocationTargetException th) {
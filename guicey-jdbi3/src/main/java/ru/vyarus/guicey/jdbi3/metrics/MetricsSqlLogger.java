@@ -0,0 +1,65 @@
+package ru.vyarus.guicey.jdbi3.metrics;
+
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sql logger records statement execution time for repository methods and logs slow queries.
+ * Wraps logger, configured in jdbi before (dropwizard registers its own metrics logger), so all default
+ * behaviour is preserved.
+ * <p>
+ * Slow query log contains rendered sql, statement parameters count (parameter placeholders in parsed sql) and
+ * repository method (if statement was executed by repository). Parameter values are not logged to avoid sensitive
+ * data leaks.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class MetricsSqlLogger implements SqlLogger {
+
+    private final Logger logger = LoggerFactory.getLogger(MetricsSqlLogger.class);
+
+    private final RepositoryMetrics metrics;
+    private final SqlLogger delegate;
+    private final long slowThresholdNanos;
+
+    public MetricsSqlLogger(final RepositoryMetrics metrics, final SqlLogger delegate) {
+        this.metrics = metrics;
+        this.delegate = delegate == null ? SqlLogger.NOP_SQL_LOGGER : delegate;
+        this.slowThresholdNanos = metrics.getSlowQueryThreshold().toNanos();
+    }
+
+    @Override
+    public void logBeforeExecution(final StatementContext context) {
+        delegate.logBeforeExecution(context);
+    }
+
+    @Override
+    public void logAfterExecution(final StatementContext context) {
+        delegate.logAfterExecution(context);
+        final long elapsed = context.getElapsedTime(ChronoUnit.NANOS);
+        final ExtensionMethod method = context.getExtensionMethod();
+        if (method != null) {
+            metrics.statementTimer(method).update(elapsed, TimeUnit.NANOSECONDS);
+        }
+        if (elapsed >= slowThresholdNanos) {
+            logger.warn("Slow query ({} ms, {} sql parameters){}: {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    context.getParsedSql().getParameters().getParameterCount(),
+                    method == null ? "" : " in " + method.getType().getName() + "." + method.getMethod().getName(),
+                    context.getRenderedSql());
+        }
+    }
+
+    @Override
+    public void logException(final StatementContext context, final SQLException ex) {
+        delegate.logException(context, ex);
+    }
+}
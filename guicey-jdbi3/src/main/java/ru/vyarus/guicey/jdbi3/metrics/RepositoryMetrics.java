@@ -0,0 +1,73 @@
+package ru.vyarus.guicey.jdbi3.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+/**
+ * Repository metrics configuration (enabled with
+ * {@link ru.vyarus.guicey.jdbi3.JdbiBundle#withQueryMetrics(Duration)}). Bound into guice context when enabled.
+ * <p>
+ * Two kinds of timers are registered (per repository method):
+ * <ul>
+ * <li>{@code jdbi3.repository.[repository class].[method]} - entire repository method call (including result
+ * mapping), measured by repository proxy
+ * ({@link ru.vyarus.guicey.jdbi3.installer.repository.RepositoryInstaller.JdbiProxyRedirect})</li>
+ * <li>{@code jdbi3.statement.[repository class].[method]} - sql statement execution time, measured by
+ * {@link MetricsSqlLogger}</li>
+ * </ul>
+ * Repository class is always a class registered by
+ * {@link ru.vyarus.guicey.jdbi3.installer.repository.RepositoryInstaller} (even if method is declared in base
+ * interface), so metric names are the same as in repositories report.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class RepositoryMetrics {
+
+    /**
+     * Prefix for repository method call timers.
+     */
+    public static final String REPOSITORY_PREFIX = "jdbi3.repository";
+    /**
+     * Prefix for repository statement execution timers.
+     */
+    public static final String STATEMENT_PREFIX = "jdbi3.statement";
+
+    private final MetricRegistry registry;
+    private final Duration slowQueryThreshold;
+
+    public RepositoryMetrics(final MetricRegistry registry, final Duration slowQueryThreshold) {
+        this.registry = Preconditions.checkNotNull(registry, "Metrics registry required");
+        this.slowQueryThreshold = Preconditions.checkNotNull(slowQueryThreshold, "Slow query threshold required");
+    }
+
+    /**
+     * @return queries with longer execution time are logged
+     */
+    public Duration getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    /**
+     * @param repository registered repository type
+     * @param method     called method
+     * @return repository method call timer
+     */
+    public Timer repositoryTimer(final Class<?> repository, final Method method) {
+        return registry.timer(MetricRegistry.name(REPOSITORY_PREFIX, repository.getName(), method.getName()));
+    }
+
+    /**
+     * @param method repository method, executing statement
+     * @return repository statement execution timer
+     */
+    public Timer statementTimer(final ExtensionMethod method) {
+        return registry.timer(MetricRegistry.name(STATEMENT_PREFIX,
+                method.getType().getName(), method.getMethod().getName()));
+    }
+}
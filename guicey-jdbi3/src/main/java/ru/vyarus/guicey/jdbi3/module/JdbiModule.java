@@ -12,6 +12,7 @@ import org.jdbi.v3.core.extension.Extensions;
 import org.jdbi.v3.core.mapper.RowMapper;
 import ru.vyarus.guicey.jdbi3.inject.InjectionHandlerFactory;
 import ru.vyarus.guicey.jdbi3.installer.repository.RepositoryInstaller;
+import ru.vyarus.guicey.jdbi3.metrics.RepositoryMetrics;
 import ru.vyarus.guicey.jdbi3.tx.InTransaction;
 import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
 import ru.vyarus.guicey.jdbi3.tx.aop.TransactionalInterceptor;
@@ -37,12 +38,25 @@ import java.util.List;
 public class JdbiModule extends AbstractModule {
     private final Jdbi jdbi;
     private final List<Class<? extends Annotation>> txAnnotations;
+    private final RepositoryMetrics metrics;
 
     public JdbiModule(final Jdbi jdbi, final List<Class<? extends Annotation>> txAnnotations) {
+        this(jdbi, txAnnotations, null);
+    }
+
+    /**
+     * @param jdbi          jdbi instance
+     * @param txAnnotations transactional annotations
+     * @param metrics       repository metrics (may be null when metrics not enabled)
+     */
+    public JdbiModule(final Jdbi jdbi,
+                      final List<Class<? extends Annotation>> txAnnotations,
+                      final RepositoryMetrics metrics) {
         Preconditions.checkState(!txAnnotations.isEmpty(),
                 "Provide at least one transactional annotation");
         this.jdbi = jdbi;
         this.txAnnotations = txAnnotations;
+        this.metrics = metrics;
     }
 
     @Override
@@ -56,6 +70,10 @@ public class JdbiModule extends AbstractModule {
         }
 
         bind(Jdbi.class).toInstance(jdbi);
+        if (metrics != null) {
+            // activates repository methods timing
+            bind(RepositoryMetrics.class).toInstance(metrics);
+        }
 
         // init empty collection for case when no mappers registered
         Multibinder.newSetBinder(binder(), RowMapper.class);
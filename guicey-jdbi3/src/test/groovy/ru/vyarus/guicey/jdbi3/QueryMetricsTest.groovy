@@ -0,0 +1,104 @@
+package ru.vyarus.guicey.jdbi3
+
+import ch.qos.logback.classic.Logger
+import ch.qos.logback.classic.spi.ILoggingEvent
+import ch.qos.logback.core.read.ListAppender
+import com.codahale.metrics.MetricRegistry
+import io.dropwizard.core.Application
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import org.jdbi.v3.core.Jdbi
+import org.jdbi.v3.core.statement.SqlStatements
+import org.slf4j.LoggerFactory
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.jdbi3.metrics.MetricsSqlLogger
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+
+import jakarta.inject.Inject
+import java.time.Duration
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class QueryMetricsTest extends AbstractTest {
+
+    @Inject
+    SampleRepository repository
+    @Inject
+    Environment environment
+    @Inject
+    Jdbi jdbi
+
+    def "Check repository metrics"() {
+
+        when: "calling repository"
+        repository.save(new Sample(name: "test"))
+        repository.all()
+        MetricRegistry metrics = environment.metrics()
+        String repo = SampleRepository.name
+
+        then: "repository method timers recorded"
+        metrics.timer("jdbi3.repository.${repo}.save").count == 1
+        metrics.timer("jdbi3.repository.${repo}.all").count == 1
+
+        and: "statement timers recorded"
+        metrics.timer("jdbi3.statement.${repo}.save").count == 1
+        metrics.timer("jdbi3.statement.${repo}.all").count == 1
+
+        and: "logger installed"
+        jdbi.getConfig(SqlStatements).getSqlLogger() instanceof MetricsSqlLogger
+    }
+
+    def "Check slow queries log"() {
+
+        setup: "record slow queries log"
+        ListAppender<ILoggingEvent> appender = recordSlowQueries()
+
+        when: "calling repository with zero threshold"
+        repository.save(new Sample(name: "test"))
+        List<String> logs = appender.list*.formattedMessage
+
+        then: "query logged with sql and parameters count"
+        logs.size() == 1
+        logs[0].startsWith('Slow query (')
+        logs[0].contains('ms, 1 sql parameters) in ' + SampleRepository.name + '.save: ')
+        logs[0].endsWith('insert into sample (name) values (:name)')
+
+        cleanup:
+        stopRecording(appender)
+    }
+
+    static ListAppender<ILoggingEvent> recordSlowQueries() {
+        ListAppender<ILoggingEvent> appender = new ListAppender<>()
+        appender.start()
+        ((Logger) LoggerFactory.getLogger(MetricsSqlLogger)).addAppender(appender)
+        return appender
+    }
+
+    static void stopRecording(ListAppender<ILoggingEvent> appender) {
+        ((Logger) LoggerFactory.getLogger(MetricsSqlLogger)).detachAppender(appender)
+        appender.stop()
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase { conf, env -> conf.database }
+                            .withQueryMetrics(Duration.ZERO))
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
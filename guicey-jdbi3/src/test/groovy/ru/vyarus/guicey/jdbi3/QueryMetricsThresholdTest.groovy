@@ -0,0 +1,68 @@
+package ru.vyarus.guicey.jdbi3
+
+import ch.qos.logback.classic.spi.ILoggingEvent
+import ch.qos.logback.core.read.ListAppender
+import com.codahale.metrics.MetricRegistry
+import io.dropwizard.core.Application
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+
+import jakarta.inject.Inject
+import java.time.Duration
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class QueryMetricsThresholdTest extends AbstractTest {
+
+    @Inject
+    SampleRepository repository
+    @Inject
+    Environment environment
+
+    def "Check fast queries not logged"() {
+
+        setup: "record slow queries log"
+        ListAppender<ILoggingEvent> appender = QueryMetricsTest.recordSlowQueries()
+
+        when: "calling repository with high threshold"
+        repository.save(new Sample(name: "test"))
+        repository.all()
+        MetricRegistry metrics = environment.metrics()
+        String repo = SampleRepository.name
+
+        then: "statements timed"
+        metrics.timer("jdbi3.statement.${repo}.save").count == 1
+        metrics.timer("jdbi3.statement.${repo}.all").count == 1
+
+        and: "nothing logged"
+        appender.list.isEmpty()
+
+        cleanup:
+        QueryMetricsTest.stopRecording(appender)
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase { conf, env -> conf.database }
+                            .withQueryMetrics(Duration.ofMinutes(1)))
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package ru.vyarus.guicey.annotations.lifecycle;
 
+import com.google.common.base.Preconditions;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matcher;
 import com.google.inject.matcher.Matchers;
@@ -33,6 +34,10 @@ import ru.vyarus.guicey.annotations.lifecycle.module.LifecycleAnnotationsModule;
  *      builder.bundles(new LifecycleAnnotationsBundle("package.to.apply"))
  * }</pre>
  * (only one instance of bundle will be used)
+ * <p>
+ * Long-running independent initialization methods could be executed in parallel:
+ * {@code new LifecycleAnnotationsBundle().withParallelExecution(new ParallelExecutionConfig().threads(4))}.
+ * Use {@link RunAfter} to declare dependencies between lifecycle methods.
  *
  * @author Vyacheslav Rusakov
  * @since 08.11.2018
@@ -40,6 +45,7 @@ import ru.vyarus.guicey.annotations.lifecycle.module.LifecycleAnnotationsModule;
 public class LifecycleAnnotationsBundle extends UniqueGuiceyBundle {
 
     private final Matcher<? super TypeLiteral<?>> typeMatcher;
+    private ParallelExecutionConfig parallel;
 
     /**
      * Default module constructor to check annotations on all beans.
@@ -68,9 +74,25 @@ public class LifecycleAnnotationsBundle extends UniqueGuiceyBundle {
         this.typeMatcher = typeMatcher;
     }
 
+    /**
+     * Enables parallel execution of {@link jakarta.annotation.PostConstruct} and {@link PostStartup} methods
+     * (useful for long independent warm-up methods). Use {@link RunAfter} to declare dependencies between methods.
+     * {@link jakarta.annotation.PreDestroy} methods are still called sequentially (with reversed
+     * {@link RunAfter} hints).
+     * <p>
+     * Methods execution time is logged after execution.
+     *
+     * @param config parallel execution config
+     * @return bundle instance for chained calls
+     */
+    public LifecycleAnnotationsBundle withParallelExecution(final ParallelExecutionConfig config) {
+        this.parallel = Preconditions.checkNotNull(config, "Parallel execution config required");
+        return this;
+    }
+
     @Override
     public void run(final GuiceyEnvironment environment) {
-        final LifecycleAnnotationsModule module = new LifecycleAnnotationsModule(typeMatcher);
+        final LifecycleAnnotationsModule module = new LifecycleAnnotationsModule(typeMatcher, parallel);
         final DropwizardLifecycleListener lifecycle = new DropwizardLifecycleListener(module.getCollector());
 
         environment
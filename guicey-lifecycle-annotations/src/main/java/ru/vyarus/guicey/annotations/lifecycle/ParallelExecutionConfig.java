@@ -0,0 +1,60 @@
+package ru.vyarus.guicey.annotations.lifecycle;
+
+import com.google.common.base.Preconditions;
+
+import java.time.Duration;
+
+/**
+ * Parallel execution configuration for {@link jakarta.annotation.PostConstruct} and {@link PostStartup} methods.
+ * Independent methods are executed concurrently (with bounded executor) and methods with {@link RunAfter} hints
+ * wait for their dependencies. {@link jakarta.annotation.PreDestroy} methods are always called sequentially.
+ * <p>
+ * Example: {@code new ParallelExecutionConfig().threads(4).timeout(Duration.ofMinutes(2))}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class ParallelExecutionConfig {
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private Duration timeout = Duration.ofMinutes(5);
+
+    /**
+     * By default, threads count is equal to available processors.
+     *
+     * @param threads max concurrently executed lifecycle methods
+     * @return config instance for chained calls
+     */
+    public ParallelExecutionConfig threads(final int threads) {
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive");
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * By default, timeout is 5 minutes. When timeout exceeds, application startup fails.
+     *
+     * @param timeout overall timeout for all lifecycle methods of one phase
+     * @return config instance for chained calls
+     */
+    public ParallelExecutionConfig timeout(final Duration timeout) {
+        Preconditions.checkArgument(timeout != null && !timeout.isNegative() && !timeout.isZero(),
+                "Positive timeout required");
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * @return threads count
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return overall phase timeout
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
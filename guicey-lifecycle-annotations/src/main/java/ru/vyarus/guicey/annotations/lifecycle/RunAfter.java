@@ -0,0 +1,41 @@
+package ru.vyarus.guicey.annotations.lifecycle;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Lifecycle methods ordering hint: annotated method (or all lifecycle methods of annotated bean) must be called
+ * after lifecycle methods (of the same lifecycle phase) of specified beans. For example, cache warm-up could
+ * wait for connection pool warm-up:
+ * <pre>{@code
+ *     @PostConstruct
+ *     @RunAfter(ConnectionsWarmUp.class)
+ *     private void warmUpCache() { ... }
+ * }</pre>
+ * Specified types are matched with assignability check, so base class or interface could be used.
+ * <p>
+ * Order is reversed for {@link jakarta.annotation.PreDestroy} methods: annotated method is called before
+ * destroy methods of specified beans.
+ * <p>
+ * Hints are applied for both sequential and parallel execution (see
+ * {@link LifecycleAnnotationsBundle#withParallelExecution(ParallelExecutionConfig)}). Without hints, methods
+ * are called in registration order (sequential execution).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface RunAfter {
+
+    /**
+     * @return bean types which lifecycle methods must be called before annotated method
+     */
+    Class<?>[] value();
+}
@@ -35,6 +35,6 @@ public class DropwizardLifecycleListener implements ServerLifecycleListener, Man
 
     @Override
     public void stop() throws Exception {
-        collector.safeCall(PreDestroy.class);
+        collector.safeReverseCall(PreDestroy.class);
     }
 }
@@ -3,14 +3,14 @@ package ru.vyarus.guicey.annotations.lifecycle.module;
 import com.google.inject.AbstractModule;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matcher;
-import ru.vyarus.guice.ext.core.method.AnnotatedMethodTypeListener;
+import ru.vyarus.guicey.annotations.lifecycle.ParallelExecutionConfig;
 import ru.vyarus.guicey.annotations.lifecycle.PostStartup;
 import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector;
-import ru.vyarus.guicey.annotations.lifecycle.module.collector.SimpleAnnotationProcessor;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 
 /**
  * Guice module detects all methods annotated with lifecycle annotations. Annotations triggering done by
@@ -23,10 +23,20 @@ import java.lang.annotation.Annotation;
 public class LifecycleAnnotationsModule extends AbstractModule {
 
     private final Matcher<? super TypeLiteral<?>> typeMatcher;
-    private final MethodsCollector collector = new MethodsCollector();
+    private final MethodsCollector collector;
 
     public LifecycleAnnotationsModule(final Matcher<? super TypeLiteral<?>> typeMatcher) {
+        this(typeMatcher, null);
+    }
+
+    /**
+     * @param typeMatcher matcher to select beans for annotations processing
+     * @param parallel    parallel execution config or null for sequential execution
+     */
+    public LifecycleAnnotationsModule(final Matcher<? super TypeLiteral<?>> typeMatcher,
+                                      final ParallelExecutionConfig parallel) {
         this.typeMatcher = typeMatcher;
+        this.collector = new MethodsCollector(parallel);
     }
 
     /**
@@ -40,6 +50,8 @@ public class LifecycleAnnotationsModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        // for retained methods count access
+        bind(MethodsCollector.class).toInstance(collector);
         register(collector,
                 PostConstruct.class,
                 PostStartup.class,
@@ -54,9 +66,6 @@ public class LifecycleAnnotationsModule extends AbstractModule {
     @SafeVarargs
     private final void register(final MethodsCollector collector,
                                 final Class<? extends Annotation>... annotations) {
-        for (Class<? extends Annotation> ann : annotations) {
-            bindListener(typeMatcher, new AnnotatedMethodTypeListener<>(
-                    ann, new SimpleAnnotationProcessor<>(collector)));
-        }
+        bindListener(typeMatcher, new LifecycleMethodsTypeListener(collector, Arrays.asList(annotations)));
     }
 }
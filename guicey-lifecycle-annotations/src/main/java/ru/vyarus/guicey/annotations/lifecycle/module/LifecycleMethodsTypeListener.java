@@ -0,0 +1,99 @@
+package ru.vyarus.guicey.annotations.lifecycle.module;
+
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.InjectionListener;
+import com.google.inject.spi.TypeEncounter;
+import com.google.inject.spi.TypeListener;
+import ru.vyarus.guice.ext.core.util.Utils;
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.LifecycleMethod;
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Searches lifecycle annotations on bean methods (including super classes) and registers found methods in
+ * {@link MethodsCollector} for each created bean instance.
+ * <p>
+ * Lifecycle methods metadata (including method handles) is resolved once per class and cached with
+ * {@link ClassValue}, so per-instance registration overhead is minimal. Single type listener used for all
+ * annotations (one hierarchy scan per type).
+ * <p>
+ * Overridden methods are registered just once (even if both methods are annotated). Only annotated override
+ * hides annotated super class method: when annotated method is overridden without annotation, it is still
+ * registered (and, as with usual virtual call, overriding method would be called).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class LifecycleMethodsTypeListener implements TypeListener {
+
+    private final MethodsCollector collector;
+    private final List<Class<? extends Annotation>> annotations;
+    private final ClassValue<List<LifecycleMethod>> methods = new ClassValue<List<LifecycleMethod>>() {
+        @Override
+        protected List<LifecycleMethod> computeValue(final Class<?> type) {
+            return findMethods(type);
+        }
+    };
+
+    public LifecycleMethodsTypeListener(final MethodsCollector collector,
+                                        final List<Class<? extends Annotation>> annotations) {
+        this.collector = collector;
+        this.annotations = annotations;
+    }
+
+    @Override
+    public <I> void hear(final TypeLiteral<I> type, final TypeEncounter<I> encounter) {
+        final Class<? super I> actualType = type.getRawType();
+        if (!Utils.isPackageValid(actualType)) {
+            return;
+        }
+        final List<LifecycleMethod> found = methods.get(actualType);
+        if (!found.isEmpty()) {
+            encounter.register((InjectionListener<I>) injectee -> {
+                for (LifecycleMethod method : found) {
+                    collector.register(method, injectee);
+                }
+            });
+        }
+    }
+
+    private List<LifecycleMethod> findMethods(final Class<?> type) {
+        final List<LifecycleMethod> res = new ArrayList<>();
+        for (Class<? extends Annotation> annotation : annotations) {
+            // names of annotated non-private methods in sub classes (lifecycle methods could not have parameters)
+            final Set<String> overridden = new HashSet<>();
+            Class<?> investigatingClass = type;
+            while (investigatingClass != null && !Object.class.equals(investigatingClass)) {
+                final Set<String> declared = new HashSet<>();
+                for (Method method : investigatingClass.getDeclaredMethods()) {
+                    final boolean isPrivate = Modifier.isPrivate(method.getModifiers());
+                    if (method.isAnnotationPresent(annotation) && !method.isSynthetic()
+                            && (isPrivate || !overridden.contains(method.getName()))) {
+                        if (method.getParameterCount() > 0) {
+                            throw new IllegalStateException(String.format(
+                                    "Failed to process annotation %s on method %s of class %s: "
+                                            + "Method without parameters required", annotation.getSimpleName(),
+                                    method.getName(), type.getSimpleName()));
+                        }
+                        res.add(new LifecycleMethod(annotation, method));
+                    }
+                    if (!isPrivate && !Modifier.isStatic(method.getModifiers())
+                            && method.getParameterCount() == 0 && method.isAnnotationPresent(annotation)) {
+                        declared.add(method.getName());
+                    }
+                }
+                overridden.addAll(declared);
+                investigatingClass = investigatingClass.getSuperclass();
+            }
+        }
+        return res.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(res);
+    }
+}
@@ -0,0 +1,65 @@
+package ru.vyarus.guicey.annotations.lifecycle.module.collector;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Lifecycle method metadata: annotation, method and method handle, prepared for the fastest invocation
+ * (handle accepts target instance as {@link Object} and returns nothing). Metadata is resolved once per class.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class LifecycleMethod {
+
+    private static final MethodType INVOCATION_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private final Class<? extends Annotation> annotation;
+    private final Method method;
+    private final MethodHandle handle;
+
+    public LifecycleMethod(final Class<? extends Annotation> annotation, final Method method) {
+        this.annotation = annotation;
+        this.method = method;
+        this.handle = createHandle(method);
+    }
+
+    /**
+     * @return lifecycle annotation
+     */
+    public Class<? extends Annotation> getAnnotation() {
+        return annotation;
+    }
+
+    /**
+     * @return lifecycle method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return method handle with {@code (Object)void} signature
+     */
+    public MethodHandle getHandle() {
+        return handle;
+    }
+
+    private static MethodHandle createHandle(final Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle res = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                // instance is ignored for static methods
+                res = MethodHandles.dropArguments(res, 0, Object.class);
+            }
+            return res.asType(INVOCATION_TYPE);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("Failed to access lifecycle method " + method, ex);
+        }
+    }
+}
@@ -2,8 +2,13 @@ package ru.vyarus.guicey.annotations.lifecycle.module.collector;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.annotations.lifecycle.RunAfter;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Instance method abstraction. Holds both method and target instance object to easily perform call.
@@ -16,10 +21,67 @@ public class MethodInstance {
 
     private final Object instance;
     private final Method method;
+    private final MethodHandle handle;
 
     public MethodInstance(final Object instance, final Method method) {
+        this(instance, method, null);
+    }
+
+    /**
+     * @param instance target instance
+     * @param method   lifecycle method
+     * @param handle   method handle with {@code (Object)void} signature or null to use reflection
+     */
+    public MethodInstance(final Object instance, final Method method, final MethodHandle handle) {
         this.instance = instance;
         this.method = method;
+        this.handle = handle;
+    }
+
+    /**
+     * @return target instance
+     */
+    public Object getInstance() {
+        return instance;
+    }
+
+    /**
+     * @return lifecycle method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return types declared in {@link RunAfter} on method and method's class (empty if no hints declared)
+     */
+    public List<Class<?>> getRunAfter() {
+        final List<Class<?>> res = new ArrayList<>();
+        addRunAfter(method.getAnnotation(RunAfter.class), res);
+        addRunAfter(method.getDeclaringClass().getAnnotation(RunAfter.class), res);
+        return res;
+    }
+
+    /**
+     * Method must be called after lifecycle methods of other instance if method or method's class is annotated
+     * with {@link RunAfter}, declaring other instance type (or its super type).
+     *
+     * @param other other lifecycle method
+     * @return true if method must be called after other method
+     */
+    public boolean isAfter(final MethodInstance other) {
+        if (other.instance == instance) {
+            return false;
+        }
+        return isAfter(method.getAnnotation(RunAfter.class), other.instance.getClass())
+                || isAfter(method.getDeclaringClass().getAnnotation(RunAfter.class), other.instance.getClass());
+    }
+
+    /**
+     * @return short method name (without instance)
+     */
+    public String getName() {
+        return instance.getClass().getSimpleName() + "." + method.getName();
     }
 
     /**
@@ -30,15 +92,35 @@ public class MethodInstance {
     public void call() {
         try {
             logger.debug("Executing method {}", this);
-            method.invoke(instance);
-        } catch (Exception ex) {
+            if (handle != null) {
+                handle.invokeExact(instance);
+            } else {
+                method.invoke(instance);
+            }
+        } catch (Throwable ex) {
             throw new IllegalStateException("Failed to execute method " + this, ex);
         }
     }
 
     @Override
     public String toString() {
-        return instance.getClass().getSimpleName() + "." + method.getName()
-                + " of instance " + instance.toString();
+        return getName() + " of instance " + instance.toString();
+    }
+
+    private void addRunAfter(final RunAfter after, final List<Class<?>> res) {
+        if (after != null) {
+            res.addAll(Arrays.asList(after.value()));
+        }
+    }
+
+    private boolean isAfter(final RunAfter after, final Class<?> type) {
+        if (after != null) {
+            for (Class<?> dep : after.value()) {
+                if (dep.isAssignableFrom(type)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 }
@@ -1,19 +1,38 @@
 package ru.vyarus.guicey.annotations.lifecycle.module.collector;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.Multimap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.annotations.lifecycle.ParallelExecutionConfig;
 
+import jakarta.annotation.PreDestroy;
 import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Registry for detected annotated methods. Used to collect and then process all found methods by annotation.
+ * <p>
+ * Instances are referenced strongly until lifecycle phase processing (so startup methods like
+ * {@link jakarta.annotation.PostConstruct} are called for all created beans, even if bean instance is not referenced
+ * anymore). Instances, registered for "weak" annotations ({@link PreDestroy} by default) are referenced weakly:
+ * these methods are retained for the whole application life and registry must not prevent garbage collection of
+ * non singleton beans (prototypes, request scoped beans), so destroy methods of collected instances are simply
+ * not called. Singletons are always referenced by injector and so never collected. Methods are removed from
+ * registry after lifecycle phase processing (methods registered after processing are called immediately and not
+ * stored).
+ * <p>
+ * Registry is thread safe: beans could be created by JIT in request threads.
  *
  * @author Vyacheslav Rusakov
  * @since 27.11.2018
@@ -21,19 +40,76 @@ import java.util.List;
 public class MethodsCollector {
     private final Logger logger = LoggerFactory.getLogger(MethodsCollector.class);
 
-    private final Multimap<Class<? extends Annotation>, MethodInstance> listeners = LinkedListMultimap.create();
+    // registration order preserved; identity equality (references) for constant time removal
+    private final Map<Class<? extends Annotation>, Set<RegisteredMethod>> listeners = new HashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private final Set<Class<? extends Annotation>> weak;
 
     // first it prevents duplicate lifecycle call
     // second it used to detect late registrations for immediate execution
-    private final List<Class<? extends Annotation>> processed = new ArrayList<>();
+    private final Set<Class<? extends Annotation>> processed = new HashSet<>();
+    private final ParallelExecutionConfig parallel;
 
+    /**
+     * Create collector with sequential methods execution.
+     */
+    public MethodsCollector() {
+        this(null);
+    }
+
+    /**
+     * Create collector with weak references for {@link PreDestroy} methods only.
+     *
+     * @param parallel parallel execution config or null for sequential execution
+     */
+    public MethodsCollector(final ParallelExecutionConfig parallel) {
+        this(parallel, Collections.singleton(PreDestroy.class));
+    }
+
+    /**
+     * @param parallel parallel execution config or null for sequential execution
+     * @param weak     annotations, which methods instances must be referenced weakly
+     */
+    public MethodsCollector(final ParallelExecutionConfig parallel, final Set<Class<? extends Annotation>> weak) {
+        this.parallel = parallel;
+        this.weak = weak;
+    }
+
+    /**
+     * Registers lifecycle method of bean instance. Method metadata is resolved on each call, so prefer
+     * {@link #register(LifecycleMethod, Object)} for repeated registrations.
+     *
+     * @param annotation lifecycle annotation
+     * @param instance   bean instance
+     * @param method     lifecycle method
+     */
     public void register(final Class<? extends Annotation> annotation,
                          final Object instance,
                          final Method method) {
-        final MethodInstance methodInstance = new MethodInstance(instance, method);
-        listeners.put(annotation, methodInstance);
+        register(new LifecycleMethod(annotation, method), instance);
+    }
+
+    /**
+     * Registers lifecycle method of bean instance. If lifecycle phase was already processed, method is called
+     * immediately.
+     *
+     * @param method   lifecycle method metadata
+     * @param instance bean instance
+     */
+    public void register(final LifecycleMethod method, final Object instance) {
+        final Class<? extends Annotation> annotation = method.getAnnotation();
+        final MethodInstance methodInstance = new MethodInstance(instance, method.getMethod(), method.getHandle());
+        final boolean late;
+        synchronized (this) {
+            expungeCollected();
+            late = processed.contains(annotation);
+            if (!late) {
+                listeners.computeIfAbsent(annotation, key -> new LinkedHashSet<>())
+                        .add(new RegisteredMethod(method, instance, weak.contains(annotation), collected));
+            }
+        }
         // could appear due to JIT (when bean not registered and being instantiated after injector creation (on demand))
-        if (processed.contains(annotation)) {
+        if (late) {
             logger.warn("@{} listener registered after event processing: {}. "
                     + "This could happen when bean is not registered and instantiated on demand "
                     + "(by guice JIT). "
@@ -47,11 +123,13 @@ public class MethodsCollector {
     /**
      * Called to process all methods annotated with provided annotation.
      * In case of exception, it would be propagated.
+     * <p>
+     * Methods are called in parallel if parallel execution configured.
      *
      * @param annotation target method annotation
      */
     public void call(final Class<? extends Annotation> annotation) {
-        doCall(annotation, false);
+        doCall(annotation, false, false);
     }
 
     /**
@@ -62,19 +140,68 @@ public class MethodsCollector {
      * @param annotation target method annotation
      */
     public void safeCall(final Class<? extends Annotation> annotation) {
-        doCall(annotation, true);
+        doCall(annotation, true, false);
     }
 
-    private void doCall(final Class<? extends Annotation> annotation, final boolean safe) {
-        Preconditions.checkState(!processed.contains(annotation),
-                "Lifecycle @%s methods were already processed", annotation.getSimpleName());
-        processed.add(annotation);
+    /**
+     * Same as {@link #safeCall(Class)}, but {@link ru.vyarus.guicey.annotations.lifecycle.RunAfter} hints are
+     * applied in reverse order (used for destroy methods). Methods are always called sequentially.
+     *
+     * @param annotation target method annotation
+     */
+    public void safeReverseCall(final Class<? extends Annotation> annotation) {
+        doCall(annotation, true, true);
+    }
 
-        final Collection<MethodInstance> methods = listeners.get(annotation);
+    /**
+     * Instances of weak annotations methods are referenced weakly, so count includes only alive instances
+     * (after garbage collection).
+     *
+     * @param annotation lifecycle annotation
+     * @return count of registered (not yet processed) methods
+     */
+    public synchronized int getRetainedCount(final Class<? extends Annotation> annotation) {
+        expungeCollected();
+        final Set<RegisteredMethod> methods = listeners.get(annotation);
+        return methods == null ? 0 : methods.size();
+    }
+
+    /**
+     * @return count of registered (not yet processed) methods for all annotations
+     */
+    public synchronized int getRetainedCount() {
+        expungeCollected();
+        return listeners.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void doCall(final Class<? extends Annotation> annotation, final boolean safe, final boolean reverse) {
+        final List<MethodInstance> methods = new ArrayList<>();
+        synchronized (this) {
+            Preconditions.checkState(!processed.contains(annotation),
+                    "Lifecycle @%s methods were already processed", annotation.getSimpleName());
+            processed.add(annotation);
+            // methods would not be needed anymore
+            final Set<RegisteredMethod> registered = listeners.remove(annotation);
+            if (registered != null) {
+                for (RegisteredMethod method : registered) {
+                    final Object instance = method.getInstance();
+                    if (instance != null) {
+                        methods.add(new MethodInstance(instance, method.method.getMethod(),
+                                method.method.getHandle()));
+                    }
+                }
+            }
+        }
         if (!methods.isEmpty()) {
-            logger.debug("Executing @{} lifecycle methods", annotation.getSimpleName());
-            for (MethodInstance method : methods) {
-                callInstance(annotation, method, safe);
+            final List<List<Integer>> dependencies = MethodsOrder.dependencies(methods, reverse);
+            final List<Integer> order = MethodsOrder.sort(methods, dependencies);
+            if (parallel != null && !safe) {
+                new ParallelMethodsExecutor(parallel).execute(annotation, methods, dependencies, order);
+            } else {
+                logger.debug("Executing @{} lifecycle methods", annotation.getSimpleName());
+                for (Integer idx : order) {
+                    callInstance(annotation, methods.get(idx), safe);
+                }
             }
         }
     }
@@ -93,4 +220,42 @@ public class MethodsCollector {
             }
         }
     }
+
+    private void expungeCollected() {
+        Reference<?> ref = collected.poll();
+        while (ref != null) {
+            final RegisteredMethod method = (RegisteredMethod) ref;
+            final Set<RegisteredMethod> methods = listeners.get(method.method.getAnnotation());
+            if (methods != null) {
+                methods.remove(method);
+            }
+            ref = collected.poll();
+        }
+    }
+
+    /**
+     * Registered instance method. Instance is referenced weakly, but strong reference is also kept for
+     * non-weak methods (so weak reference is never cleared). Reference equality is identity.
+     */
+    private static class RegisteredMethod extends WeakReference<Object> {
+        private final LifecycleMethod method;
+        // strong reference (prevents garbage collection) or null
+        private final Object instance;
+
+        RegisteredMethod(final LifecycleMethod method,
+                         final Object instance,
+                         final boolean weak,
+                         final ReferenceQueue<Object> queue) {
+            super(instance, queue);
+            this.method = method;
+            this.instance = weak ? null : instance;
+        }
+
+        /**
+         * @return instance or null if weakly referenced instance was garbage collected
+         */
+        Object getInstance() {
+            return instance != null ? instance : get();
+        }
+    }
 }
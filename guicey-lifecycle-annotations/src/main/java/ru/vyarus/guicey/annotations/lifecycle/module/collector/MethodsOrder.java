@@ -0,0 +1,110 @@
+package ru.vyarus.guicey.annotations.lifecycle.module.collector;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Lifecycle methods ordering by {@link ru.vyarus.guicey.annotations.lifecycle.RunAfter} hints. Topological sort
+ * used: methods without ordering constraints preserve registration order.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public final class MethodsOrder {
+
+    private MethodsOrder() {
+    }
+
+    /**
+     * Methods are grouped by instance type, so each {@link ru.vyarus.guicey.annotations.lifecycle.RunAfter}
+     * declaration is checked against distinct types only (not against all other methods).
+     *
+     * @param methods methods in registration order
+     * @param reverse true to reverse ordering hints (for destroy methods)
+     * @return dependencies for each method (indexes in methods list)
+     */
+    public static List<List<Integer>> dependencies(final List<MethodInstance> methods, final boolean reverse) {
+        final Map<Class<?>, List<Integer>> byType = new LinkedHashMap<>();
+        final List<Set<Integer>> deps = new ArrayList<>(methods.size());
+        for (int i = 0; i < methods.size(); i++) {
+            byType.computeIfAbsent(methods.get(i).getInstance().getClass(), key -> new ArrayList<>()).add(i);
+            deps.add(new TreeSet<>());
+        }
+        for (int i = 0; i < methods.size(); i++) {
+            final MethodInstance method = methods.get(i);
+            for (Class<?> after : method.getRunAfter()) {
+                for (Map.Entry<Class<?>, List<Integer>> entry : byType.entrySet()) {
+                    if (!after.isAssignableFrom(entry.getKey())) {
+                        continue;
+                    }
+                    for (Integer j : entry.getValue()) {
+                        if (methods.get(j).getInstance() != method.getInstance()) {
+                            deps.get(reverse ? j : i).add(reverse ? i : j);
+                        }
+                    }
+                }
+            }
+        }
+        final List<List<Integer>> res = new ArrayList<>(methods.size());
+        for (Set<Integer> dep : deps) {
+            res.add(new ArrayList<>(dep));
+        }
+        return res;
+    }
+
+    /**
+     * Sorts methods so dependencies would always be called first.
+     *
+     * @param methods      methods in registration order
+     * @param dependencies methods dependencies (from {@link #dependencies(List, boolean)})
+     * @return sorted methods indexes
+     * @throws IllegalStateException if cyclic dependency detected
+     */
+    public static List<Integer> sort(final List<MethodInstance> methods, final List<List<Integer>> dependencies) {
+        final int[] pending = new int[methods.size()];
+        final List<List<Integer>> dependents = new ArrayList<>();
+        for (int i = 0; i < methods.size(); i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int i = 0; i < methods.size(); i++) {
+            pending[i] = dependencies.get(i).size();
+            for (Integer dep : dependencies.get(i)) {
+                dependents.get(dep).add(i);
+            }
+        }
+        // lowest index first to preserve registration order
+        final Queue<Integer> ready = new PriorityQueue<>();
+        for (int i = 0; i < methods.size(); i++) {
+            if (pending[i] == 0) {
+                ready.add(i);
+            }
+        }
+        final List<Integer> res = new ArrayList<>(methods.size());
+        while (!ready.isEmpty()) {
+            final Integer next = ready.poll();
+            res.add(next);
+            for (Integer dependent : dependents.get(next)) {
+                if (--pending[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (res.size() != methods.size()) {
+            final List<String> cycle = new ArrayList<>();
+            for (int i = 0; i < methods.size(); i++) {
+                if (pending[i] > 0) {
+                    cycle.add(methods.get(i).getName());
+                }
+            }
+            throw new IllegalStateException("Cyclic @RunAfter dependency between lifecycle methods: "
+                    + String.join(", ", cycle));
+        }
+        return res;
+    }
+}
@@ -0,0 +1,101 @@
+package ru.vyarus.guicey.annotations.lifecycle.module.collector;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.annotations.lifecycle.ParallelExecutionConfig;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executes lifecycle methods in parallel with bounded executor. Method is started only after all its dependencies
+ * (declared with {@link ru.vyarus.guicey.annotations.lifecycle.RunAfter}) are completed. Executor is shut down
+ * after execution.
+ * <p>
+ * Methods execution time is logged after execution (slowest methods first).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class ParallelMethodsExecutor {
+    private final Logger logger = LoggerFactory.getLogger(ParallelMethodsExecutor.class);
+
+    private final ParallelExecutionConfig config;
+
+    public ParallelMethodsExecutor(final ParallelExecutionConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Executes all methods. First method failure is propagated (after completion of already started methods).
+     *
+     * @param annotation   lifecycle annotation
+     * @param methods      methods to execute
+     * @param dependencies dependencies of each method (indexes)
+     * @param order        methods order where dependencies always go first
+     */
+    public void execute(final Class<? extends Annotation> annotation,
+                        final List<MethodInstance> methods,
+                        final List<List<Integer>> dependencies,
+                        final List<Integer> order) {
+        final String name = annotation.getSimpleName();
+        logger.debug("Executing @{} lifecycle methods in parallel", name);
+        final ExecutorService executor = Executors.newFixedThreadPool(config.getThreads(),
+                new ThreadFactoryBuilder().setNameFormat("lifecycle-" + name + "-%d").setDaemon(true).build());
+        final Map<MethodInstance, Long> timings = new ConcurrentHashMap<>();
+        final long start = System.nanoTime();
+        try {
+            final CompletableFuture<?>[] futures = new CompletableFuture[methods.size()];
+            for (Integer idx : order) {
+                final MethodInstance method = methods.get(idx);
+                final CompletableFuture<?>[] deps = dependencies.get(idx).stream()
+                        .map(dep -> futures[dep]).toArray(CompletableFuture[]::new);
+                futures[idx] = CompletableFuture.allOf(deps).thenRunAsync(() -> {
+                    final long methodStart = System.nanoTime();
+                    method.call();
+                    timings.put(method, System.nanoTime() - methodStart);
+                }, executor);
+            }
+            CompletableFuture.allOf(futures).get(config.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new IllegalStateException(String.format("Lifecycle @%s methods were not completed in %s ms",
+                    name, config.getTimeout().toMillis()), ex);
+        } catch (ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new IllegalStateException("Failed to execute @" + name + " lifecycle methods", cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while executing @" + name + " lifecycle methods", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+        report(name, timings, System.nanoTime() - start);
+    }
+
+    private void report(final String name, final Map<MethodInstance, Long> timings, final long overall) {
+        final List<Map.Entry<MethodInstance, Long>> entries = new ArrayList<>(timings.entrySet());
+        entries.sort(Map.Entry.<MethodInstance, Long>comparingByValue(Comparator.reverseOrder()));
+        final StringBuilder res = new StringBuilder(String.format("@%s lifecycle methods executed in parallel "
+                + "(%s threads) in %s ms:%n%n", name, config.getThreads(), toMs(overall)));
+        for (Map.Entry<MethodInstance, Long> entry : entries) {
+            res.append(String.format("    %-10s %s%n", toMs(entry.getValue()) + " ms", entry.getKey().getName()));
+        }
+        logger.info(res.toString());
+    }
+
+    private long toMs(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -4,6 +4,7 @@ import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector
 import spock.lang.Specification
 
 import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
 
 /**
  * @author Vyacheslav Rusakov
@@ -21,4 +22,109 @@ class CollectorTest extends Specification {
         def ex = thrown(IllegalStateException)
         ex.message == "Lifecycle @PostConstruct methods were already processed"
     }
+
+    def "Check processed methods not retained"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector()
+        Bean bean = new Bean()
+        collector.register(PostConstruct, bean, Bean.getDeclaredMethod('init'))
+        collector.register(PreDestroy, bean, Bean.getDeclaredMethod('init'))
+
+        expect: "methods retained"
+        collector.getRetainedCount(PostConstruct) == 1
+        collector.getRetainedCount() == 2
+
+        when: "processing"
+        collector.call(PostConstruct)
+        then: "processed methods removed"
+        bean.calls == 1
+        collector.getRetainedCount(PostConstruct) == 0
+        collector.getRetainedCount() == 1
+
+        when: "late registration"
+        collector.register(PostConstruct, bean, Bean.getDeclaredMethod('init'))
+        then: "called immediately and not retained"
+        bean.calls == 2
+        collector.getRetainedCount(PostConstruct) == 0
+    }
+
+    def "Check collected instances not retained"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector()
+        Bean bean = new Bean()
+        collector.register(PreDestroy, bean, Bean.getDeclaredMethod('init'))
+        register(collector)
+
+        when: "prototype instance garbage collected"
+        int i = 0
+        while (collector.getRetainedCount(PreDestroy) > 1 && i++ < 50) {
+            System.gc()
+            sleep(20)
+        }
+        then: "only alive instance retained"
+        collector.getRetainedCount(PreDestroy) == 1
+
+        when: "processing"
+        collector.safeReverseCall(PreDestroy)
+        then: "alive instance processed"
+        bean.calls == 1
+    }
+
+    def "Check startup methods instances retained until processing"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector()
+        Counted.calls = 0
+        collector.register(PostConstruct, new Counted(), Counted.getDeclaredMethod('init'))
+
+        when: "trying to collect not referenced instance"
+        3.times {
+            System.gc()
+            sleep(20)
+        }
+        then: "instance retained"
+        collector.getRetainedCount(PostConstruct) == 1
+
+        when: "processing"
+        collector.call(PostConstruct)
+        then: "method called and instance released"
+        Counted.calls == 1
+        collector.getRetainedCount() == 0
+    }
+
+    def "Check concurrent registration"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector()
+        List<Bean> beans = (1..100).collect { new Bean() }
+
+        when: "registering from multiple threads"
+        beans.parallelStream().forEach {
+            collector.register(PreDestroy, it, Bean.getDeclaredMethod('init'))
+        }
+        then: "all registered"
+        collector.getRetainedCount(PreDestroy) == 100
+    }
+
+    private void register(MethodsCollector collector) {
+        collector.register(PreDestroy, new Bean(), Bean.getDeclaredMethod('init'))
+    }
+
+    static class Counted {
+        static int calls
+
+        void init() {
+            calls++
+        }
+    }
+
+    static class Bean {
+        int calls
+
+        void init() {
+            calls++
+        }
+    }
 }
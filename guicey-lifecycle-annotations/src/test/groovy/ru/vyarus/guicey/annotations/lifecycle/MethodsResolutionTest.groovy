@@ -0,0 +1,122 @@
+package ru.vyarus.guicey.annotations.lifecycle
+
+import com.google.inject.CreationException
+import com.google.inject.Guice
+import com.google.inject.Injector
+import com.google.inject.matcher.Matchers
+import ru.vyarus.guicey.annotations.lifecycle.module.LifecycleAnnotationsModule
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector
+import spock.lang.Specification
+
+import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class MethodsResolutionTest extends Specification {
+
+    def "Check methods resolution"() {
+
+        setup:
+        LifecycleAnnotationsModule module = new LifecycleAnnotationsModule(Matchers.any())
+        Injector injector = Guice.createInjector(module)
+        MethodsCollector collector = module.getCollector()
+
+        when: "creating beans"
+        Bean bean = injector.getInstance(Bean)
+        Bean bean2 = injector.getInstance(Bean)
+        then: "methods registered"
+        collector.getRetainedCount(PostConstruct) == 8
+        collector.getRetainedCount(PreDestroy) == 2
+
+        when: "calling methods"
+        collector.call(PostConstruct)
+        then: "overridden method called once"
+        bean.calls == ['init', 'privateInit', 'basePrivateInit']
+        bean2.calls == ['init', 'privateInit', 'basePrivateInit']
+        Base.staticCalls == 2
+    }
+
+    def "Check not annotated override"() {
+
+        setup:
+        LifecycleAnnotationsModule module = new LifecycleAnnotationsModule(Matchers.any())
+        Injector injector = Guice.createInjector(module)
+        MethodsCollector collector = module.getCollector()
+
+        when: "creating bean with not annotated override"
+        NotAnnotatedOverride bean = injector.getInstance(NotAnnotatedOverride)
+        then: "super class method registered"
+        collector.getRetainedCount(PostConstruct) == 3
+
+        when: "calling methods"
+        collector.call(PostConstruct)
+        then: "overriding method called"
+        bean.calls == ['overrideInit', 'basePrivateInit']
+    }
+
+    def "Check method with parameters"() {
+
+        when: "creating bean"
+        Guice.createInjector(new LifecycleAnnotationsModule(Matchers.any())).getInstance(Invalid)
+        then: "error"
+        def ex = thrown(Exception)
+        ex.message.contains('Failed to process annotation PostConstruct on method init of class Invalid: '
+                + 'Method without parameters required')
+    }
+
+    static class Base {
+        static int staticCalls
+        List<String> calls = []
+
+        @PostConstruct
+        void init() {
+            calls << 'baseInit'
+        }
+
+        @PostConstruct
+        private void privateInit() {
+            calls << 'basePrivateInit'
+        }
+
+        @PostConstruct
+        static void staticInit() {
+            staticCalls++
+        }
+    }
+
+    static class Bean extends Base {
+
+        @Override
+        @PostConstruct
+        void init() {
+            calls << 'init'
+        }
+
+        @PostConstruct
+        private void privateInit() {
+            calls << 'privateInit'
+        }
+
+        @PreDestroy
+        void destroy() {
+        }
+    }
+
+    static class NotAnnotatedOverride extends Base {
+
+        @Override
+        void init() {
+            calls << 'overrideInit'
+        }
+    }
+
+    static class Invalid {
+
+        @PostConstruct
+        void init(String param) {
+        }
+    }
+}
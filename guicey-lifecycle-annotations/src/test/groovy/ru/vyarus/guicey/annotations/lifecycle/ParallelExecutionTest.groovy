@@ -0,0 +1,195 @@
+package ru.vyarus.guicey.annotations.lifecycle
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.test.TestSupport
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector
+import spock.lang.Specification
+
+import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
+import java.time.Duration
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CyclicBarrier
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class ParallelExecutionTest extends Specification {
+
+    static Queue<String> calls = new ConcurrentLinkedQueue<>()
+    static CyclicBarrier barrier
+
+    void setup() {
+        calls.clear()
+    }
+
+    def "Check parallel execution"() {
+
+        when: "starting app"
+        TestSupport.runCoreApp(App, null)
+
+        then: "dependency respected"
+        calls.size() == 5
+        List<String> list = new ArrayList<>(calls)
+        list.indexOf('init3') > list.indexOf('init1')
+        list.indexOf('init3') > list.indexOf('init2')
+
+        and: "destroy in reverse dependencies order"
+        list.indexOf('destroy3') < list.indexOf('destroy1')
+    }
+
+    def "Check methods executed concurrently"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector(new ParallelExecutionConfig().threads(2))
+        barrier = new CyclicBarrier(2)
+        collector.register(PostConstruct, new BarrierBean(), BarrierBean.getDeclaredMethod('init'))
+        collector.register(PostConstruct, new BarrierBean(), BarrierBean.getDeclaredMethod('init'))
+
+        when: "calling methods"
+        collector.call(PostConstruct)
+        then: "parallel (both methods were waiting for each other)"
+        calls.size() == 2
+    }
+
+    def "Check timeout"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector(new ParallelExecutionConfig()
+                .timeout(Duration.ofMillis(50)))
+        collector.register(PostConstruct, new SlowBean(), SlowBean.getDeclaredMethod('init'))
+
+        when: "calling methods"
+        collector.call(PostConstruct)
+        then: "timeout"
+        def ex = thrown(IllegalStateException)
+        ex.message == 'Lifecycle @PostConstruct methods were not completed in 50 ms'
+    }
+
+    def "Check failure propagation"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector(new ParallelExecutionConfig())
+        collector.register(PostConstruct, new FailedBean(), FailedBean.getDeclaredMethod('init'))
+
+        when: "calling methods"
+        collector.call(PostConstruct)
+        then: "error"
+        def ex = thrown(IllegalStateException)
+        ex.message.startsWith('Failed to execute method FailedBean.init')
+    }
+
+    def "Check cycle detection"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector()
+        collector.register(PostConstruct, new Cycle1(), Cycle1.getDeclaredMethod('init'))
+        collector.register(PostConstruct, new Cycle2(), Cycle2.getDeclaredMethod('init'))
+
+        when: "calling methods"
+        collector.call(PostConstruct)
+        then: "error"
+        def ex = thrown(IllegalStateException)
+        ex.message == 'Cyclic @RunAfter dependency between lifecycle methods: Cycle1.init, Cycle2.init'
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new LifecycleAnnotationsBundle()
+                            .withParallelExecution(new ParallelExecutionConfig().threads(2)))
+                    .extensions(Bean3, Bean1, Bean2)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @EagerSingleton
+    static class Bean1 {
+
+        @PostConstruct
+        void init() {
+            sleep(200)
+            calls.add('init1')
+        }
+
+        @PreDestroy
+        void destroy() {
+            calls.add('destroy1')
+        }
+    }
+
+    @EagerSingleton
+    static class Bean2 {
+
+        @PostConstruct
+        void init() {
+            sleep(200)
+            calls.add('init2')
+        }
+    }
+
+    @EagerSingleton
+    @RunAfter([Bean1, Bean2])
+    static class Bean3 {
+
+        @PostConstruct
+        void init() {
+            calls.add('init3')
+        }
+
+        @PreDestroy
+        void destroy() {
+            calls.add('destroy3')
+        }
+    }
+
+    static class BarrierBean {
+
+        void init() {
+            // fails with timeout if methods are not executed concurrently
+            barrier.await(5, TimeUnit.SECONDS)
+            calls.add('barrier')
+        }
+    }
+
+    static class SlowBean {
+
+        void init() {
+            Thread.sleep(1000)
+        }
+    }
+
+    static class FailedBean {
+
+        void init() {
+            throw new IllegalArgumentException('error')
+        }
+    }
+
+    static class Cycle1 {
+
+        @RunAfter(Cycle2)
+        void init() {
+        }
+    }
+
+    static class Cycle2 {
+
+        @RunAfter(Cycle1)
+        void init() {
+        }
+    }
+}
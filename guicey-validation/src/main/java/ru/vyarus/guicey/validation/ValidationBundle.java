@@ -1,7 +1,12 @@
 package ru.vyarus.guicey.validation;
 
+import com.google.inject.TypeLiteral;
+import com.google.inject.matcher.AbstractMatcher;
 import com.google.inject.matcher.Matcher;
 import com.google.inject.matcher.Matchers;
+import com.google.inject.spi.TypeEncounter;
+import com.google.inject.spi.TypeListener;
+import org.aopalliance.intercept.MethodInterceptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.context.unique.item.UniqueGuiceyBundle;
@@ -9,9 +14,13 @@ import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
 import ru.vyarus.guice.validator.ValidationModule;
 import ru.vyarus.guice.validator.aop.DeclaredMethodMatcher;
+import ru.vyarus.guice.validator.aop.ValidationMethodInterceptor;
+import ru.vyarus.guicey.validation.aop.CachedValidationInterceptor;
+import ru.vyarus.guicey.validation.util.ConstrainedMethodMatcher;
 import ru.vyarus.guicey.validation.util.RestMethodMatcher;
 
 import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
 import jakarta.validation.executable.ValidateOnExecution;
 import jakarta.ws.rs.Path;
 import java.lang.annotation.Annotation;
@@ -28,6 +37,10 @@ import java.lang.reflect.Method;
  * <p>
  * See {@link ValidationModule} for more info. Bundle essentially just provide shortcuts for module configurations.
  * <p>
+ * Validation interceptor is applied only to methods with declared constraints (resolved from validation metadata,
+ * see {@link ConstrainedMethodMatcher}), so methods without constraints are not intercepted at all. Counts of
+ * intercepted and skipped methods are logged at startup.
+ * <p>
  * Bundle also binds {@link Validator} and {@link jakarta.validation.executable.ExecutableValidator}, so they become
  * available for injection. Custom validators may use guice injections.
  * <p>
@@ -50,7 +63,8 @@ public class ValidationBundle extends UniqueGuiceyBundle {
             .and(Matchers.not(new RestMethodMatcher()));
     private Class<? extends Annotation> targetAnnotation;
     private boolean strictGroups;
-
+    private boolean metrics;
+    private ConstrainedMethodMatcher constrainedMatcher;
 
     /**
      * Customize target classes to apply validation on. By default, it would be all classes not annotated
@@ -133,16 +147,24 @@ public class ValidationBundle extends UniqueGuiceyBundle {
         return this;
     }
 
+    /**
+     * Enables validation metrics for each validated method: validation time timer "[class].[method].validation"
+     * (parameters and return value validation time, without method execution) and violations meter
+     * "[class].[method].violations".
+     *
+     * @return bundle instance
+     */
+    public ValidationBundle withMetrics() {
+        this.metrics = true;
+        return this;
+    }
+
     @Override
     public void initialize(final GuiceyBootstrap bootstrap) {
         // excluding rest beans because dropwizard already applies validation support there
-        final ValidationModule module = new ValidationModule(bootstrap.bootstrap().getValidatorFactory())
-                .targetClasses(typeMatcher)
-                .targetMethods(methodMatcher);
-
-        if (targetAnnotation != null) {
-            module.validateAnnotatedOnly(targetAnnotation);
-        }
+        constrainedMatcher = new ConstrainedMethodMatcher(bootstrap.bootstrap().getValidatorFactory().getValidator());
+        final ValidationModule module = new ConstrainedValidationModule(bootstrap.bootstrap().getValidatorFactory(),
+                typeMatcher, methodMatcher, constrainedMatcher, targetAnnotation, metrics);
 
         if (strictGroups) {
             module.strictGroupsDeclaration();
@@ -158,11 +180,84 @@ public class ValidationBundle extends UniqueGuiceyBundle {
         environment.onGuiceyStartup((config, env, injector) -> {
             env.setValidator(injector.getInstance(Validator.class));
             if (targetAnnotation == null) {
-                logger.info("Validation annotations support enabled on guice beans");
+                logger.info("Validation annotations support enabled on guice beans ({} methods intercepted, "
+                                + "{} skipped without constraints)",
+                        constrainedMatcher.getInterceptedCount(), constrainedMatcher.getSkippedCount());
             } else {
                 logger.info("Validation annotations support enabled on guice beans and methods, "
-                        + "annotated with @{}", targetAnnotation.getSimpleName());
+                                + "annotated with @{} ({} methods intercepted, {} skipped without constraints)",
+                        targetAnnotation.getSimpleName(),
+                        constrainedMatcher.getInterceptedCount(), constrainedMatcher.getSkippedCount());
             }
         });
     }
+
+    /**
+     * Validation module with {@link CachedValidationInterceptor} instead of default validation interceptor.
+     * In implicit mode, default module applies interceptor to methods with validation annotations (checking
+     * only method annotations). Constraints check with validation metadata is more precise (also counts inherited
+     * constraints), so it is used instead.
+     * <p>
+     * Interceptor is bound for each bean type with type listener because constraints must be resolved for the bean
+     * type and not method declaring class (inherited method could implement constrained interface method).
+     */
+    private static class ConstrainedValidationModule extends ValidationModule {
+        private final Matcher<? super Class<?>> classMatcher;
+        private final Matcher<? super Method> methodMatcher;
+        private final ConstrainedMethodMatcher constrainedMatcher;
+        private final Class<? extends Annotation> annotation;
+        private final boolean metrics;
+
+        ConstrainedValidationModule(final ValidatorFactory factory,
+                                    final Matcher<? super Class<?>> classMatcher,
+                                    final Matcher<? super Method> methodMatcher,
+                                    final ConstrainedMethodMatcher constrainedMatcher,
+                                    final Class<? extends Annotation> annotation,
+                                    final boolean metrics) {
+            super(factory);
+            this.classMatcher = classMatcher;
+            this.methodMatcher = methodMatcher;
+            this.constrainedMatcher = constrainedMatcher;
+            this.annotation = annotation;
+            this.metrics = metrics;
+            targetClasses(classMatcher);
+            targetMethods(methodMatcher);
+            if (annotation != null) {
+                validateAnnotatedOnly(annotation);
+            }
+        }
+
+        @Override
+        protected void configureAop(final ValidationMethodInterceptor interceptor) {
+            // default interceptor is ignored
+            final CachedValidationInterceptor cachedInterceptor = new CachedValidationInterceptor(metrics);
+            requestInjection(cachedInterceptor);
+            if (annotation == null) {
+                bindConstrainedInterceptor(classMatcher, methodMatcher, cachedInterceptor);
+            } else {
+                // same as in default module: annotated methods or all methods of annotated class
+                bindConstrainedInterceptor(classMatcher, getMethodMatcher(annotation), cachedInterceptor);
+                bindConstrainedInterceptor(getClassMatcher(annotation), methodMatcher, cachedInterceptor);
+            }
+        }
+
+        private void bindConstrainedInterceptor(final Matcher<? super Class<?>> types,
+                                                final Matcher<? super Method> methods,
+                                                final MethodInterceptor interceptor) {
+            bindListener(new AbstractMatcher<TypeLiteral<?>>() {
+                @Override
+                public boolean matches(final TypeLiteral<?> type) {
+                    return types.matches(type.getRawType());
+                }
+            }, new TypeListener() {
+                @Override
+                public <I> void hear(final TypeLiteral<I> type, final TypeEncounter<I> encounter) {
+                    final Matcher<Method> constrained = constrainedMatcher.forType(type.getRawType());
+                    // constraints check goes last to check only candidate methods (and count only them)
+                    encounter.bindInterceptor(method -> methods.matches(method) && constrained.matches(method),
+                            interceptor);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,204 @@
+package ru.vyarus.guicey.validation.aop;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.core.setup.Environment;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import ru.vyarus.guice.validator.group.ValidationContext;
+
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.MethodDescriptor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Method validation interceptor (replacement for {@link ru.vyarus.guice.validator.aop.ValidationMethodInterceptor}).
+ * Method validation metadata is resolved on first method call and cached (per bean class because inherited method
+ * could implement constrained interface method only in bean class): parameters validation is not called
+ * for methods without parameter constraints and return value validation is not called for methods without
+ * return value constraints (method without constraints is called directly).
+ * <p>
+ * Validation groups are resolved for each call because groups context is dynamic (thread bound, see
+ * {@link ValidationContext}).
+ * <p>
+ * When metrics enabled, each validated method has validation time timer (parameters and return value validation
+ * without method execution, timer is updated once per method call): "[class].[method].validation" and
+ * violations meter "[class].[method].violations".
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class CachedValidationInterceptor implements MethodInterceptor {
+
+    private final boolean metrics;
+    private final Map<Class<?>, Map<Method, MethodValidation>> cache = new ConcurrentHashMap<>();
+
+    @Inject
+    private Validator validator;
+    @Inject
+    private ExecutableValidator executableValidator;
+    @Inject
+    private ValidationContext context;
+    @Inject
+    private Environment environment;
+
+    /**
+     * @param metrics true to collect validation metrics
+     */
+    public CachedValidationInterceptor(final boolean metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final Class<?> type = invocation.getThis().getClass();
+        final MethodValidation validation = cache.computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(invocation.getMethod(), method -> resolve(type, method));
+        if (validation.noConstraints()) {
+            return invocation.proceed();
+        }
+        final Class<?>[] groups = context.getContextGroups();
+        // both validation phases are recorded as one validation (once per method call)
+        final ValidationTime time = new ValidationTime();
+        try {
+            if (validation.parameters) {
+                final long start = System.nanoTime();
+                final Set<ConstraintViolation<Object>> violations = executableValidator.validateParameters(
+                        invocation.getThis(), invocation.getMethod(), invocation.getArguments(), groups);
+                time.add(System.nanoTime() - start, violations.size());
+                check(invocation, violations);
+            }
+            final Object res = invocation.proceed();
+            if (validation.returnValue) {
+                final long start = System.nanoTime();
+                final Set<ConstraintViolation<Object>> violations = executableValidator.validateReturnValue(
+                        invocation.getThis(), invocation.getMethod(), res, groups);
+                time.add(System.nanoTime() - start, violations.size());
+                check(invocation, violations);
+            }
+            return res;
+        } finally {
+            if (time.validated) {
+                validation.validated(time.nanos, time.violations);
+            }
+        }
+    }
+
+    private MethodValidation resolve(final Class<?> type, final Method method) {
+        final MethodDescriptor descriptor = validator.getConstraintsForClass(type)
+                .getConstraintsForMethod(method.getName(), method.getParameterTypes());
+        final boolean parameters = descriptor != null && descriptor.hasConstrainedParameters();
+        final boolean returnValue = descriptor != null && descriptor.hasConstrainedReturnValue();
+        Timer timer = null;
+        Meter violations = null;
+        if (metrics && (parameters || returnValue)) {
+            final MetricRegistry registry = environment.metrics();
+            timer = registry.timer(MetricRegistry.name(method.getDeclaringClass(), method.getName(), "validation"));
+            violations = registry.meter(
+                    MetricRegistry.name(method.getDeclaringClass(), method.getName(), "violations"));
+        }
+        return new MethodValidation(parameters, returnValue, timer, violations);
+    }
+
+    private void check(final MethodInvocation invocation, final Set<ConstraintViolation<Object>> violations) {
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(
+                    getMessage(invocation.getMethod(), invocation.getArguments(), violations), violations);
+        }
+    }
+
+    // same message as in ValidationMethodInterceptor
+    private String getMessage(final Method method, final Object[] args,
+                              final Set<? extends ConstraintViolation<?>> violations) {
+        final StringBuilder message = new StringBuilder(200)
+                .append(violations.size())
+                .append(" constraint violation(s) occurred during method validation.")
+                .append("\nConstructor or Method: ").append(method)
+                .append("\nArgument values: ").append(Arrays.toString(args))
+                .append("\nConstraint violations: ");
+        int i = 1;
+        for (ConstraintViolation<?> violation : violations) {
+            final Path.Node leafNode = getLeafNode(violation);
+            message.append("\n (").append(i++).append(") Kind: ").append(leafNode.getKind());
+            if (leafNode.getKind() == ElementKind.PARAMETER) {
+                message.append("\n parameter index: ")
+                        .append(leafNode.as(Path.ParameterNode.class).getParameterIndex());
+            }
+            message.append("\n message: ").append(violation.getMessage())
+                    .append("\n root bean: ").append(violation.getRootBean())
+                    .append("\n property path: ").append(violation.getPropertyPath())
+                    .append("\n constraint: ").append(violation.getConstraintDescriptor().getAnnotation());
+        }
+        return message.toString();
+    }
+
+    private Path.Node getLeafNode(final ConstraintViolation<?> violation) {
+        Path.Node leafNode = null;
+        for (Path.Node node : violation.getPropertyPath()) {
+            leafNode = node;
+        }
+        return leafNode;
+    }
+
+    /**
+     * Validation time and violations of single method call (parameters and return value validations).
+     */
+    private static class ValidationTime {
+        private boolean validated;
+        private long nanos;
+        private int violations;
+
+        void add(final long time, final int violationsCount) {
+            validated = true;
+            nanos += time;
+            violations += violationsCount;
+        }
+    }
+
+    /**
+     * Cached method validation metadata.
+     */
+    private static class MethodValidation {
+        private final boolean parameters;
+        private final boolean returnValue;
+        private final Timer timer;
+        private final Meter violations;
+
+        MethodValidation(final boolean parameters, final boolean returnValue,
+                         final Timer timer, final Meter violations) {
+            this.parameters = parameters;
+            this.returnValue = returnValue;
+            this.timer = timer;
+            this.violations = violations;
+        }
+
+        boolean noConstraints() {
+            return !parameters && !returnValue;
+        }
+
+        /**
+         * @param nanos           method call validation time (parameters and return value)
+         * @param violationsCount method call violations count
+         */
+        void validated(final long nanos, final int violationsCount) {
+            if (timer != null) {
+                timer.update(nanos, TimeUnit.NANOSECONDS);
+                if (violationsCount > 0) {
+                    violations.mark(violationsCount);
+                }
+            }
+        }
+    }
+}
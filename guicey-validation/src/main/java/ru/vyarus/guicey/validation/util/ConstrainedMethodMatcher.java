@@ -0,0 +1,97 @@
+package ru.vyarus.guicey.validation.util;
+
+import com.google.inject.matcher.Matcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.MethodDescriptor;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Matcher accepts only methods with declared constraints: parameter, cross-parameter or return value constraints
+ * (including cascaded validation with {@link jakarta.validation.Valid}). Constraints are resolved from validation
+ * metadata ({@link jakarta.validation.metadata.BeanDescriptor}), so constraints inherited from super classes and
+ * interfaces are also counted.
+ * <p>
+ * Metadata must be resolved for the bean type ({@link #forType(Class)}): method could be declared in base class and
+ * implement constrained interface method only in bean class ({@code Impl extends Base implements Api}). Plain
+ * {@link #matches(Method)} resolves metadata from method declaring class.
+ * <p>
+ * Matcher is used to avoid validation interceptor on methods without constraints (interception and executable
+ * validation cost is avoided completely for such methods).
+ * <p>
+ * Matcher remembers matching result for each checked method (per bean type), so it could be used for reporting.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+public class ConstrainedMethodMatcher implements Matcher<Method> {
+    private final Logger logger = LoggerFactory.getLogger(ConstrainedMethodMatcher.class);
+
+    private final Validator validator;
+    private final Map<Class<?>, Map<Method, Boolean>> checked = new ConcurrentHashMap<>();
+
+    public ConstrainedMethodMatcher(final Validator validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public boolean matches(final Method method) {
+        return matches(method.getDeclaringClass(), method);
+    }
+
+    /**
+     * @param type   bean type
+     * @param method bean method (could be declared in bean super class)
+     * @return true if method is constrained in bean type, false otherwise
+     */
+    public boolean matches(final Class<?> type, final Method method) {
+        return checked.computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> isConstrained(type, method));
+    }
+
+    /**
+     * @param type bean type
+     * @return matcher for bean type methods
+     */
+    public Matcher<Method> forType(final Class<?> type) {
+        return method -> matches(type, method);
+    }
+
+    /**
+     * @return count of matched methods (with constraints)
+     */
+    public int getInterceptedCount() {
+        return count(true);
+    }
+
+    /**
+     * @return count of skipped methods (without constraints)
+     */
+    public int getSkippedCount() {
+        return count(false);
+    }
+
+    private boolean isConstrained(final Class<?> type, final Method method) {
+        try {
+            final MethodDescriptor descriptor = validator.getConstraintsForClass(type)
+                    .getConstraintsForMethod(method.getName(), method.getParameterTypes());
+            return descriptor != null
+                    && (descriptor.hasConstrainedParameters() || descriptor.hasConstrainedReturnValue());
+        } catch (RuntimeException ex) {
+            // intercept method if metadata can't be resolved: validation would report the problem on method call
+            logger.debug("Failed to resolve validation metadata for method " + method, ex);
+            return true;
+        }
+    }
+
+    private int count(final boolean intercepted) {
+        return (int) checked.values().stream()
+                .flatMap(methods -> methods.values().stream())
+                .filter(res -> res == intercepted)
+                .count();
+    }
+}
@@ -0,0 +1,85 @@
+package ru.vyarus.guicey.validation
+
+import ru.vyarus.guicey.validation.util.ConstrainedMethodMatcher
+import spock.lang.Specification
+
+import jakarta.validation.Valid
+import jakarta.validation.Validation
+import jakarta.validation.constraints.NotNull
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+class ConstrainedMethodMatcherTest extends Specification {
+
+    def "Check matcher"() {
+
+        def matcher = new ConstrainedMethodMatcher(Validation.buildDefaultValidatorFactory().getValidator())
+        expect: "correct methods recognition"
+        matcher.matches(Service.getMethod(name, Object)) == res
+
+        where:
+        name        | res
+        'plain'     | false
+        'param'     | true
+        'result'    | true
+        'cascade'   | true
+        'inherited' | true
+    }
+
+    def "Check inherited method implementing constrained interface method"() {
+
+        def matcher = new ConstrainedMethodMatcher(Validation.buildDefaultValidatorFactory().getValidator())
+        def method = BaseService.getMethod('foo', Object)
+        expect: "constraint resolved only for bean type"
+        !matcher.matches(method)
+        matcher.matches(InheritedService, method)
+        matcher.forType(InheritedService).matches(method)
+        matcher.interceptedCount == 1
+        matcher.skippedCount == 1
+    }
+
+    def "Check counts"() {
+
+        def matcher = new ConstrainedMethodMatcher(Validation.buildDefaultValidatorFactory().getValidator())
+        when: "checking methods"
+        matcher.matches(Service.getMethod('plain', Object))
+        matcher.matches(Service.getMethod('plain', Object))
+        matcher.matches(Service.getMethod('param', Object))
+        then: "methods counted once"
+        matcher.interceptedCount == 1
+        matcher.skippedCount == 1
+    }
+
+    static interface Base {
+        void inherited(@NotNull Object arg)
+    }
+
+    static class Service implements Base {
+
+        public void plain(Object arg) {}
+
+        public void param(@NotNull Object arg) {}
+
+        @NotNull
+        public Object result(Object arg) { arg }
+
+        public void cascade(@Valid Object arg) {}
+
+        @Override
+        public void inherited(Object arg) {}
+    }
+
+    static interface Api {
+        @NotNull
+        Object foo(Object arg)
+    }
+
+    static class BaseService {
+        public Object foo(Object arg) { arg }
+    }
+
+    static class InheritedService extends BaseService implements Api {
+    }
+}
@@ -0,0 +1,96 @@
+package ru.vyarus.guicey.validation
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guice.validator.aop.ValidationMethodInterceptor
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+import jakarta.validation.ConstraintViolationException
+import jakarta.validation.constraints.NotNull
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(App)
+class ConstrainedMethodsTest extends Specification {
+
+    @Inject
+    Service service
+    @Inject
+    InheritedService inheritedService
+
+    def "Check interceptor applied only to constrained methods"() {
+
+        when: "call method without constraints"
+        def trace = service.plain(null)
+        then: "method not intercepted"
+        !trace.any { it.className == ValidationMethodInterceptor.name }
+
+        when: "call method with constraint"
+        service.param(null)
+        then: "validation applied"
+        thrown(ConstraintViolationException)
+
+        when: "call method with constraint declared in interface"
+        service.inherited(null)
+        then: "validation applied"
+        thrown(ConstraintViolationException)
+    }
+
+    def "Check constraints declared in interface implemented with inherited method"() {
+
+        when: "call base class method implementing constrained interface method"
+        inheritedService.foo(null)
+        then: "validation applied"
+        thrown(ConstraintViolationException)
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static interface Base {
+        void inherited(@NotNull Object arg)
+    }
+
+    static class Service implements Base {
+
+        public StackTraceElement[] plain(Object arg) {
+            return new Throwable().stackTrace
+        }
+
+        public void param(@NotNull Object arg) {}
+
+        @Override
+        public void inherited(Object arg) {}
+    }
+
+    static interface Api {
+        @NotNull
+        Object foo(Object arg)
+    }
+
+    static class BaseService {
+        Object foo(Object arg) {
+            return arg
+        }
+    }
+
+    static class InheritedService extends BaseService implements Api {
+    }
+}
@@ -0,0 +1,90 @@
+package ru.vyarus.guicey.validation
+
+import com.codahale.metrics.MetricRegistry
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import spock.lang.Specification
+
+import jakarta.inject.Inject
+import jakarta.validation.ConstraintViolationException
+import jakarta.validation.constraints.NotNull
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2026
+ */
+@TestGuiceyApp(App)
+class ValidationMetricsTest extends Specification {
+
+    @Inject
+    Service service
+    @Inject
+    Environment environment
+
+    def "Check validation metrics"() {
+
+        when: "call method with correct parameter"
+        service.param(12)
+        then: "validation time tracked"
+        timer('param').count == 1
+        meter('param').count == 0
+
+        when: "call method with incorrect parameter"
+        service.param(null)
+        then: "violation tracked"
+        thrown(ConstraintViolationException)
+        timer('param').count == 2
+        meter('param').count == 1
+
+        when: "call method with invalid return value"
+        service.result(null)
+        then: "violation tracked"
+        def ex = thrown(ConstraintViolationException)
+        ex.message.startsWith('1 constraint violation(s) occurred during method validation.')
+        timer('result').count == 1
+        meter('result').count == 1
+
+        when: "call method with parameter and return value constraints"
+        service.both(12)
+        then: "validation tracked once per call"
+        timer('both').count == 1
+        meter('both').count == 0
+    }
+
+    private def timer(String method) {
+        environment.metrics().timer(MetricRegistry.name(Service, method, 'validation'))
+    }
+
+    private def meter(String method) {
+        environment.metrics().meter(MetricRegistry.name(Service, method, 'violations'))
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new ValidationBundle().withMetrics())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Service {
+
+        public void param(@NotNull Object arg) {}
+
+        @NotNull
+        public Object result(Object arg) { arg }
+
+        @NotNull
+        public Object both(@NotNull Object arg) { arg }
+    }
+}